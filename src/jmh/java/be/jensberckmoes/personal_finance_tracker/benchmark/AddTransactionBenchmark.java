@@ -0,0 +1,53 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddTransactionBenchmark {
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private TransactionRequestDto transactionRequestDto;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start("benchmark");
+        transactionService = context.getBean(TransactionService.class);
+        final Long categoryId = context.getBean(CategoryService.class)
+                .createCategory(BenchmarkData.categoryRequest("Benchmark"))
+                .getId();
+        transactionRequestDto = BenchmarkData.validTransactionRequest(categoryId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponseDto addTransaction() {
+        return transactionService.addTransaction(transactionRequestDto);
+    }
+}
@@ -0,0 +1,24 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.PersonalFinanceTrackerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(final String databaseName, final String... args) {
+        final SpringApplication application = new SpringApplication(PersonalFinanceTrackerApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql", "false",
+                "logging.level.root", "WARN"));
+        return application.run(args);
+    }
+}
@@ -0,0 +1,69 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static TransactionRequestDto validTransactionRequest(final Long categoryId) {
+        return TransactionRequestDto.builder()
+                .categoryId(categoryId)
+                .amount(new BigDecimal("42.50"))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.DIRECT_DEBIT)
+                .date(LocalDateTime.of(2025, 4, 1, 8, 40))
+                .description("Weekly groceries")
+                .build();
+    }
+
+    static TransactionRequestDto invalidTransactionRequest() {
+        return TransactionRequestDto.builder()
+                .categoryId(1L)
+                .amount(new BigDecimal("42.5"))
+                .type(TransactionType.EXPENSE)
+                .date(LocalDateTime.of(2025, 4, 1, 8, 40))
+                .build();
+    }
+
+    static Transaction transaction() {
+        return Transaction.builder()
+                .id(1L)
+                .category(category())
+                .amount(new BigDecimal("42.50"))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.DIRECT_DEBIT)
+                .date(LocalDateTime.of(2025, 4, 1, 8, 40))
+                .description("Weekly groceries")
+                .build();
+    }
+
+    static Category category() {
+        return Category.builder()
+                .id(1L)
+                .name("Groceries")
+                .description("Food and household")
+                .categoryType(CategoryType.EXPENSE)
+                .categoryGroupType("EXPENSE_FOOD")
+                .build();
+    }
+
+    static CategoryRequestDto categoryRequest(final String name) {
+        return CategoryRequestDto.builder()
+                .name(name)
+                .description("Food and household")
+                .categoryType(CategoryType.EXPENSE)
+                .categoryGroupType("EXPENSE_FOOD")
+                .build();
+    }
+}
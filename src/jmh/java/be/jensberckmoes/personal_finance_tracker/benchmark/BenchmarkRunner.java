@@ -0,0 +1,34 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks with the GC profiler attached, so every result also reports
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation). Start it with
+ * {@code mvn -Pbenchmark test-compile exec:exec}; pass regular JMH options through
+ * {@code -Djmh.args="MapperBenchmark -f 1 -wi 3 -i 5"}. Results are written to {@code target/jmh-result.json}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final String joined = String.join(" ", args).trim();
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(joined.isEmpty() ? new String[0] : joined.split("\\s+"));
+        final Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,112 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.JdbcConcurrencyLimiter;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionIngestionService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires {@value #CLIENTS} concurrent addTransaction calls per invocation and compares a Tomcat-sized platform pool
+ * with one virtual thread per client, with and without the {@link JdbcConcurrencyLimiter}, and with virtual-thread
+ * clients that submit through the write-behind {@link TransactionIngestionService} and wait for their group commit.
+ * Scores are in transactions per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConcurrentClientsBenchmark {
+    private static final int CLIENTS = 1_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"PLATFORM_POOL", "VIRTUAL", "VIRTUAL_LIMITED", "WRITE_BEHIND"})
+    private String executionMode;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private TransactionIngestionService transactionIngestionService;
+    private TransactionRequestDto transactionRequestDto;
+    private JdbcConcurrencyLimiter limiter;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start("concurrent-clients", "--app.ingestion.write-behind.enabled=true");
+        transactionService = context.getBean(TransactionService.class);
+        transactionIngestionService = context.getBean(TransactionIngestionService.class);
+        final Long categoryId = context.getBean(CategoryService.class)
+                .createCategory(BenchmarkData.categoryRequest("Concurrent " + executionMode))
+                .getId();
+        transactionRequestDto = BenchmarkData.validTransactionRequest(categoryId);
+        // H2 does not make MERGE atomic for a key that does not exist yet, so create the rollup row up front.
+        transactionService.addTransaction(transactionRequestDto);
+        limiter = new JdbcConcurrencyLimiter(context.getBean(HikariDataSource.class).getMaximumPoolSize(), Duration.ofMinutes(1));
+        executor = "PLATFORM_POOL".equals(executionMode)
+                ? Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CLIENTS)
+    public int concurrentAddTransaction() throws InterruptedException, ExecutionException {
+        final List<Future<?>> calls = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            calls.add(executor.submit(this::addTransaction));
+        }
+        for (final Future<?> call : calls) {
+            call.get();
+        }
+        return calls.size();
+    }
+
+    private Object addTransaction() {
+        return switch (executionMode) {
+            case "VIRTUAL_LIMITED" -> limitedAddTransaction();
+            case "WRITE_BEHIND" -> transactionIngestionService.submit(transactionRequestDto).join();
+            default -> transactionService.addTransaction(transactionRequestDto);
+        };
+    }
+
+    private Object limitedAddTransaction() {
+        limiter.acquire();
+        try {
+            return transactionService.addTransaction(transactionRequestDto);
+        } finally {
+            limiter.release();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryResponseDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.model.CategoryMapper;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionMapper;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private TransactionMapper transactionMapper;
+    private CategoryMapper categoryMapper;
+    private TransactionRequestDto transactionRequestDto;
+    private Transaction transaction;
+    private CategoryRequestDto categoryRequestDto;
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        transactionMapper = new TransactionMapper();
+        categoryMapper = new CategoryMapper();
+        transactionRequestDto = BenchmarkData.validTransactionRequest(1L);
+        transaction = BenchmarkData.transaction();
+        categoryRequestDto = BenchmarkData.categoryRequest("Groceries");
+        category = BenchmarkData.category();
+    }
+
+    @Benchmark
+    public Optional<Transaction> transactionToEntity() {
+        return transactionMapper.toEntity(transactionRequestDto);
+    }
+
+    @Benchmark
+    public Optional<TransactionResponseDto> transactionToResponse() {
+        return transactionMapper.toResponse(transaction);
+    }
+
+    @Benchmark
+    public Optional<Category> categoryToEntity() {
+        return categoryMapper.toEntity(categoryRequestDto);
+    }
+
+    @Benchmark
+    public Optional<CategoryResponseDto> categoryToResponse() {
+        return categoryMapper.toResponse(category);
+    }
+}
@@ -0,0 +1,80 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.SearchMode;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SearchIndexBenchmark {
+    private static final String[] MERCHANTS = {"Delhaize", "Colruyt", "Aldi", "Lidl", "Carrefour", "Spotify", "Netflix",
+            "Proximus", "Telenet", "Shell", "Total", "NMBS", "De Lijn", "Bol.com", "Amazon", "Zalando", "IKEA", "Action"};
+    private static final String[] CITIES = {"Brussel", "Gent", "Antwerpen", "Leuven", "Brugge", "Hasselt", "Mechelen"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    private TransactionSearchIndex transactionSearchIndex;
+
+    @Setup
+    public void setUp() {
+        transactionSearchIndex = new TransactionSearchIndex(null);
+        final SplittableRandom random = new SplittableRandom(42);
+        final LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 0);
+        final List<Transaction> chunk = new ArrayList<>(10_000);
+        for (int i = 1; i <= rows; i++) {
+            chunk.add(Transaction.builder()
+                    .id((long) i)
+                    .description(MERCHANTS[random.nextInt(MERCHANTS.length)] + " " + CITIES[random.nextInt(CITIES.length)]
+                            + " ref " + random.nextInt(1_000_000))
+                    .date(start.plusMinutes(i))
+                    .category(Category.builder().id((long) random.nextInt(20)).build())
+                    .build());
+            if (chunk.size() == 10_000) {
+                transactionSearchIndex.onTransactionsPersisted(new TransactionsPersistedEvent(List.copyOf(chunk)));
+                chunk.clear();
+            }
+        }
+        transactionSearchIndex.onTransactionsPersisted(new TransactionsPersistedEvent(List.copyOf(chunk)));
+    }
+
+    @Benchmark
+    public List<Long> rareSubstring() {
+        return transactionSearchIndex.search("123456", SearchMode.SUBSTRING, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                TransactionSearchIndex.ANY_CATEGORY, 50);
+    }
+
+    @Benchmark
+    public List<Long> merchantPrefixInCategory() {
+        return transactionSearchIndex.search("delh", SearchMode.PREFIX, Integer.MIN_VALUE, Integer.MAX_VALUE, 3L, 50);
+    }
+
+    @Benchmark
+    public List<Long> merchantAndCity() {
+        return transactionSearchIndex.search("colruyt gent", SearchMode.SUBSTRING, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                TransactionSearchIndex.ANY_CATEGORY, 50);
+    }
+}
@@ -0,0 +1,58 @@
+package be.jensberckmoes.personal_finance_tracker.benchmark;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionValidationResult;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private TransactionValidationService transactionValidationService;
+    private TransactionRequestDto validRequest;
+    private TransactionRequestDto invalidRequest;
+    private TransactionValidationResult result;
+
+    @Setup
+    public void setUp() {
+        transactionValidationService = new TransactionValidationService();
+        validRequest = BenchmarkData.validTransactionRequest(1L);
+        invalidRequest = BenchmarkData.invalidTransactionRequest();
+        result = new TransactionValidationResult();
+    }
+
+    @Benchmark
+    public void validateValid() {
+        transactionValidationService.validateTransactionCreateDto(validRequest);
+    }
+
+    @Benchmark
+    public void validateInvalid(final Blackhole blackhole) {
+        try {
+            transactionValidationService.validateTransactionCreateDto(invalidRequest);
+        } catch (final RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public boolean collectInvalid() {
+        return transactionValidationService.validate(invalidRequest, result).isValid();
+    }
+}
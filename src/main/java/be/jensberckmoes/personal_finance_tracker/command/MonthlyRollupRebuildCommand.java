@@ -0,0 +1,31 @@
+package be.jensberckmoes.personal_finance_tracker.command;
+
+import be.jensberckmoes.personal_finance_tracker.repository.MonthlyTransactionRollupRepository;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionSummaryService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "app.rollups.rebuild-on-startup", havingValue = "true")
+public class MonthlyRollupRebuildCommand implements CommandLineRunner {
+    private final TransactionSummaryService transactionSummaryService;
+    private final MonthlyTransactionRollupRepository monthlyTransactionRollupRepository;
+
+    @Override
+    public void run(final String... args) {
+        final List<String> owners = monthlyTransactionRollupRepository.findOwnerIds();
+        long rows = 0;
+        for (final String ownerId : owners) {
+            rows += OwnerContext.callAs(ownerId, transactionSummaryService::rebuildMonthlyRollups);
+        }
+        log.info("Rebuilt monthly transaction rollups for {} owners: {} rows written.", owners.size(), rows);
+    }
+}
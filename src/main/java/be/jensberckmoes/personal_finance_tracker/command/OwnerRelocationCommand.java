@@ -0,0 +1,33 @@
+package be.jensberckmoes.personal_finance_tracker.command;
+
+import be.jensberckmoes.personal_finance_tracker.dto.OwnerRelocationReportDto;
+import be.jensberckmoes.personal_finance_tracker.sharding.ShardRebalancer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves one owner to another shard at startup, e.g.
+ * {@code --app.sharding.relocate.owner=alice --app.sharding.relocate.target-shard=shard-2}.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "app.sharding.relocate.owner")
+public class OwnerRelocationCommand implements CommandLineRunner {
+    private final ShardRebalancer shardRebalancer;
+    private final Environment environment;
+
+    @Override
+    public void run(final String... args) {
+        final OwnerRelocationReportDto report = shardRebalancer.relocate(
+                environment.getRequiredProperty("app.sharding.relocate.owner"),
+                environment.getRequiredProperty("app.sharding.relocate.target-shard"));
+        log.info("Relocated owner '{}' from '{}' to '{}': {} categories, {} rules, {} budgets, {} transactions.",
+                report.getOwnerId(), report.getSourceShard(), report.getTargetShard(),
+                report.getCategories(), report.getCategorizationRules(), report.getBudgets(), report.getTransactions());
+    }
+}
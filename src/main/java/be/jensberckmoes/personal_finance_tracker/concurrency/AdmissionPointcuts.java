@@ -0,0 +1,36 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.Ordered;
+
+/**
+ * The service calls admitted by the {@link BulkheadAspect} and the {@link JdbcConcurrencyLimiterAspect}, and the
+ * order the two wrap them in. The aspects stay separate because either can be switched off on its own, but they must
+ * agree on what they wrap: a call that took a bulkhead permit and no database permit, or the other way round, would
+ * let the two limits drift apart.
+ *
+ * <p>The bulkhead runs outermost, so a call it rejects never waits for a database permit; the limiter runs inside
+ * it, and the transaction interceptor, at its default lowest precedence, inside both, so a connection is only
+ * borrowed once both permits are held.
+ */
+public final class AdmissionPointcuts {
+    public static final int BULKHEAD_ORDER = Ordered.HIGHEST_PRECEDENCE;
+    public static final int JDBC_LIMITER_ORDER = BULKHEAD_ORDER + 1;
+
+    private AdmissionPointcuts() {
+    }
+
+    /**
+     * Public service implementation methods, except write-behind ingestion, which only enqueues, the dashboard, which
+     * only fans out to services admitted on their own threads, and the CSV import, which is admitted per chunk; plus
+     * the public methods of other beans in the implementation package that carry their own {@link Workload}.
+     */
+    @Pointcut("(execution(public * be.jensberckmoes.personal_finance_tracker.service.impl.*ServiceImpl.*(..))"
+            + " && !within(be.jensberckmoes.personal_finance_tracker.service.impl.TransactionIngestionServiceImpl)"
+            + " && !within(be.jensberckmoes.personal_finance_tracker.service.impl.TransactionImportServiceImpl)"
+            + " && !within(be.jensberckmoes.personal_finance_tracker.service.impl.DashboardServiceImpl))"
+            + " || (execution(public * be.jensberckmoes.personal_finance_tracker.service.impl.*.*(..))"
+            + " && @annotation(be.jensberckmoes.personal_finance_tracker.concurrency.Workload))")
+    public void admittedServiceCall() {
+    }
+}
@@ -0,0 +1,135 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for one {@link WorkloadClass}. At most {@code maxConcurrent} callers run at once, which is the
+ * class's share of the connection pool; at most {@code maxQueue} more wait in line, each for at most
+ * {@code queueTimeout}. Everything beyond that is rejected at once with a {@link BulkheadFullException} whose
+ * retry-after is estimated from how long recent callers held their permit.
+ *
+ * <p>Meters, all tagged with {@code workload}: {@value #ACTIVE_METRIC} and {@value #QUEUE_DEPTH_METRIC} gauges, the
+ * {@value #WAIT_METRIC} timer for time spent queueing, and the {@value #REJECTED_METRIC} counter tagged with
+ * {@code reason}.
+ */
+public class Bulkhead {
+    public static final String ACTIVE_METRIC = "bulkhead.active";
+    public static final String QUEUE_DEPTH_METRIC = "bulkhead.queue.depth";
+    public static final String WAIT_METRIC = "bulkhead.wait";
+    public static final String REJECTED_METRIC = "bulkhead.rejected";
+    private static final int HOLD_SMOOTHING = 8;
+
+    private final WorkloadClass workloadClass;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long queueTimeoutNanos;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong averageHoldNanos = new AtomicLong();
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public Bulkhead(final WorkloadClass workloadClass, final int maxConcurrent, final int maxQueue, final Duration queueTimeout,
+                    final MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("Bulkhead " + workloadClass + " needs at least one permit and a non-negative queue.");
+        }
+        this.workloadClass = workloadClass;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        final String workload = workloadClass.name().toLowerCase();
+        Gauge.builder(ACTIVE_METRIC, this, Bulkhead::getActive).tag("workload", workload).register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH_METRIC, queued, AtomicInteger::get).tag("workload", workload).register(meterRegistry);
+        this.waitTimer = Timer.builder(WAIT_METRIC).tag("workload", workload).register(meterRegistry);
+        this.queueFullRejections = Counter.builder(REJECTED_METRIC).tag("workload", workload).tag("reason", "queue_full").register(meterRegistry);
+        this.timeoutRejections = Counter.builder(REJECTED_METRIC).tag("workload", workload).tag("reason", "timeout").register(meterRegistry);
+    }
+
+    /**
+     * Takes a permit, queueing for it when none is free, and returns the {@link System#nanoTime()} it was granted
+     * at, which {@link #release(long)} expects back.
+     */
+    public long acquire() {
+        if (tryAcquire(0)) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return System.nanoTime();
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            queueFullRejections.increment();
+            throw rejected("queue is full");
+        }
+        final long start = System.nanoTime();
+        try {
+            if (!tryAcquire(queueTimeoutNanos)) {
+                timeoutRejections.increment();
+                throw rejected("no permit within " + Duration.ofNanos(queueTimeoutNanos));
+            }
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return System.nanoTime();
+    }
+
+    public void release(final long acquiredAtNanos) {
+        final long held = System.nanoTime() - acquiredAtNanos;
+        averageHoldNanos.accumulateAndGet(held, (average, sample) -> average == 0 ? sample : average + (sample - average) / HOLD_SMOOTHING);
+        permits.release();
+    }
+
+    /**
+     * When a rejected caller can expect a permit: the average hold time for every caller ahead of it, spread over
+     * all permits, rounded up to whole seconds as a {@code Retry-After} header would carry it.
+     */
+    public Duration retryAfter() {
+        final long nanos = averageHoldNanos.get() * (queued.get() + 1) / maxConcurrent;
+        return Duration.ofSeconds(Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    public WorkloadClass getWorkloadClass() {
+        return workloadClass;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * The timed {@link Semaphore#tryAcquire(long, TimeUnit)} even for the first, non-waiting attempt: the untimed
+     * variant barges past the callers already queued on the fair semaphore.
+     */
+    private boolean tryAcquire(final long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected("interrupted while waiting for a permit");
+        }
+    }
+
+    private BulkheadFullException rejected(final String reason) {
+        return new BulkheadFullException("Bulkhead " + workloadClass + " rejected the call: " + reason + ".", retryAfter());
+    }
+}
@@ -0,0 +1,48 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admits service calls through the {@link Bulkhead} of their {@link Workload}: the method's own, else its class's,
+ * else {@link WorkloadClass#INTERACTIVE}. What is admitted, and the order relative to the
+ * {@link JdbcConcurrencyLimiterAspect}, is defined in {@link AdmissionPointcuts}.
+ */
+@Aspect
+@Order(AdmissionPointcuts.BULKHEAD_ORDER)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+    private final Bulkheads bulkheads;
+    private final Map<Method, WorkloadClass> workloadClasses = new ConcurrentHashMap<>();
+
+    @Around("be.jensberckmoes.personal_finance_tracker.concurrency.AdmissionPointcuts.admittedServiceCall()")
+    public Object admit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Class<?> targetClass = joinPoint.getTarget().getClass();
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        bulkheads.enter(workloadClasses.computeIfAbsent(method, ignored -> workloadClassOf(method, targetClass)));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkheads.exit();
+        }
+    }
+
+    private static WorkloadClass workloadClassOf(final Method method, final Class<?> targetClass) {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getMostSpecificMethod(method, targetClass), Workload.class);
+        if (Objects.isNull(workload)) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+        }
+        return Objects.isNull(workload) ? WorkloadClass.INTERACTIVE : workload.value();
+    }
+}
@@ -0,0 +1,42 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Splits the connection pool between {@link WorkloadClass}es with {@code app.bulkheads.enabled=true}, so a run of
+ * reports or a large import cannot starve single transaction writes and reads.
+ */
+@Configuration
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "app.bulkheads.enabled", havingValue = "true")
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfiguration {
+
+    @Bean
+    public Bulkheads bulkheads(final BulkheadProperties bulkheadProperties, final DataSource dataSource,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int configuredPoolSize,
+                               final MeterRegistry meterRegistry) throws SQLException {
+        final int poolSize = VirtualThreadConfiguration.poolSize(dataSource, configuredPoolSize);
+        return new Bulkheads(Arrays.stream(WorkloadClass.values())
+                .map(workloadClass -> {
+                    final BulkheadProperties.Limits limits = bulkheadProperties.limits(workloadClass);
+                    return new Bulkhead(workloadClass, limits.permits(poolSize), limits.getMaxQueue(), limits.getQueueTimeout(), meterRegistry);
+                })
+                .toList());
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(final Bulkheads bulkheads) {
+        return new BulkheadAspect(bulkheads);
+    }
+}
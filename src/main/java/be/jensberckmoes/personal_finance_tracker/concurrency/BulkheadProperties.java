@@ -0,0 +1,43 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * {@code app.bulkheads.*}. Each workload class gets {@code pool-share} percent of the connection pool unless
+ * {@code max-concurrent} sets its permits outright. Reports get the smallest share and the shortest queue, so they
+ * are the first to be turned away when the database is busy.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulkheads")
+public class BulkheadProperties {
+    private Limits ingest = new Limits(40, 0, 200, Duration.ofMillis(500));
+    private Limits interactive = new Limits(40, 0, 200, Duration.ofSeconds(1));
+    private Limits report = new Limits(20, 0, 10, Duration.ofSeconds(5));
+
+    public Limits limits(final WorkloadClass workloadClass) {
+        return switch (workloadClass) {
+            case INGEST -> ingest;
+            case INTERACTIVE -> interactive;
+            case REPORT -> report;
+        };
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Limits {
+        private int poolShare;
+        private int maxConcurrent;
+        private int maxQueue;
+        private Duration queueTimeout;
+
+        public int permits(final int poolSize) {
+            return maxConcurrent > 0 ? maxConcurrent : Math.max(1, poolSize * poolShare / 100);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.exception.BulkheadFullException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers a call the {@link Bulkhead} turned away with {@code 429 Too Many Requests} and a {@code Retry-After} header
+ * carrying the bulkhead's estimate in seconds, so clients back off for as long as the queue needs to drain instead
+ * of retrying straight into it.
+ */
+@RestControllerAdvice
+public class BulkheadRejectionHandler {
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ProblemDetail> handleBulkheadFull(final BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfter().toSeconds()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()));
+    }
+}
@@ -0,0 +1,58 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * One {@link Bulkhead} per {@link WorkloadClass}. Entry is re-entrant per thread: a service call made while the
+ * thread already holds a permit, of any class, runs on that permit, so nested calls never queue behind themselves.
+ */
+public class Bulkheads {
+    private final Map<WorkloadClass, Bulkhead> bulkheads;
+    private final ThreadLocal<Held> held = new ThreadLocal<>();
+
+    public Bulkheads(final Collection<Bulkhead> bulkheads) {
+        this.bulkheads = new EnumMap<>(WorkloadClass.class);
+        bulkheads.forEach(bulkhead -> this.bulkheads.put(bulkhead.getWorkloadClass(), bulkhead));
+        for (final WorkloadClass workloadClass : WorkloadClass.values()) {
+            if (!this.bulkheads.containsKey(workloadClass)) {
+                throw new IllegalArgumentException("No bulkhead configured for " + workloadClass + ".");
+            }
+        }
+    }
+
+    public void enter(final WorkloadClass workloadClass) {
+        final Held current = held.get();
+        if (!Objects.isNull(current)) {
+            current.depth++;
+            return;
+        }
+        final Bulkhead bulkhead = bulkheads.get(workloadClass);
+        held.set(new Held(bulkhead, bulkhead.acquire()));
+    }
+
+    public void exit() {
+        final Held current = held.get();
+        if (--current.depth == 0) {
+            held.remove();
+            current.bulkhead.release(current.acquiredAtNanos);
+        }
+    }
+
+    public Bulkhead get(final WorkloadClass workloadClass) {
+        return bulkheads.get(workloadClass);
+    }
+
+    private static final class Held {
+        private final Bulkhead bulkhead;
+        private final long acquiredAtNanos;
+        private int depth = 1;
+
+        private Held(final Bulkhead bulkhead, final long acquiredAtNanos) {
+            this.bulkhead = bulkhead;
+            this.acquiredAtNanos = acquiredAtNanos;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Structured fan-out with the semantics of Java 21's {@code StructuredTaskScope.ShutdownOnFailure}, which is still a
+ * preview API and not enabled in this build. Every {@link #fork(Supplier)} runs on its own virtual thread,
+ * {@link #join(Instant)} waits for all of them until one shared deadline, and the first failure or the deadline
+ * cancels the siblings that are still running. Closing the scope interrupts whatever is left and waits for it, so
+ * no subtask outlives the block that forked it:
+ * <pre>
+ * try (FanOutScope scope = new FanOutScope("dashboard")) {
+ *     Future&lt;A&gt; a = scope.fork(this::loadA);
+ *     Future&lt;B&gt; b = scope.fork(this::loadB);
+ *     scope.join(deadline);
+ *     return combine(a.resultNow(), b.resultNow());
+ * }
+ * </pre>
+ */
+public final class FanOutScope implements AutoCloseable {
+    private final ExecutorService executor;
+    private final List<Future<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public FanOutScope(final String name) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    public <T> Future<T> fork(final Supplier<T> task) {
+        final FutureTask<T> subtask = new FutureTask<>(task::get) {
+            @Override
+            protected void setException(final Throwable cause) {
+                if (isCancelled()) {
+                    return;
+                }
+                final boolean first = failure.compareAndSet(null, cause);
+                super.setException(cause);
+                if (first) {
+                    cancelAll();
+                }
+            }
+        };
+        subtasks.add(subtask);
+        executor.execute(subtask);
+        return subtask;
+    }
+
+    /**
+     * Waits until every forked subtask has completed. Rethrows the first subtask failure as is when it is unchecked,
+     * and throws {@link DeadlineExceededException} once {@code deadline} passes; in both cases the remaining subtasks
+     * are cancelled first.
+     */
+    public void join(final Instant deadline) {
+        try {
+            for (final Future<?> subtask : subtasks) {
+                final long remainingNanos = Duration.between(Instant.now(), deadline).toNanos();
+                subtask.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+            }
+        } catch (final ExecutionException | CancellationException e) {
+            throw failure(e);
+        } catch (final TimeoutException e) {
+            cancelAll();
+            throw Objects.isNull(failure.get())
+                    ? new DeadlineExceededException("Subtasks did not complete before " + deadline + ".")
+                    : failure(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new CancellationException("Interrupted while joining subtasks.");
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        subtasks.forEach(subtask -> subtask.cancel(true));
+    }
+
+    private RuntimeException failure(final Exception joinException) {
+        final Throwable cause = Objects.requireNonNullElse(failure.get(), joinException);
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("Subtask failed.", cause);
+    }
+}
@@ -0,0 +1,62 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.exception.ConcurrencyLimitExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of threads inside the JDBC-bound service layer at the connection pool size. With virtual threads
+ * every request gets its own thread, so without this thousands of them would queue inside the pool instead of
+ * waiting cheaply on a semaphore. Permits are re-entrant per thread, so nested service calls never deadlock.
+ */
+public class JdbcConcurrencyLimiter {
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutNanos;
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    public JdbcConcurrencyLimiter(final int maxPermits, final Duration timeout) {
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public void acquire() {
+        final int[] held = depth.get();
+        if (held[0]++ > 0) {
+            return;
+        }
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                held[0] = 0;
+                throw new ConcurrencyLimitExceededException("No database permit available within " + Duration.ofNanos(timeoutNanos) + ".");
+            }
+        } catch (final InterruptedException e) {
+            held[0] = 0;
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitExceededException("Interrupted while waiting for a database permit.");
+        }
+    }
+
+    public void release() {
+        final int[] held = depth.get();
+        if (--held[0] == 0) {
+            depth.remove();
+            permits.release();
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,30 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Wraps service calls in a {@link JdbcConcurrencyLimiter} permit. It runs inside the {@link BulkheadAspect} and
+ * outside the transaction interceptor, so a thread only borrows a connection once it holds a permit; the calls it
+ * wraps and that order are defined in {@link AdmissionPointcuts}. Write-behind ingestion is not wrapped: its single
+ * writer thread never competes for more than one connection.
+ */
+@Aspect
+@Order(AdmissionPointcuts.JDBC_LIMITER_ORDER)
+@AllArgsConstructor
+public class JdbcConcurrencyLimiterAspect {
+    private final JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+
+    @Around("be.jensberckmoes.personal_finance_tracker.concurrency.AdmissionPointcuts.admittedServiceCall()")
+    public Object limit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        jdbcConcurrencyLimiter.acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            jdbcConcurrencyLimiter.release();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer. Producers claim a slot with one CAS on the tail and publish
+ * it through a per-slot sequence number; the single consumer owns the head and needs no atomic read-modify-write.
+ * {@link #offer(Object)} never blocks and returns {@code false} when the buffer is full.
+ */
+public class MpscRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    public MpscRingBuffer(final int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity + ".");
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(final E element) {
+        while (true) {
+            final long position = tail.get();
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Must only be called from the consumer thread.
+     */
+    public E poll() {
+        final int index = (int) (head & mask);
+        if (sequences.getAcquire(index) != head + 1) {
+            return null;
+        }
+        final E element = elements.getPlain(index);
+        elements.setPlain(index, null);
+        sequences.setRelease(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Moves up to {@code limit} elements to {@code sink}. Must only be called from the consumer thread.
+     */
+    public int drain(final Consumer<E> sink, final int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            sink.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Approximate when called from a producer thread.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,77 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Companion beans for {@code spring.threads.virtual.enabled=true}, which makes Spring Boot serve requests and
+ * {@code @Async} work on virtual threads.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+    @Bean
+    public JdbcConcurrencyLimiter jdbcConcurrencyLimiter(final DataSource dataSource,
+                                                         @Value("${app.virtual-threads.jdbc-permits:0}") final int jdbcPermits,
+                                                         @Value("${app.virtual-threads.permit-timeout:5s}") final Duration permitTimeout,
+                                                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int configuredPoolSize,
+                                                         final MeterRegistry meterRegistry) throws SQLException {
+        final int permits = jdbcPermits > 0 ? jdbcPermits : poolSize(dataSource, configuredPoolSize);
+        final JdbcConcurrencyLimiter limiter = new JdbcConcurrencyLimiter(permits, permitTimeout);
+        Gauge.builder("jdbc.permits.available", limiter, JdbcConcurrencyLimiter::getAvailablePermits).register(meterRegistry);
+        Gauge.builder("jdbc.permits.waiting", limiter, JdbcConcurrencyLimiter::getQueueLength).register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public JdbcConcurrencyLimiterAspect jdbcConcurrencyLimiterAspect(final JdbcConcurrencyLimiter jdbcConcurrencyLimiter) {
+        return new JdbcConcurrencyLimiterAspect(jdbcConcurrencyLimiter);
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(@Value("${app.virtual-threads.pinning-threshold:20ms}") final Duration threshold,
+                                                                   final MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+
+    /**
+     * The connections {@code dataSource} can hand out at once. Routing data sources count the pools of all their
+     * targets, as the read/write split and the shards do; the routing is looked at before Hikari, because unwrapping a
+     * routing data source only reaches the target the current thread would be routed to.
+     */
+    static int poolSize(final DataSource dataSource, final int configuredPoolSize) throws SQLException {
+        DataSource target = dataSource;
+        while (target instanceof DelegatingDataSource delegating && Objects.nonNull(delegating.getTargetDataSource())) {
+            target = delegating.getTargetDataSource();
+        }
+        if (target instanceof AbstractRoutingDataSource routing) {
+            int poolSize = 0;
+            for (final DataSource routed : routing.getResolvedDataSources().values()) {
+                poolSize += poolSize(routed, configuredPoolSize);
+            }
+            return poolSize;
+        }
+        if (target.isWrapperFor(HikariDataSource.class)) {
+            return target.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        }
+        log.warn("Cannot read the pool size of {}; sizing the JDBC limiter from spring.datasource.hikari.maximum-pool-size: {}.",
+                target.getClass().getName(), configuredPoolSize);
+        return configuredPoolSize;
+    }
+}
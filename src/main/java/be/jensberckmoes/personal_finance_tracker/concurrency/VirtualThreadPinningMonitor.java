@@ -0,0 +1,70 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, which fires when a virtual thread blocks while pinned to
+ * its carrier, typically inside a {@code synchronized} block of a JDBC driver. Each occurrence is counted in
+ * {@value #PINNED_METRIC} and logged with the top of its stack.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    public static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(final Duration threshold, final MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder(PINNED_METRIC)
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (Objects.nonNull(recordingStream)) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return Objects.nonNull(recordingStream);
+    }
+
+    private void onPinned(final RecordedEvent event) {
+        pinnedCounter.increment();
+        if (log.isWarnEnabled()) {
+            final StringBuilder frames = new StringBuilder();
+            if (Objects.nonNull(event.getStackTrace())) {
+                event.getStackTrace().getFrames().stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(RecordedFrame::getMethod)
+                        .forEach(method -> frames.append("\n\tat ").append(method.getType().getName()).append('.').append(method.getName()));
+            }
+            log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), frames);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a service implementation, or one of its methods, to a {@link WorkloadClass}. Service methods without it
+ * count as {@link WorkloadClass#INTERACTIVE}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+    WorkloadClass value();
+}
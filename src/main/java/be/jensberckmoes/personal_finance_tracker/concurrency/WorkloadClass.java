@@ -0,0 +1,9 @@
+package be.jensberckmoes.personal_finance_tracker.concurrency;
+
+/**
+ * The workload classes that get a {@link Bulkhead} of their own, so a burst in one cannot take the connections and
+ * threads another one needs.
+ */
+public enum WorkloadClass {
+    INGEST, INTERACTIVE, REPORT
+}
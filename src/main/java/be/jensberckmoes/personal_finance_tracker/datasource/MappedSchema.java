@@ -0,0 +1,39 @@
+package be.jensberckmoes.personal_finance_tracker.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Creates the mapped tables on databases that {@code spring.jpa.hibernate.ddl-auto} does not reach, such as extra
+ * shards or a local stand-in replica. The caller routes the export to the right database before calling
+ * {@link #export}.
+ */
+public final class MappedSchema {
+    private static final String PROBE_TABLE = "category";
+
+    private MappedSchema() {
+    }
+
+    public static boolean exists(final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if (PROBE_TABLE.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Could not inspect database schema.", e);
+        }
+    }
+
+    public static void export(final EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(false);
+    }
+}
@@ -0,0 +1,93 @@
+package be.jensberckmoes.personal_finance_tracker.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Splits reads from writes when {@code app.read-replica.enabled=true}. The primary pool is built from
+ * {@code spring.datasource.*}, the replica pool from {@code app.read-replica.url/username/password}. Without a
+ * replica url an in-memory H2 database stands in for it; it gets the mapped schema but no replication, so it is
+ * only used once something writes its heartbeat, as the integration tests do.
+ * <p>
+ * Sharded deployments ({@code app.sharding.enabled=true}) keep one pool per shard and do not split reads.
+ */
+@Configuration
+@ConditionalOnExpression("${app.read-replica.enabled:false} and !${app.sharding.enabled:false}")
+public class ReadReplicaConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(@Value("${app.read-replica.url:}") final String url,
+                                              @Value("${app.read-replica.username:sa}") final String username,
+                                              @Value("${app.read-replica.password:}") final String password) {
+        final HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url.isBlank() ? "jdbc:h2:mem:replica-" + UUID.randomUUID().toString().substring(0, 8) + ";DB_CLOSE_DELAY=-1" : url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(System::currentTimeMillis);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                               final ReadYourWritesTracker readYourWritesTracker,
+                                               @Value("${app.read-replica.max-lag:2s}") final Duration maxLag,
+                                               @Value("${app.read-replica.lag-check-interval:1s}") final Duration interval) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, readYourWritesTracker, maxLag, interval, System::currentTimeMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                 final ReplicaLagMonitor replicaLagMonitor,
+                                 final ReadYourWritesTracker readYourWritesTracker) {
+        final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, readYourWritesTracker);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${app.read-replica.url:}'.isBlank()")
+    public SmartInitializingSingleton embeddedReplicaSchemaInitializer(@Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+                                                                       final EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            if (!MappedSchema.exists(replicaDataSource)) {
+                ReadWriteRoutingDataSource.callOn(ReadWriteRoutingDataSource.Target.REPLICA, () -> {
+                    MappedSchema.export(entityManagerFactory);
+                    return null;
+                });
+                new JdbcTemplate(replicaDataSource).execute(ReplicaLagMonitor.CREATE_HEARTBEAT_TABLE);
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package be.jensberckmoes.personal_finance_tracker.datasource;
+
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replica and everything else to the
+ * primary. A read falls back to the primary when the {@link ReplicaLagMonitor} reports the replica as too far
+ * behind, or when the current owner committed a write the replica has not replayed yet (read-your-writes).
+ * <p>
+ * The decision needs the transaction's read-only flag, which Spring publishes only after the transaction has
+ * begun, so this data source must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * that defers fetching the physical connection until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final ThreadLocal<Target> PINNED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(final DataSource primary, final DataSource replica,
+                                      final ReplicaLagMonitor replicaLagMonitor, final ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final Target pinned = PINNED.get();
+        if (Objects.nonNull(pinned)) {
+            return pinned;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !replicaLagMonitor.isReplicaUsable()) {
+            return Target.PRIMARY;
+        }
+        return readYourWritesTracker.hasUnreplicatedWrites(OwnerContext.current(), replicaLagMonitor.replicatedUpTo())
+                ? Target.PRIMARY
+                : Target.REPLICA;
+    }
+
+    /**
+     * Runs {@code action} with every connection it opens taken from {@code target}. Code that rebuilds derived state
+     * after a commit pins the primary so it never reads a replica that has not seen that commit yet.
+     */
+    public static <T> T callOn(final Target target, final Supplier<T> action) {
+        final Target previous = PINNED.get();
+        PINNED.set(target);
+        try {
+            return action.get();
+        } finally {
+            if (Objects.isNull(previous)) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    public static <T> T callOnPrimary(final Supplier<T> action) {
+        return callOn(Target.PRIMARY, action);
+    }
+
+    public static void runOnPrimary(final Runnable action) {
+        callOn(Target.PRIMARY, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+}
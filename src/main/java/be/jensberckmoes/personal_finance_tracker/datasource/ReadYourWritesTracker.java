@@ -0,0 +1,56 @@
+package be.jensberckmoes.personal_finance_tracker.datasource;
+
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers when each owner last committed a read-write transaction. Until the replica has replayed past that
+ * moment, the owner's reads stay on the primary, so a user always sees their own {@code addTransaction} in the
+ * next listing. Entries are dropped once the replica has caught up, so the map only holds owners with writes
+ * still in flight.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+    private final Map<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public ReadYourWritesTracker(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterCommit(final TransactionExecution transaction, final Throwable commitFailure) {
+        if (Objects.isNull(commitFailure) && !transaction.isReadOnly()) {
+            recordWrite(OwnerContext.current());
+        }
+    }
+
+    public void recordWrite(final String ownerId) {
+        lastWriteMillis.merge(ownerId, clock.getAsLong(), Math::max);
+    }
+
+    public boolean hasUnreplicatedWrites(final String ownerId, final long replicatedUpToMillis) {
+        final Long lastWrite = lastWriteMillis.get(ownerId);
+        if (Objects.isNull(lastWrite)) {
+            return false;
+        }
+        if (lastWrite < replicatedUpToMillis) {
+            lastWriteMillis.remove(ownerId, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    public void prune(final long replicatedUpToMillis) {
+        lastWriteMillis.values().removeIf(lastWrite -> lastWrite < replicatedUpToMillis);
+    }
+
+    public int pendingOwners() {
+        return lastWriteMillis.size();
+    }
+}
@@ -0,0 +1,112 @@
+package be.jensberckmoes.personal_finance_tracker.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures replica lag with a heartbeat row: every interval the current time is written to
+ * {@code replica_heartbeat} on the primary and read back from the replica. The value the replica returns is the
+ * primary time it has replayed up to, and the difference to now is its lag. The replica is considered usable while
+ * that lag stays within {@code maxLag}; an unreachable replica, or one without the table, is not usable.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+    static final String CREATE_HEARTBEAT_TABLE = "create table if not exists replica_heartbeat (" +
+            "id int not null primary key, beat_millis bigint not null)";
+    private static final int HEARTBEAT_ID = 1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxLag;
+    private final Duration interval;
+    private final LongSupplier clock;
+    private ScheduledExecutorService prober;
+    private volatile long replicatedUpTo = Long.MIN_VALUE;
+    private volatile boolean replicaUsable;
+    private volatile boolean running;
+
+    public ReplicaLagMonitor(final DataSource primary, final DataSource replica, final ReadYourWritesTracker readYourWritesTracker,
+                             final Duration maxLag, final Duration interval, final LongSupplier clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        this.interval = interval;
+        this.clock = clock;
+        this.primary.execute(CREATE_HEARTBEAT_TABLE);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Primary time, in epoch millis, up to which the replica has replayed; every commit before it is visible there.
+     */
+    public long replicatedUpTo() {
+        return replicatedUpTo;
+    }
+
+    public void probe() {
+        final long now = clock.getAsLong();
+        try {
+            if (primary.update("update replica_heartbeat set beat_millis = ? where id = ?", now, HEARTBEAT_ID) == 0) {
+                primary.update("insert into replica_heartbeat (id, beat_millis) values (?, ?)", HEARTBEAT_ID, now);
+            }
+        } catch (final DataAccessException e) {
+            log.warn("Could not write the replica heartbeat to the primary.", e);
+        }
+        try {
+            final List<Long> beats = replica.queryForList("select beat_millis from replica_heartbeat where id = ?", Long.class, HEARTBEAT_ID);
+            replicatedUpTo = beats.isEmpty() ? Long.MIN_VALUE : beats.get(0);
+        } catch (final DataAccessException e) {
+            replicatedUpTo = Long.MIN_VALUE;
+        }
+        final boolean usable = replicatedUpTo != Long.MIN_VALUE && now - replicatedUpTo <= maxLag.toMillis();
+        if (usable && !replicaUsable) {
+            log.info("Replica caught up; serving read-only transactions from it.");
+        } else if (!usable && replicaUsable) {
+            log.info("Replica lags more than {} or is unreachable; serving read-only transactions from the primary.", maxLag);
+        }
+        replicaUsable = usable;
+        readYourWritesTracker.prune(replicatedUpTo);
+    }
+
+    @Override
+    public synchronized void start() {
+        prober = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("replica-lag").daemon().factory());
+        prober.scheduleWithFixedDelay(this::probeQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        prober.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void probeQuietly() {
+        try {
+            probe();
+        } catch (final RuntimeException e) {
+            log.warn("Replica lag probe failed.", e);
+            replicaUsable = false;
+        }
+    }
+}
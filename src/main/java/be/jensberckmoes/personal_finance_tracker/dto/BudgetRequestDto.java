@@ -0,0 +1,17 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BudgetRequestDto {
+    private Long categoryId;
+    private BigDecimal monthlyLimit;
+}
@@ -0,0 +1,20 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BudgetStatusDto {
+    private Long categoryId;
+    private YearMonth month;
+    private BigDecimal monthlyLimit;
+    private BigDecimal spent;
+}
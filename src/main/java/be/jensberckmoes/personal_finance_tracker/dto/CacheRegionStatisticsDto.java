@@ -0,0 +1,18 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheRegionStatisticsDto {
+    private String regionName;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+}
@@ -0,0 +1,22 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CategorizationRuleRequestDto {
+    @NotBlank(message = "Keyword cannot be blank")
+    @Size(max = 100, message = "Keyword cannot exceed 100 characters")
+    private String keyword;
+    @NotNull
+    private Long categoryId;
+    private int priority;
+}
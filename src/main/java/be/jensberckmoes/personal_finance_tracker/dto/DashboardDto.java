@@ -0,0 +1,22 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DashboardDto {
+    private YearMonth month;
+    private MonthlyTotalDto income;
+    private MonthlyTotalDto expenses;
+    private List<TransactionResponseDto> recentTransactions;
+    private List<BudgetStatusDto> budgets;
+    private List<CategoryResponseDto> categories;
+}
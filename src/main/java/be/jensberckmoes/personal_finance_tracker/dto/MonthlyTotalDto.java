@@ -0,0 +1,19 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MonthlyTotalDto {
+    private YearMonth month;
+    private BigDecimal totalAmount;
+    private long transactionCount;
+}
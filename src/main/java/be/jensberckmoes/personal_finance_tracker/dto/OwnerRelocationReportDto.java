@@ -0,0 +1,20 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OwnerRelocationReportDto {
+    private String ownerId;
+    private String sourceShard;
+    private String targetShard;
+    private long categories;
+    private long transactions;
+    private long categorizationRules;
+    private long budgets;
+}
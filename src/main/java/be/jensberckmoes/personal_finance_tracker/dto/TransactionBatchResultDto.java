@@ -0,0 +1,17 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionBatchResultDto {
+    private int index;
+    private boolean success;
+    private TransactionResponseDto transaction;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionImportReportDto {
+    private long linesRead;
+    private long imported;
+    private long failed;
+    private long duplicates;
+    private List<TransactionImportErrorDto> errors;
+}
@@ -0,0 +1,20 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionPageRequestDto {
+    private String cursor;
+    private int size;
+    private Long categoryId;
+    private TransactionType type;
+    private TransactionMethod method;
+}
@@ -0,0 +1,22 @@
+package be.jensberckmoes.personal_finance_tracker.dto;
+
+import be.jensberckmoes.personal_finance_tracker.model.enums.SearchMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionSearchRequestDto {
+    private String query;
+    private SearchMode mode;
+    private Long categoryId;
+    private LocalDate from;
+    private LocalDate to;
+    private int limit;
+}
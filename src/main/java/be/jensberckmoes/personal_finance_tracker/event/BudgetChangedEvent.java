@@ -0,0 +1,9 @@
+package be.jensberckmoes.personal_finance_tracker.event;
+
+import java.math.BigDecimal;
+
+/**
+ * Published inside the transaction that sets a category's monthly limit.
+ */
+public record BudgetChangedEvent(String ownerId, Long categoryId, BigDecimal monthlyLimit) {
+}
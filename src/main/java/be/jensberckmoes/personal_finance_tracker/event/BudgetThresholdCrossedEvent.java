@@ -0,0 +1,12 @@
+package be.jensberckmoes.personal_finance_tracker.event;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Published once per owner, category, month and threshold when committed spending first reaches {@code thresholdPercent}
+ * of the monthly limit.
+ */
+public record BudgetThresholdCrossedEvent(String ownerId, Long categoryId, YearMonth month, int thresholdPercent,
+                                          BigDecimal spent, BigDecimal monthlyLimit) {
+}
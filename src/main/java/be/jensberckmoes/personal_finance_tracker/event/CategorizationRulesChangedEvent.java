@@ -0,0 +1,8 @@
+package be.jensberckmoes.personal_finance_tracker.event;
+
+/**
+ * Published inside the transaction that creates or deletes categorization rules, so the categorizer can recompile
+ * once the change is committed.
+ */
+public record CategorizationRulesChangedEvent() {
+}
@@ -0,0 +1,12 @@
+package be.jensberckmoes.personal_finance_tracker.event;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+
+import java.util.List;
+
+/**
+ * Published inside the writing transaction whenever transactions are inserted. Listeners that maintain
+ * derived in-memory state should use {@code @TransactionalEventListener} so they only see committed rows.
+ */
+public record TransactionsPersistedEvent(List<Transaction> transactions) {
+}
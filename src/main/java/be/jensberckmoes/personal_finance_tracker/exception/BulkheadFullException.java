@@ -0,0 +1,15 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class BulkheadFullException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public BulkheadFullException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
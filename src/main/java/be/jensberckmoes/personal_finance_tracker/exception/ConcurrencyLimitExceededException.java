@@ -0,0 +1,7 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    public ConcurrencyLimitExceededException(final String message) {
+        super(message);
+    }
+}
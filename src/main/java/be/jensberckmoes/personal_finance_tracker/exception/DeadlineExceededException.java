@@ -0,0 +1,7 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(final String message) {
+        super(message);
+    }
+}
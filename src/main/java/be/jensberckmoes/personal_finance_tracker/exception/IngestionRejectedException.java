@@ -0,0 +1,7 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+public class IngestionRejectedException extends RuntimeException {
+    public IngestionRejectedException(final String message) {
+        super(message);
+    }
+}
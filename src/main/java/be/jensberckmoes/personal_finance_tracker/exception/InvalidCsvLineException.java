@@ -0,0 +1,10 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+/**
+ * Raised once per malformed line during a CSV import, so it skips the stack trace like the other validation exceptions.
+ */
+public class InvalidCsvLineException extends InvalidInputException {
+    public InvalidCsvLineException(final String message) {
+        super(message, false);
+    }
+}
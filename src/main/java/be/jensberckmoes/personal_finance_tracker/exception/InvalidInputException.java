@@ -4,4 +4,8 @@ public class InvalidInputException extends RuntimeException {
     public InvalidInputException(final String message) {
         super(message);
     }
+
+    protected InvalidInputException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -2,6 +2,6 @@ package be.jensberckmoes.personal_finance_tracker.exception;
 
 public class InvalidTransactionDescriptionException extends RuntimeException {
     public InvalidTransactionDescriptionException(final String msg) {
-        super(msg);
+        super(msg, null, false, false);
     }
 }
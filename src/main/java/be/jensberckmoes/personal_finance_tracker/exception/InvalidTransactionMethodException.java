@@ -2,6 +2,6 @@ package be.jensberckmoes.personal_finance_tracker.exception;
 
 public class InvalidTransactionMethodException extends RuntimeException {
     public InvalidTransactionMethodException(final String msg) {
-        super(msg);
+        super(msg, null, false, false);
     }
 }
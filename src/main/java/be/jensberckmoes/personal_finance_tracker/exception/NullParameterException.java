@@ -2,6 +2,6 @@ package be.jensberckmoes.personal_finance_tracker.exception;
 
 public class NullParameterException extends RuntimeException {
     public NullParameterException(final String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -1,4 +1,7 @@
 package be.jensberckmoes.personal_finance_tracker.exception;
 
 public class NullTransactionAmountException extends RuntimeException {
+    public NullTransactionAmountException() {
+        super(null, null, false, false);
+    }
 }
@@ -1,4 +1,7 @@
 package be.jensberckmoes.personal_finance_tracker.exception;
 
 public class NullTransactionDateException extends RuntimeException {
+    public NullTransactionDateException() {
+        super(null, null, false, false);
+    }
 }
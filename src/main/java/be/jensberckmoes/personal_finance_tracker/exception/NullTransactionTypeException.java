@@ -1,4 +1,7 @@
 package be.jensberckmoes.personal_finance_tracker.exception;
 
 public class NullTransactionTypeException extends RuntimeException {
+    public NullTransactionTypeException() {
+        super(null, null, false, false);
+    }
 }
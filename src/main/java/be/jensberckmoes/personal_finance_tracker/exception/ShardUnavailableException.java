@@ -0,0 +1,7 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+public class ShardUnavailableException extends RuntimeException {
+    public ShardUnavailableException(final String message) {
+        super(message);
+    }
+}
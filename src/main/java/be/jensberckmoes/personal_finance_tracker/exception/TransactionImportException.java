@@ -0,0 +1,7 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+public class TransactionImportException extends RuntimeException {
+    public TransactionImportException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
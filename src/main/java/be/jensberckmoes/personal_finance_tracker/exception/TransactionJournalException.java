@@ -0,0 +1,7 @@
+package be.jensberckmoes.personal_finance_tracker.exception;
+
+public class TransactionJournalException extends RuntimeException {
+    public TransactionJournalException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
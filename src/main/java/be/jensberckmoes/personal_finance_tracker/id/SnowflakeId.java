@@ -0,0 +1,18 @@
+package be.jensberckmoes.personal_finance_tracker.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code Long} id that is assigned by {@link SnowflakeIdGenerator} before the insert, so no database round
+ * trip is needed and inserts can be JDBC-batched.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,81 @@
+package be.jensberckmoes.personal_finance_tracker.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Allocates 64-bit, time-ordered ids without touching the database:
+ * <pre>
+ *  0 | 41 bits: millis since 2025-01-01T00:00Z | 10 bits: node id | 12 bits: sequence
+ * </pre>
+ * The last issued {@code (millis, sequence)} pair lives in one {@link AtomicLong} and every id is claimed with a
+ * single CAS on it, so allocation is lock-free and strictly increasing per node. The stored millis act as a logical
+ * clock: when the wall clock is behind it (it moved backwards, or 4096 ids were taken within one millisecond) the
+ * next id simply increments the pair, borrowing the following millisecond when the sequence overflows, instead of
+ * reusing or waiting for a timestamp.
+ */
+public final class SnowflakeIdAllocator {
+    public static final long EPOCH_MILLIS = 1_735_689_600_000L;
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + 10;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final Map<Integer, SnowflakeIdAllocator> NODES = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdAllocator(final int nodeId, final LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + " but was " + nodeId + ".");
+        }
+        this.nodeBits = (long) nodeId << NODE_SHIFT;
+        this.clock = clock;
+    }
+
+    /**
+     * The allocator shared by every generator of this JVM for {@code nodeId}.
+     */
+    public static SnowflakeIdAllocator forNode(final int nodeId) {
+        return NODES.computeIfAbsent(nodeId, id -> new SnowflakeIdAllocator(id, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        while (true) {
+            final long previous = last.get();
+            final long now = Math.max(0, clock.getAsLong() - EPOCH_MILLIS);
+            final long next = now > previous >>> SEQUENCE_BITS ? now << SEQUENCE_BITS : previous + 1;
+            if (last.compareAndSet(previous, next)) {
+                return (next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Makes every later id larger than {@code id}, whichever node issued it. Used at startup so ids stay above the
+     * rows already stored, e.g. after the clock was set back across a restart.
+     */
+    public void advancePast(final long id) {
+        final long floor = ((id >>> TIMESTAMP_SHIFT) + 1) << SEQUENCE_BITS;
+        last.accumulateAndGet(floor - 1, Math::max);
+    }
+
+    /**
+     * How far the logical clock runs ahead of the wall clock, in milliseconds; positive after the clock moved back.
+     */
+    public long clockLeadMillis() {
+        return (last.get() >>> SEQUENCE_BITS) - (clock.getAsLong() - EPOCH_MILLIS);
+    }
+
+    public static long timestampMillisOf(final long id) {
+        return EPOCH_MILLIS + (id >>> TIMESTAMP_SHIFT);
+    }
+
+    public static int nodeIdOf(final long id) {
+        return (int) ((id >>> NODE_SHIFT) & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,46 @@
+package be.jensberckmoes.personal_finance_tracker.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+@Slf4j
+@Configuration
+public class SnowflakeIdConfiguration {
+    private static final String[] SNOWFLAKE_TABLES = {"category", "transaction", "budget", "categorization_rule"};
+
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeNodeIdCustomizer(@Value("${app.ids.node-id:0}") final int nodeId) {
+        return properties -> properties.put(SnowflakeIdGenerator.NODE_ID_SETTING, Integer.toString(nodeId));
+    }
+
+    /**
+     * Migration guard for databases that already hold rows: lifts the allocator above the largest stored id before
+     * the first insert. Rows created by the old sequence and identity generators keep their small ids, which every
+     * snowflake id exceeds, so nothing has to be renumbered; see {@code db/snowflake-id-migration.sql} for the
+     * column changes on MySQL.
+     */
+    @Bean
+    public SmartInitializingSingleton snowflakeIdFloor(final DataSource dataSource, @Value("${app.ids.node-id:0}") final int nodeId) {
+        return () -> {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            final SnowflakeIdAllocator allocator = SnowflakeIdAllocator.forNode(nodeId);
+            for (final String table : SNOWFLAKE_TABLES) {
+                final Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+                if (!Objects.isNull(maxId)) {
+                    allocator.advancePast(maxId);
+                }
+            }
+            if (allocator.clockLeadMillis() > 0) {
+                log.warn("Stored ids are ahead of the clock by {} ms; new ids continue above them.", allocator.clockLeadMillis());
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package be.jensberckmoes.personal_finance_tracker.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * Hibernate side of {@link SnowflakeId}. The node id is read from the {@value #NODE_ID_SETTING} Hibernate setting,
+ * which {@link SnowflakeIdConfiguration} fills from {@code app.ids.node-id}; every node writing to the same database
+ * needs a different one.
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<SnowflakeId> {
+    public static final String NODE_ID_SETTING = "app.ids.node-id";
+
+    private transient SnowflakeIdAllocator allocator;
+
+    @Override
+    public void initialize(final SnowflakeId annotation, final Member member, final GeneratorCreationContext context) {
+        final Object nodeId = context.getServiceRegistry().requireService(ConfigurationService.class).getSettings().get(NODE_ID_SETTING);
+        allocator = SnowflakeIdAllocator.forNode(Objects.isNull(nodeId) ? 0 : Integer.parseInt(nodeId.toString()));
+    }
+
+    @Override
+    public Object generate(final SharedSessionContractImplementor session, final Object owner, final Object currentValue,
+                           final EventType eventType) {
+        return allocator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,21 @@
+package be.jensberckmoes.personal_finance_tracker.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class JournalConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public TransactionJournal transactionJournal(@Value("${app.journal.directory:data/journal}") final Path directory,
+                                                 @Value("${app.journal.segment-size:64MB}") final DataSize segmentSize,
+                                                 @Value("${app.journal.force-on-append:true}") final boolean forceOnAppend) {
+        return new TransactionJournal(directory, segmentSize.toBytes(), forceOnAppend);
+    }
+}
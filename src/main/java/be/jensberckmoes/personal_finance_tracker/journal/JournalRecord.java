@@ -0,0 +1,6 @@
+package be.jensberckmoes.personal_finance_tracker.journal;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+
+public record JournalRecord(long sequence, String ownerId, TransactionRequestDto transaction) {
+}
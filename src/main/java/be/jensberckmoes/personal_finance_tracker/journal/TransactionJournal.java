@@ -0,0 +1,365 @@
+package be.jensberckmoes.personal_finance_tracker.journal;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.exception.TransactionJournalException;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only write-ahead journal of accepted transactions. Records have a fixed width of {@value #RECORD_SIZE}
+ * bytes and end in a CRC32C of the rest of the record; they are written into memory-mapped segment files named after
+ * their first sequence number, and a new segment is started once the current one is full. Reading stops at the first
+ * record whose checksum or sequence does not match, which is how a write torn by a crash is detected.
+ *
+ * <p>Layout, little-endian: sequence (8), amount unscaled value (8), amount scale (1), type ordinal (1), method
+ * ordinal or -1 (1), padding (1), date nanos (4), date epoch second UTC (8), category id or {@link Long#MIN_VALUE} (8),
+ * description length or -1 (2), description UTF-8 ({@value #DESCRIPTION_BYTES}), owner id length (2), owner id UTF-8
+ * ({@value #OWNER_BYTES}), padding (4), CRC32C (4). The owner is the one that was bound when the transaction was
+ * accepted, so a replay on a thread without a request persists the row for the same owner.
+ *
+ * <p>The checkpoint, the highest sequence whose transaction has been committed, lives next to the segments in a
+ * small memory-mapped file guarded by its own CRC32C rather than in the databases, so it is the same for every
+ * shard an owner may be routed to. It is forced before any segment is deleted; a checkpoint that was lost or lags
+ * behind the committed rows only makes replay look up more records, because replay skips rows that already exist.
+ *
+ * <p>Records that can never be applied are set aside with {@link #deadLetter(long, String, TransactionRequestDto)} in a
+ * separate, always-forced file with the same layout, so the checkpoint can move past them without losing them.
+ *
+ * <p>Appends are serialised with a {@link ReentrantLock} rather than {@code synchronized} so virtual threads waiting
+ * on a forced write do not pin their carrier.
+ */
+public class TransactionJournal implements Closeable {
+    public static final int RECORD_SIZE = 1120;
+    static final int DESCRIPTION_BYTES = 768;
+    static final int OWNER_BYTES = 300;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String DEAD_LETTER_FILE = "dead-letters.log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int CHECKPOINT_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int CRC_OFFSET = RECORD_SIZE - Integer.BYTES;
+    private static final long NO_CATEGORY = Long.MIN_VALUE;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final boolean forceOnAppend;
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long nextSequence;
+    private FileChannel checkpointChannel;
+    private MappedByteBuffer checkpoint;
+
+    public TransactionJournal(final Path directory, final long segmentSize, final boolean forceOnAppend) {
+        this.directory = directory;
+        this.recordsPerSegment = (int) Math.max(1, Math.min(segmentSize / RECORD_SIZE, Integer.MAX_VALUE / RECORD_SIZE));
+        this.forceOnAppend = forceOnAppend;
+        try {
+            Files.createDirectories(directory);
+            final long[] last = {0};
+            replay(0, record -> last[0] = record.sequence());
+            nextSequence = last[0] + 1;
+            openSegment(nextSequence);
+            checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            checkpoint = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SIZE);
+            checkpoint.order(ByteOrder.LITTLE_ENDIAN);
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot open transaction journal in " + directory + ".", e);
+        }
+    }
+
+    /**
+     * Writes {@code transaction}, accepted for {@code ownerId}, to the journal and returns its sequence number. With
+     * force-on-append the record is on stable storage when this method returns.
+     */
+    public long append(final String ownerId, final TransactionRequestDto transaction) {
+        lock.lock();
+        try {
+            if (!segment.hasRemaining()) {
+                roll();
+            }
+            final long sequence = nextSequence;
+            final int offset = segment.position();
+            encode(sequence, ownerId, transaction, segment.slice(offset, RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+            segment.position(offset + RECORD_SIZE);
+            if (forceOnAppend) {
+                segment.force(offset, RECORD_SIZE);
+            }
+            nextSequence++;
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return nextSequence - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The highest sequence recorded with {@link #checkpoint(long)}, or 0 when there is none or it is unreadable.
+     */
+    public long appliedSequence() {
+        lock.lock();
+        try {
+            return readCheckpoint();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that every transaction up to {@code appliedSequence} has been committed. Never moves the checkpoint
+     * back.
+     */
+    public void checkpoint(final long appliedSequence) {
+        lock.lock();
+        try {
+            if (appliedSequence <= readCheckpoint()) {
+                return;
+            }
+            checkpoint.putLong(0, appliedSequence);
+            final CRC32C crc = new CRC32C();
+            crc.update(checkpoint.slice(0, Long.BYTES));
+            checkpoint.putInt(Long.BYTES, (int) crc.getValue());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes every intact record with a sequence above {@code afterSequence} to {@code sink}, oldest first.
+     */
+    public void replay(final long afterSequence, final Consumer<JournalRecord> sink) {
+        long expected = -1;
+        for (final Path file : segments()) {
+            try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final ByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+                    final ByteBuffer record = buffer.slice(offset, RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                    final long sequence = record.getLong(0);
+                    if (sequence == 0 || !hasValidChecksum(record) || (expected != -1 && sequence != expected)) {
+                        break;
+                    }
+                    expected = sequence + 1;
+                    if (sequence > afterSequence) {
+                        sink.accept(new JournalRecord(sequence, decodeOwner(record), decode(record)));
+                    }
+                }
+            } catch (final IOException e) {
+                throw new TransactionJournalException("Cannot read journal segment " + file + ".", e);
+            }
+        }
+    }
+
+    /**
+     * Appends {@code transaction} to the dead-letter file under its original sequence and forces it to disk.
+     */
+    public void deadLetter(final long sequence, final String ownerId, final TransactionRequestDto transaction) {
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        encode(sequence, ownerId, transaction, record);
+        lock.lock();
+        try (FileChannel deadLetters = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (record.hasRemaining()) {
+                deadLetters.write(record);
+            }
+            deadLetters.force(false);
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot dead-letter journal record " + sequence + ".", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes every intact dead-lettered record to {@code sink}, in the order they were set aside.
+     */
+    public void deadLetters(final Consumer<JournalRecord> sink) {
+        final Path file = directory.resolve(DEAD_LETTER_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+                final ByteBuffer record = buffer.slice(offset, RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                if (!hasValidChecksum(record)) {
+                    break;
+                }
+                sink.accept(new JournalRecord(record.getLong(0), decodeOwner(record), decode(record)));
+            }
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot read journal dead letters in " + directory + ".", e);
+        }
+    }
+
+    /**
+     * Deletes closed segments whose records all have a sequence up to {@code appliedSequence}.
+     */
+    public void deleteSegmentsUpTo(final long appliedSequence) {
+        lock.lock();
+        try {
+            checkpoint.force();
+            final List<Path> files = segments();
+            for (int i = 0; i < files.size() - 1; i++) {
+                final long lastInSegment = firstSequence(files.get(i + 1)) - 1;
+                if (lastInSegment > appliedSequence) {
+                    return;
+                }
+                Files.deleteIfExists(files.get(i));
+            }
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot delete journal segments in " + directory + ".", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            segment.force();
+            channel.close();
+            checkpoint.force();
+            checkpointChannel.close();
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot close transaction journal.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long readCheckpoint() {
+        final CRC32C crc = new CRC32C();
+        crc.update(checkpoint.slice(0, Long.BYTES));
+        return checkpoint.getInt(Long.BYTES) == (int) crc.getValue() ? checkpoint.getLong(0) : 0;
+    }
+
+    private void roll() {
+        try {
+            segment.force();
+            channel.close();
+            openSegment(nextSequence);
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot roll transaction journal segment.", e);
+        }
+    }
+
+    private void openSegment(final long firstSequence) throws IOException {
+        final Path file = directory.resolve(SEGMENT_PREFIX + String.format("%020d", firstSequence) + SEGMENT_SUFFIX);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        } catch (final IOException e) {
+            throw new TransactionJournalException("Cannot list journal segments in " + directory + ".", e);
+        }
+    }
+
+    private static long firstSequence(final Path file) {
+        final String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void encode(final long sequence, final String ownerId, final TransactionRequestDto transaction,
+                               final ByteBuffer record) {
+        final BigDecimal amount = transaction.getAmount();
+        final LocalDateTime date = transaction.getDate();
+        record.putLong(0, sequence);
+        record.putLong(8, amount.unscaledValue().longValueExact());
+        record.put(16, (byte) amount.scale());
+        record.put(17, (byte) transaction.getType().ordinal());
+        record.put(18, (byte) (Objects.isNull(transaction.getMethod()) ? -1 : transaction.getMethod().ordinal()));
+        record.putInt(20, date.getNano());
+        record.putLong(24, date.toEpochSecond(ZoneOffset.UTC));
+        record.putLong(32, Objects.isNull(transaction.getCategoryId()) ? NO_CATEGORY : transaction.getCategoryId());
+        if (Objects.isNull(transaction.getDescription())) {
+            record.putShort(40, (short) -1);
+        } else {
+            final byte[] description = transaction.getDescription().getBytes(StandardCharsets.UTF_8);
+            if (description.length > DESCRIPTION_BYTES) {
+                throw new InvalidInputException("Description does not fit in a journal record.");
+            }
+            record.putShort(40, (short) description.length);
+            record.put(42, description);
+        }
+        final byte[] owner = ownerId.getBytes(StandardCharsets.UTF_8);
+        if (owner.length > OWNER_BYTES) {
+            throw new InvalidInputException("Owner id does not fit in a journal record.");
+        }
+        record.putShort(810, (short) owner.length);
+        record.put(812, owner);
+        record.putInt(CRC_OFFSET, checksum(record));
+    }
+
+    private static TransactionRequestDto decode(final ByteBuffer record) {
+        final short descriptionLength = record.getShort(40);
+        String description = null;
+        if (descriptionLength >= 0) {
+            final byte[] bytes = new byte[descriptionLength];
+            record.get(42, bytes);
+            description = new String(bytes, StandardCharsets.UTF_8);
+        }
+        final byte method = record.get(18);
+        final long categoryId = record.getLong(32);
+        return TransactionRequestDto.builder()
+                .amount(new BigDecimal(BigInteger.valueOf(record.getLong(8)), record.get(16)))
+                .type(TransactionType.values()[record.get(17)])
+                .method(method < 0 ? null : TransactionMethod.values()[method])
+                .date(LocalDateTime.ofEpochSecond(record.getLong(24), record.getInt(20), ZoneOffset.UTC))
+                .categoryId(categoryId == NO_CATEGORY ? null : categoryId)
+                .description(description)
+                .build();
+    }
+
+    private static String decodeOwner(final ByteBuffer record) {
+        final byte[] bytes = new byte[record.getShort(810)];
+        record.get(812, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean hasValidChecksum(final ByteBuffer record) {
+        return record.getInt(CRC_OFFSET) == checksum(record);
+    }
+
+    private static int checksum(final ByteBuffer record) {
+        final CRC32C crc = new CRC32C();
+        crc.update(record.slice(0, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,29 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(final StatementCountingInspector statementCountingInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountingInspector);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication
+    public ServiceMetricsAspect serviceMetricsAspect(final MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication
+    public StatementCountFilter statementCountFilter(final StatementCountingInspector statementCountingInspector, final MeterRegistry meterRegistry) {
+        return new StatementCountFilter(statementCountingInspector, meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times the write operations of the transaction and category services. Every call is recorded in the
+ * {@value #SERVICE_CALLS_METRIC} timer, tagged with the method, the outcome and the exception type on failure.
+ */
+@Aspect
+@AllArgsConstructor
+public class ServiceMetricsAspect {
+    public static final String SERVICE_CALLS_METRIC = "finance.service.calls";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* be.jensberckmoes.personal_finance_tracker.service.TransactionService.addTransaction(..))"
+            + " || execution(* be.jensberckmoes.personal_finance_tracker.service.CategoryService.createCategory(..))"
+            + " || execution(* be.jensberckmoes.personal_finance_tracker.service.impl.CategoryServiceImpl.updateCategory(..))")
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final String method = joinPoint.getSignature().getName();
+        try {
+            final Object result = joinPoint.proceed();
+            sample.stop(timer(method, "success", NO_EXCEPTION));
+            return result;
+        } catch (final Throwable e) {
+            sample.stop(timer(method, "failure", e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(final String method, final String outcome, final String exception) {
+        return Timer.builder(SERVICE_CALLS_METRIC)
+                .description("Service method invocations")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
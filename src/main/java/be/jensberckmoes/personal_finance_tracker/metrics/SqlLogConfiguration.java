@@ -0,0 +1,38 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replaces {@code spring.jpa.show-sql} with {@code app.sql-log.enabled=true}: the primary {@code dataSource} bean is
+ * wrapped in a {@link SqlLoggingDataSource} that only logs statements slower than {@code app.sql-log.threshold} or
+ * picked by {@code app.sql-log.sample-rate}. Only the bean named {@code dataSource} is wrapped, so statements behind a
+ * routing datasource are timed once, including the routing.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-log.enabled", havingValue = "true")
+public class SqlLogConfiguration {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(final Environment environment) {
+        final SqlStatementLog sqlStatementLog = new SqlStatementLog(
+                environment.getProperty("app.sql-log.threshold", Duration.class, Duration.ofMillis(200)),
+                environment.getProperty("app.sql-log.sample-rate", Double.class, 0.0),
+                environment.getProperty("app.sql-log.max-sql-length", Integer.class, 2000));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)
+                        ? new SqlLoggingDataSource(dataSource, sqlStatementLog)
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Times every statement executed on connections from the wrapped datasource and hands it to a
+ * {@link SqlStatementLog}. Connections and statements are JDK proxies, so this works for Hibernate, Spring Data and
+ * plain {@code JdbcTemplate} access alike and sees the real execution time rather than just the SQL text. Bind
+ * parameters are tracked by type only; their values never leave the statement.
+ */
+public class SqlLoggingDataSource extends DelegatingDataSource {
+    private static final int INITIAL_PARAMETERS = 16;
+
+    private final SqlStatementLog sqlStatementLog;
+
+    public SqlLoggingDataSource(final DataSource targetDataSource, final SqlStatementLog sqlStatementLog) {
+        super(targetDataSource);
+        this.sqlStatementLog = sqlStatementLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(new ConnectionHandler(super.getConnection()), ConnectionProxy.class);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return proxy(new ConnectionHandler(super.getConnection(username, password)), ConnectionProxy.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final InvocationHandler handler, final Class<?> type) {
+        return (T) Proxy.newProxyInstance(SqlLoggingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                default:
+                    break;
+            }
+            final Object result = SqlLoggingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" ->
+                        proxy(new StatementHandler((Statement) result, (String) args[0]), method.getReturnType());
+                case "createStatement" -> proxy(new StatementHandler((Statement) result, null), method.getReturnType());
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private Object[] parameterTypes;
+        private int parameterCount;
+        private int batchSize;
+
+        private StatementHandler(final Statement target, final String sql) {
+            this.target = target;
+            this.sql = sql;
+            this.parameterTypes = target instanceof PreparedStatement ? new Object[INITIAL_PARAMETERS] : null;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && !Objects.isNull(parameterTypes) && !Objects.isNull(args) && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, method, args[1]);
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearParameters")) {
+                parameterCount = 0;
+            }
+            return SqlLoggingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(final Method method, final Object[] args) throws Throwable {
+            final long start = System.nanoTime();
+            try {
+                return SqlLoggingDataSource.invoke(target, method, args);
+            } finally {
+                final long elapsed = System.nanoTime() - start;
+                if (sqlStatementLog.shouldLog(elapsed)) {
+                    final String executed = !Objects.isNull(args) && args.length > 0 && args[0] instanceof String text ? text : sql;
+                    sqlStatementLog.log(executed, parameterShapes(), batchSize, elapsed);
+                }
+                if (method.getName().equals("executeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        /**
+         * Renders the bound parameter types as {@code [Long, String, null]}.
+         */
+        private String parameterShapes() {
+            if (Objects.isNull(parameterTypes)) {
+                return "[]";
+            }
+            final StringJoiner shapes = new StringJoiner(", ", "[", "]");
+            for (int i = 0; i < parameterCount; i++) {
+                final Object type = parameterTypes[i];
+                if (type instanceof Class<?> valueClass) {
+                    shapes.add(valueClass.getSimpleName());
+                } else if (type instanceof Method setter) {
+                    shapes.add(setter.getName().equals("setNull") || setter.getName().equals("setObject") ? "null" : setter.getName().substring(3));
+                } else {
+                    shapes.add("?");
+                }
+            }
+            return shapes.toString();
+        }
+
+        /**
+         * Stores the setter, or the value's class for {@code setObject}, and leaves turning them into names to the
+         * rare statement that is actually logged.
+         */
+        private void bind(final int index, final Method setter, final Object value) {
+            if (index > parameterTypes.length) {
+                parameterTypes = Arrays.copyOf(parameterTypes, Math.max(index, parameterTypes.length * 2));
+            }
+            parameterTypes[index - 1] = setter.getName().equals("setObject") && !Objects.isNull(value) ? value.getClass() : setter;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which executed statements are worth a log line and writes them to the {@value #LOGGER} logger as key-value
+ * pairs: every statement slower than {@code threshold} at WARN, and a {@code sampleRate} fraction of the rest at
+ * INFO. Each line carries the duration, the calling service method, the bind parameter types (never their values)
+ * and the batch size. Callers ask {@link #shouldLog(long)} first, so statements that are neither slow nor sampled
+ * cost one comparison.
+ */
+@Slf4j(topic = SqlStatementLog.LOGGER)
+public class SqlStatementLog {
+    public static final String LOGGER = "sql.statements";
+    private static final String APPLICATION_PACKAGE = "be.jensberckmoes.personal_finance_tracker.";
+    private static final String SERVICE_PACKAGE = APPLICATION_PACKAGE + "service.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxSqlLength;
+
+    public SqlStatementLog(final Duration threshold, final double sampleRate, final int maxSqlLength) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    public boolean shouldLog(final long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos
+                ? log.isWarnEnabled()
+                : sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled();
+    }
+
+    public void log(final String sql, final String parameterShapes, final int batchSize, final long elapsedNanos) {
+        final boolean slow = elapsedNanos >= thresholdNanos;
+        final LoggingEventBuilder event = slow ? log.atWarn() : log.atInfo();
+        event.addKeyValue("kind", slow ? "slow" : "sampled")
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .addKeyValue("caller", caller())
+                .addKeyValue("params", parameterShapes)
+                .addKeyValue("batch", batchSize)
+                .log(truncate(sql));
+    }
+
+    /**
+     * The innermost service method on the stack, or the innermost application frame outside this package when the
+     * statement was not issued from a service (a startup loader, a scheduled flush).
+     */
+    private static String caller() {
+        final List<StackWalker.StackFrame> frames = STACK_WALKER.walk(stream -> stream.filter(SqlStatementLog::isApplicationFrame).toList());
+        return frames.stream()
+                .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown");
+    }
+
+    private static boolean isApplicationFrame(final StackWalker.StackFrame frame) {
+        final String className = frame.getClassName();
+        return className.startsWith(APPLICATION_PACKAGE) && !className.startsWith(SqlStatementLog.class.getPackageName());
+    }
+
+    /**
+     * Strips the Spring proxy suffix, so statements flushed at commit, when only the proxy frame of the
+     * {@code @Transactional} method is left on the stack, are still attributed to that method.
+     */
+    private static String simpleName(final String className) {
+        final int proxySuffix = className.indexOf("$$");
+        return className.substring(className.lastIndexOf('.') + 1, proxySuffix < 0 ? className.length() : proxySuffix);
+    }
+
+    private String truncate(final String sql) {
+        if (Objects.isNull(sql)) {
+            return "";
+        }
+        return sql.length() <= maxSqlLength ? sql : sql.substring(0, maxSqlLength) + "...";
+    }
+}
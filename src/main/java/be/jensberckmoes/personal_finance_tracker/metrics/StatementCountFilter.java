@@ -0,0 +1,37 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class StatementCountFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_PER_REQUEST_METRIC = "hibernate.statements.per.request";
+
+    private final StatementCountingInspector statementCountingInspector;
+    private final DistributionSummary statementsPerRequest;
+
+    public StatementCountFilter(final StatementCountingInspector statementCountingInspector, final MeterRegistry meterRegistry) {
+        this.statementCountingInspector = statementCountingInspector;
+        this.statementsPerRequest = DistributionSummary.builder(STATEMENTS_PER_REQUEST_METRIC)
+                .description("SQL statements prepared while serving one HTTP request")
+                .baseUnit("statements")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCountingInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementsPerRequest.record(statementCountingInspector.stop());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package be.jensberckmoes.personal_finance_tracker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ * Statements prepared outside such a window are passed through untouched.
+ */
+@Component
+public class StatementCountingInspector implements StatementInspector {
+    private final ThreadLocal<int[]> counter = new ThreadLocal<>();
+
+    @Override
+    public String inspect(final String sql) {
+        final int[] count = counter.get();
+        if (Objects.nonNull(count)) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        counter.set(new int[1]);
+    }
+
+    public int stop() {
+        final int[] count = counter.get();
+        counter.remove();
+        return Objects.isNull(count) ? 0 : count[0];
+    }
+}
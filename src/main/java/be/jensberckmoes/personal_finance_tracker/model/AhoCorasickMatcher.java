@@ -0,0 +1,155 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over a fixed set of keywords. {@link #forEachMatch(CharSequence, MatchSink)} reports
+ * every occurrence of every keyword in a single pass over the text, so the cost is linear in the length of the text
+ * plus the number of matches, however many keywords there are.
+ *
+ * <p>The trie is stored in flat arrays: the outgoing edges of node {@code n} are
+ * {@code edgeChars/edgeTargets[edgeStart[n] .. edgeStart[n + 1])}, sorted by character. {@code keywordAt[n]} is the
+ * keyword that ends at {@code n} or -1, and {@code outputLink[n]} is the nearest node on the failure chain that ends a
+ * keyword. A keyword that occurs twice in the input is reported under its first index.
+ */
+public final class AhoCorasickMatcher {
+    public static final AhoCorasickMatcher EMPTY = compile(List.of());
+
+    @FunctionalInterface
+    public interface MatchSink {
+        void accept(int keyword, int start, int end);
+    }
+
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] keywordAt;
+    private final int[] outputLink;
+    private final int[] keywordLengths;
+
+    private AhoCorasickMatcher(final int[] edgeStart, final char[] edgeChars, final int[] edgeTargets, final int[] fail,
+                               final int[] keywordAt, final int[] outputLink, final int[] keywordLengths) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.keywordAt = keywordAt;
+        this.outputLink = outputLink;
+        this.keywordLengths = keywordLengths;
+    }
+
+    public static AhoCorasickMatcher compile(final List<String> keywords) {
+        final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        final List<Integer> ends = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ends.add(-1);
+        final int[] keywordLengths = new int[keywords.size()];
+        for (int k = 0; k < keywords.size(); k++) {
+            final String keyword = keywords.get(k);
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keywords cannot be empty.");
+            }
+            keywordLengths[k] = keyword.length();
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                final Integer next = children.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    children.add(new TreeMap<>());
+                    ends.add(-1);
+                    children.get(node).put(keyword.charAt(i), children.size() - 1);
+                    node = children.size() - 1;
+                } else {
+                    node = next;
+                }
+            }
+            if (ends.get(node) == -1) {
+                ends.set(node, k);
+            }
+        }
+
+        final int nodes = children.size();
+        final int[] edgeStart = new int[nodes + 1];
+        for (int n = 0; n < nodes; n++) {
+            edgeStart[n + 1] = edgeStart[n] + children.get(n).size();
+        }
+        final char[] edgeChars = new char[edgeStart[nodes]];
+        final int[] edgeTargets = new int[edgeStart[nodes]];
+        for (int n = 0; n < nodes; n++) {
+            int e = edgeStart[n];
+            for (final Map.Entry<Character, Integer> edge : children.get(n).entrySet()) {
+                edgeChars[e] = edge.getKey();
+                edgeTargets[e++] = edge.getValue();
+            }
+        }
+        final int[] keywordAt = ends.stream().mapToInt(Integer::intValue).toArray();
+        final int[] fail = new int[nodes];
+        final int[] outputLink = new int[nodes];
+        Arrays.fill(outputLink, -1);
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            queue.add(edgeTargets[e]);
+        }
+        final AhoCorasickMatcher partial = new AhoCorasickMatcher(edgeStart, edgeChars, edgeTargets, fail, keywordAt, outputLink, keywordLengths);
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                final int child = edgeTargets[e];
+                fail[child] = partial.step(fail[node], edgeChars[e]);
+                outputLink[child] = keywordAt[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        return partial;
+    }
+
+    public int keywordCount() {
+        return keywordLengths.length;
+    }
+
+    public void forEachMatch(final CharSequence text, final MatchSink sink) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            for (int node = keywordAt[state] >= 0 ? state : outputLink[state]; node != -1; node = outputLink[node]) {
+                final int keyword = keywordAt[node];
+                sink.accept(keyword, i + 1 - keywordLengths[keyword], i + 1);
+            }
+        }
+    }
+
+    private int step(final int from, final char c) {
+        int state = from;
+        while (true) {
+            final int next = edge(state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int edge(final int node, final char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (edgeChars[mid] < c) {
+                low = mid + 1;
+            } else if (edgeChars[mid] > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
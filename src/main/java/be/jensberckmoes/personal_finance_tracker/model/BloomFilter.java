@@ -0,0 +1,103 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over 64-bit keys that are already well distributed, such as {@link TransactionFingerprint}s. The
+ * probe positions are derived by double hashing the key with a mixed copy of itself. Bits are set with CAS, so
+ * {@link #put(long)} and {@link #mightContain(long)} can be called concurrently without locking.
+ */
+public final class BloomFilter {
+    private static final int FORMAT_VERSION = 1;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(final AtomicLongArray words, final int hashFunctions) {
+        this.words = words;
+        this.bitSize = (long) words.length() * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Sizes a filter for {@code expectedInsertions} keys at the given false-positive probability.
+     */
+    public static BloomFilter create(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive and the probability between 0 and 1.");
+        }
+        final double ln2 = Math.log(2);
+        final long bits = Math.max(Long.SIZE, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2)));
+        final long wordCount = Math.min((bits + Long.SIZE - 1) / Long.SIZE, Integer.MAX_VALUE - 8);
+        final int hashFunctions = (int) Math.max(1, Math.round((double) wordCount * Long.SIZE / expectedInsertions * ln2));
+        return new BloomFilter(new AtomicLongArray((int) wordCount), hashFunctions);
+    }
+
+    public void put(final long key) {
+        final long second = mix(key) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            final long bit = Math.floorMod(key + i * second, bitSize);
+            final int word = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(final long key) {
+        final long second = mix(key) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            final long bit = Math.floorMod(key + i * second, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public void writeTo(final DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(hashFunctions);
+        out.writeInt(words.length());
+        for (int i = 0; i < words.length(); i++) {
+            out.writeLong(words.get(i));
+        }
+    }
+
+    public static BloomFilter readFrom(final DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported bloom filter format.");
+        }
+        final int hashFunctions = in.readInt();
+        final int wordCount = in.readInt();
+        if (hashFunctions < 1 || wordCount < 1) {
+            throw new IOException("Corrupt bloom filter header.");
+        }
+        final AtomicLongArray words = new AtomicLongArray(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            words.set(i, in.readLong());
+        }
+        return new BloomFilter(words, hashFunctions);
+    }
+
+    private static long mix(final long key) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
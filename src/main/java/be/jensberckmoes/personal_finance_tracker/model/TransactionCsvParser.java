@@ -0,0 +1,122 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidCsvLineException;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Parses bank statement lines in the column order {@code date,amount,type,method,categoryId,description}.
+ * Fields may be wrapped in double quotes, with {@code ""} as an escaped quote.
+ */
+@Component
+public class TransactionCsvParser {
+    private static final int COLUMN_COUNT = 6;
+    private static final String HEADER_PREFIX = "date";
+
+    public boolean isHeader(final String line) {
+        return Objects.nonNull(line) && line.stripLeading().regionMatches(true, 0, HEADER_PREFIX, 0, HEADER_PREFIX.length());
+    }
+
+    public TransactionRequestDto parse(final String line) {
+        if (Objects.isNull(line) || line.isBlank()) {
+            throw new InvalidCsvLineException("Line cannot be blank.");
+        }
+        final List<String> columns = split(line);
+        if (columns.size() != COLUMN_COUNT) {
+            throw new InvalidCsvLineException("Expected " + COLUMN_COUNT + " columns but found " + columns.size() + ".");
+        }
+        return TransactionRequestDto.builder()
+                .date(parseDate(columns.get(0)))
+                .amount(parseAmount(columns.get(1)))
+                .type(parseEnum(TransactionType.class, columns.get(2)))
+                .method(parseEnum(TransactionMethod.class, columns.get(3)))
+                .categoryId(parseCategoryId(columns.get(4)))
+                .description(columns.get(5).isBlank() ? null : columns.get(5))
+                .build();
+    }
+
+    private static LocalDateTime parseDate(final String value) {
+        if (value.isBlank()) {
+            return null;
+        }
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (final DateTimeParseException e) {
+            throw new InvalidCsvLineException("Invalid date '" + value + "'.");
+        }
+    }
+
+    private static BigDecimal parseAmount(final String value) {
+        if (value.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (final NumberFormatException e) {
+            throw new InvalidCsvLineException("Invalid amount '" + value + "'.");
+        }
+    }
+
+    private static Long parseCategoryId(final String value) {
+        if (value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (final NumberFormatException e) {
+            throw new InvalidCsvLineException("Invalid category id '" + value + "'.");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(final Class<E> type, final String value) {
+        if (value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidCsvLineException("Invalid " + type.getSimpleName() + " '" + value + "'.");
+        }
+    }
+
+    private static List<String> split(final String line) {
+        final List<String> columns = new ArrayList<>(COLUMN_COUNT);
+        final StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString().strip());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidCsvLineException("Unterminated quoted field.");
+        }
+        columns.add(current.toString().strip());
+        return columns;
+    }
+}
@@ -0,0 +1,39 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+@Component
+public class TransactionCursorCodec {
+    private static final char SEPARATOR = '|';
+
+    public record Position(LocalDateTime date, Long id) {
+    }
+
+    public String encode(final LocalDateTime date, final Long id) {
+        final String raw = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Position decode(final String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            throw new InvalidInputException("Cursor cannot be blank.");
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidInputException("Invalid cursor '" + cursor + "'.");
+            }
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidInputException("Invalid cursor '" + cursor + "'.");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Stable 64-bit fingerprint of the fields a bank statement repeats verbatim: date, amount, method and description.
+ * Amounts are compared by value ({@code 12.5} equals {@code 12.50}) and descriptions are normalised, so re-importing
+ * an overlapping statement produces the same fingerprint for the same booking. The value is the first eight bytes of a
+ * SHA-256 digest and therefore does not change between JVMs or releases.
+ */
+public final class TransactionFingerprint {
+    private static final char SEPARATOR = '\u001F';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TransactionFingerprint() {
+    }
+
+    public static long of(final LocalDateTime date, final BigDecimal amount, final TransactionMethod method, final String description) {
+        final String canonical = (Objects.isNull(date) ? "" : date.toString()) + SEPARATOR
+                + (Objects.isNull(amount) ? "" : amount.stripTrailingZeros().toPlainString()) + SEPARATOR
+                + (Objects.isNull(method) ? "" : method.name()) + SEPARATOR
+                + normalizeDescription(description);
+        return ByteBuffer.wrap(sha256().digest(canonical.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    public static String normalizeDescription(final String description) {
+        if (Objects.isNull(description)) {
+            return "";
+        }
+        final String folded = Normalizer.normalize(description, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
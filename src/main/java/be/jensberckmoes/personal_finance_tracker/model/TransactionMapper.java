@@ -31,6 +31,8 @@ public class TransactionMapper {
                         .method(transactionRequestDto.getMethod())
                         .date(transactionRequestDto.getDate())
                         .description(transactionRequestDto.getDescription())
+                        .fingerprint(TransactionFingerprint.of(transactionRequestDto.getDate(), transactionRequestDto.getAmount(),
+                                transactionRequestDto.getMethod(), transactionRequestDto.getDescription()))
                         .build());
 
     }
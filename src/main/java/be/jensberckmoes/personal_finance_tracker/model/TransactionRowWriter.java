@@ -0,0 +1,114 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Serializes transactions straight onto a {@link Writer} for exports, without building an intermediate DTO per row.
+ * The CSV layout matches the one read by {@link TransactionCsvParser}.
+ */
+@Component
+public class TransactionRowWriter {
+    public static final String CSV_HEADER = "date,amount,type,method,categoryId,description";
+
+    public void writeCsvHeader(final Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+    }
+
+    public void writeCsv(final Writer writer, final Transaction transaction) throws IOException {
+        if (Objects.nonNull(transaction.getDate())) {
+            writer.write(transaction.getDate().toString());
+        }
+        writer.write(',');
+        if (Objects.nonNull(transaction.getAmount())) {
+            writer.write(transaction.getAmount().toPlainString());
+        }
+        writer.write(',');
+        if (Objects.nonNull(transaction.getType())) {
+            writer.write(transaction.getType().name());
+        }
+        writer.write(',');
+        if (Objects.nonNull(transaction.getMethod())) {
+            writer.write(transaction.getMethod().name());
+        }
+        writer.write(',');
+        if (Objects.nonNull(transaction.getCategory())) {
+            writer.write(String.valueOf(transaction.getCategory().getId()));
+        }
+        writer.write(',');
+        if (Objects.nonNull(transaction.getDescription())) {
+            writeCsvField(writer, transaction.getDescription());
+        }
+        writer.write('\n');
+    }
+
+    public void writeNdjson(final Writer writer, final Transaction transaction) throws IOException {
+        writer.write("{\"id\":");
+        writer.write(String.valueOf(transaction.getId()));
+        writer.write(",\"categoryId\":");
+        writer.write(Objects.isNull(transaction.getCategory()) ? "null" : String.valueOf(transaction.getCategory().getId()));
+        writer.write(",\"amount\":");
+        writer.write(Objects.isNull(transaction.getAmount()) ? "null" : transaction.getAmount().toPlainString());
+        writer.write(",\"type\":");
+        writeJsonString(writer, Objects.isNull(transaction.getType()) ? null : transaction.getType().name());
+        writer.write(",\"method\":");
+        writeJsonString(writer, Objects.isNull(transaction.getMethod()) ? null : transaction.getMethod().name());
+        writer.write(",\"date\":");
+        writeJsonString(writer, Objects.isNull(transaction.getDate()) ? null : transaction.getDate().toString());
+        writer.write(",\"description\":");
+        writeJsonString(writer, transaction.getDescription());
+        writer.write("}\n");
+    }
+
+    private static void writeCsvField(final Writer writer, final String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            final char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonString(final Writer writer, final String value) throws IOException {
+        if (Objects.isNull(value)) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
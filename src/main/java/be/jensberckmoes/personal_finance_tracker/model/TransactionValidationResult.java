@@ -0,0 +1,51 @@
+package be.jensberckmoes.personal_finance_tracker.model;
+
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionValidationError;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Mutable, reusable holder for the violations of one validated request. Bulk callers keep one instance per
+ * thread and let the validation {@link #reset()} it per row, so a valid row allocates nothing.
+ */
+public class TransactionValidationResult {
+    private final EnumSet<TransactionValidationError> errors = EnumSet.noneOf(TransactionValidationError.class);
+    private final Set<TransactionValidationError> view = Collections.unmodifiableSet(errors);
+
+    public void reset() {
+        errors.clear();
+    }
+
+    public void add(final TransactionValidationError error) {
+        errors.add(error);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    public boolean has(final TransactionValidationError error) {
+        return errors.contains(error);
+    }
+
+    public Set<TransactionValidationError> getErrors() {
+        return view;
+    }
+
+    public TransactionValidationError first() {
+        return errors.isEmpty() ? null : errors.iterator().next();
+    }
+
+    public String describe() {
+        final StringBuilder description = new StringBuilder();
+        for (final TransactionValidationError error : errors) {
+            if (!description.isEmpty()) {
+                description.append("; ");
+            }
+            description.append(error.name()).append(": ").append(error.getMessage());
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package be.jensberckmoes.personal_finance_tracker.model.entity;
+
+import be.jensberckmoes.personal_finance_tracker.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+
+import java.math.BigDecimal;
+
+/**
+ * Spending limit that applies to {@link #category} in every calendar month.
+ */
+@Entity
+@Table(name = "budget")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Budget {
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "categoryId", nullable = false, unique = true)
+    private Category category;
+
+    @Column(name = "monthly_limit", nullable = false, precision = 15, scale = 2)
+    private BigDecimal monthlyLimit;
+
+    @TenantId
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+}
@@ -0,0 +1,31 @@
+package be.jensberckmoes.personal_finance_tracker.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last checkpointed state of an in-memory budget spend counter: the highest threshold already announced for the
+ * category that month, so a restart does not repeat the alert, and the spend at that moment for reference.
+ */
+@Entity
+@Table(name = "budget_spend_checkpoint")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BudgetSpendCheckpoint {
+    @EmbeddedId
+    private BudgetSpendKey id;
+
+    @Column(name = "spent_cents", nullable = false)
+    private Long spentCents;
+
+    @Column(name = "notified_threshold", nullable = false)
+    private Integer notifiedThreshold;
+}
@@ -0,0 +1,26 @@
+package be.jensberckmoes.personal_finance_tracker.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Embeddable
+public class BudgetSpendKey implements Serializable {
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "period", nullable = false)
+    private Integer period;
+}
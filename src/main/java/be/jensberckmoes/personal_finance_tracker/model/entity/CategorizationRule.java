@@ -0,0 +1,39 @@
+package be.jensberckmoes.personal_finance_tracker.model.entity;
+
+import be.jensberckmoes.personal_finance_tracker.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+
+/**
+ * Assigns {@link #category} to transactions whose description contains {@link #keyword} as a whole word. When several
+ * rules match, the highest {@link #priority} wins, then the longest keyword.
+ */
+@Entity
+@Table(name = "categorization_rule")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CategorizationRule {
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "keyword", nullable = false, length = 100)
+    private String keyword;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "categoryId", nullable = false)
+    private Category category;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @TenantId
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+}
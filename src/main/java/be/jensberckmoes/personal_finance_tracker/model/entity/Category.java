@@ -1,5 +1,6 @@
 package be.jensberckmoes.personal_finance_tracker.model.entity;
 
+import be.jensberckmoes.personal_finance_tracker.id.SnowflakeId;
 import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -9,22 +10,27 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.TenantId;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "category")
+@Table(name = "category", uniqueConstraints = @UniqueConstraint(name = "uk_category_owner_name", columnNames = {"owner_id", "name"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @NotBlank(message = "Category name cannot be blank")
     @Size(max = 50, message = "Category name cannot exceed 50 characters")
-    @Column(name = "name", nullable = false, unique = true, length = 50)
+    @Column(name = "name", nullable = false, length = 50)
     private String name;
 
     @Size(max = 255, message = "Description cannot exceed 255 characters")
@@ -40,4 +46,8 @@ public class Category {
     @Size(max = 100, message = "Category Group Type cannot exceed 100 characters")
     @Column(name = "category_group_type", nullable = false, length = 100)
     private String categoryGroupType;
+
+    @TenantId
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package be.jensberckmoes.personal_finance_tracker.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "monthly_transaction_rollup")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MonthlyTransactionRollup {
+    @EmbeddedId
+    private MonthlyTransactionRollupKey id;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
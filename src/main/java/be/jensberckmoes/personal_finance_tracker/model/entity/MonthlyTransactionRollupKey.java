@@ -0,0 +1,53 @@
+package be.jensberckmoes.personal_finance_tracker.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Embeddable
+public class MonthlyTransactionRollupKey implements Serializable {
+    public static final long NO_CATEGORY = 0L;
+    /**
+     * Stands in for a missing type or method. Rows without a type, which validation rejects today, all share
+     * this bucket; totals are always asked per type, so they never mix into income or expense figures.
+     */
+    public static final String NONE = "NONE";
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "period", nullable = false)
+    private Integer period;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "type", nullable = false, length = 20)
+    private String type;
+
+    @Column(name = "method", nullable = false, length = 20)
+    private String method;
+
+    public static int toPeriod(final YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public static int toPeriod(final Temporal temporal) {
+        return toPeriod(YearMonth.from(temporal));
+    }
+
+    public static YearMonth fromPeriod(final int period) {
+        return YearMonth.of(period / 100, period % 100);
+    }
+}
@@ -1,5 +1,6 @@
 package be.jensberckmoes.personal_finance_tracker.model.entity;
 
+import be.jensberckmoes.personal_finance_tracker.id.SnowflakeId;
 import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
 import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
 import jakarta.persistence.*;
@@ -7,19 +8,26 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_date_id", columnList = "date, id"),
+        @Index(name = "idx_transaction_category_date_id", columnList = "categoryId, date, id"),
+        @Index(name = "idx_transaction_fingerprint", columnList = "fingerprint"),
+        @Index(name = "idx_transaction_owner_date_id", columnList = "owner_id, date, id"),
+        @Index(name = "uk_transaction_journal_sequence", columnList = "journal_sequence", unique = true)
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,4 +49,14 @@ public class Transaction {
 
     @Column(name = "description")
     private String description;
+
+    @Column(name = "fingerprint")
+    private Long fingerprint;
+
+    @Column(name = "journal_sequence")
+    private Long journalSequence;
+
+    @TenantId
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package be.jensberckmoes.personal_finance_tracker.model.enums;
+
+public enum ExportFormat {
+    CSV, NDJSON
+}
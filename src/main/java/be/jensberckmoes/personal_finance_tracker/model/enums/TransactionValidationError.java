@@ -0,0 +1,47 @@
+package be.jensberckmoes.personal_finance_tracker.model.enums;
+
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidTransactionAmountException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidTransactionDateException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidTransactionDescriptionException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidTransactionMethodException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidTransactionTypeException;
+import be.jensberckmoes.personal_finance_tracker.exception.NullParameterException;
+import be.jensberckmoes.personal_finance_tracker.exception.NullTransactionAmountException;
+import be.jensberckmoes.personal_finance_tracker.exception.NullTransactionDateException;
+import be.jensberckmoes.personal_finance_tracker.exception.NullTransactionTypeException;
+
+import java.util.function.Function;
+
+/**
+ * Violations reported by the transaction validation, in the order they are checked. The constant names are
+ * the stable error codes; {@link #toException()} maps a violation back to the exception the throwing API raises.
+ */
+public enum TransactionValidationError {
+    REQUEST_NULL("TransactionCreateDto cannot be null.", NullParameterException::new),
+    AMOUNT_NULL("Amount cannot be null.", message -> new NullTransactionAmountException()),
+    AMOUNT_PRECISION_EXCEEDED("Amount precision cannot exceed 10 digits.", InvalidTransactionAmountException::new),
+    AMOUNT_SCALE_INVALID("Amount scale must be 2.", InvalidTransactionAmountException::new),
+    AMOUNT_NEGATIVE("Amount cannot be negative.", InvalidTransactionAmountException::new),
+    TYPE_NULL("Type cannot be null.", message -> new NullTransactionTypeException()),
+    TYPE_TOO_LONG("Payment method cannot exceed 100 characters.", InvalidTransactionTypeException::new),
+    METHOD_TOO_LONG("Payment method cannot exceed 100 characters.", InvalidTransactionMethodException::new),
+    DATE_NULL("Date cannot be null.", message -> new NullTransactionDateException()),
+    DATE_IN_FUTURE("Transaction date cannot be in the future.", InvalidTransactionDateException::new),
+    DESCRIPTION_TOO_LONG("Description cannot exceed 255 characters.", InvalidTransactionDescriptionException::new);
+
+    private final String message;
+    private final Function<String, RuntimeException> exceptionFactory;
+
+    TransactionValidationError(final String message, final Function<String, RuntimeException> exceptionFactory) {
+        this.message = message;
+        this.exceptionFactory = exceptionFactory;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public RuntimeException toException() {
+        return exceptionFactory.apply(message);
+    }
+}
@@ -0,0 +1,39 @@
+package be.jensberckmoes.personal_finance_tracker.repository;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.Budget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    interface BudgetLimitView {
+        Long getCategoryId();
+
+        BigDecimal getMonthlyLimit();
+    }
+
+    interface OwnedBudgetLimitView extends BudgetLimitView {
+        String getOwnerId();
+    }
+
+    @Query("select b from Budget b where b.category.id = :categoryId")
+    Optional<Budget> findByCategoryId(@Param("categoryId") final Long categoryId);
+
+    @Query("select b.category.id as categoryId, b.monthlyLimit as monthlyLimit from Budget b")
+    List<BudgetLimitView> findAllLimits();
+
+    /**
+     * Limits of every owner, for the budget tracker that keys its counters by owner. A native query, since JPQL on
+     * {@link Budget} only ever sees the bound owner.
+     */
+    @Query(value = "select b.owner_id as ownerId, b.category_id as categoryId, b.monthly_limit as monthlyLimit from budget b",
+            nativeQuery = true)
+    List<OwnedBudgetLimitView> findLimitsOfAllOwners();
+}
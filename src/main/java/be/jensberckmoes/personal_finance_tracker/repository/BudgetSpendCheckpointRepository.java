@@ -0,0 +1,10 @@
+package be.jensberckmoes.personal_finance_tracker.repository;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendCheckpoint;
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BudgetSpendCheckpointRepository extends JpaRepository<BudgetSpendCheckpoint, BudgetSpendKey> {
+}
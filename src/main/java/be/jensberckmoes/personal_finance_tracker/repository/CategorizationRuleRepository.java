@@ -0,0 +1,30 @@
+package be.jensberckmoes.personal_finance_tracker.repository;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.CategorizationRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategorizationRuleRepository extends JpaRepository<CategorizationRule, Long> {
+
+    interface RuleView {
+        String getOwnerId();
+
+        String getKeyword();
+
+        Long getCategoryId();
+
+        int getPriority();
+    }
+
+    /**
+     * Rules of every owner, read natively so the tenant filter does not apply; the categorizer compiles one matcher
+     * per owner from them.
+     */
+    @Query(value = "select r.owner_id as ownerId, r.keyword as keyword, r.category_id as categoryId, r.priority as priority " +
+            "from categorization_rule r", nativeQuery = true)
+    List<RuleView> findRulesOfAllOwners();
+}
@@ -1,12 +1,21 @@
 package be.jensberckmoes.personal_finance_tracker.repository;
 
 import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    String CATEGORY_BY_NAME_CACHE_REGION = "category-by-name";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CATEGORY_BY_NAME_CACHE_REGION)
+    })
     Optional<Category> findByNameIgnoreCase(final String name);
 }
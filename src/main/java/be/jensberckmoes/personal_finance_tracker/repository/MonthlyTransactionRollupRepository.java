@@ -0,0 +1,93 @@
+package be.jensberckmoes.personal_finance_tracker.repository;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollup;
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollupKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface MonthlyTransactionRollupRepository extends JpaRepository<MonthlyTransactionRollup, MonthlyTransactionRollupKey> {
+
+    interface MonthlyTotalView {
+        Integer getPeriod();
+
+        BigDecimal getTotalAmount();
+
+        Long getTransactionCount();
+    }
+
+    interface CategorySpendView {
+        String getOwnerId();
+
+        Long getCategoryId();
+
+        Integer getPeriod();
+
+        BigDecimal getTotalAmount();
+    }
+
+    @Modifying
+    @Query(value = "insert into monthly_transaction_rollup (owner_id, period, category_id, type, method, total_amount, transaction_count) " +
+            "values (:ownerId, :period, :categoryId, :type, :method, :amount, :count)", nativeQuery = true)
+    int insert(@Param("ownerId") final String ownerId,
+               @Param("period") final int period,
+               @Param("categoryId") final long categoryId,
+               @Param("type") final String type,
+               @Param("method") final String method,
+               @Param("amount") final BigDecimal amount,
+               @Param("count") final long count);
+
+    @Modifying
+    @Query("insert into MonthlyTransactionRollup (id.ownerId, id.period, id.categoryId, id.type, id.method, totalAmount, transactionCount) " +
+            "values (:ownerId, :period, :categoryId, :type, :method, :amount, :count) " +
+            "on conflict(id) do update set totalAmount = totalAmount + excluded.totalAmount, " +
+            "transactionCount = transactionCount + excluded.transactionCount")
+    int upsert(@Param("ownerId") final String ownerId,
+               @Param("period") final int period,
+               @Param("categoryId") final long categoryId,
+               @Param("type") final String type,
+               @Param("method") final String method,
+               @Param("amount") final BigDecimal amount,
+               @Param("count") final long count);
+
+    @Query("select r.id.period as period, sum(r.totalAmount) as totalAmount, sum(r.transactionCount) as transactionCount " +
+            "from MonthlyTransactionRollup r " +
+            "where r.id.ownerId = :ownerId " +
+            "and r.id.period between :fromPeriod and :toPeriod " +
+            "and (:categoryId is null or r.id.categoryId = :categoryId) " +
+            "and r.id.type = :type " +
+            "and (:method is null or r.id.method = :method) " +
+            "group by r.id.period order by r.id.period")
+    List<MonthlyTotalView> sumByPeriod(@Param("ownerId") final String ownerId,
+                                       @Param("fromPeriod") final int fromPeriod,
+                                       @Param("toPeriod") final int toPeriod,
+                                       @Param("categoryId") final Long categoryId,
+                                       @Param("type") final String type,
+                                       @Param("method") final String method);
+
+    /**
+     * Totals per owner, category and period across every owner, for the budget tracker's startup seed.
+     */
+    @Query("select r.id.ownerId as ownerId, r.id.categoryId as categoryId, r.id.period as period, sum(r.totalAmount) as totalAmount " +
+            "from MonthlyTransactionRollup r " +
+            "where r.id.type = :type and r.id.categoryId <> :noCategory " +
+            "group by r.id.ownerId, r.id.categoryId, r.id.period")
+    List<CategorySpendView> sumByCategoryAndPeriod(@Param("type") final String type,
+                                                   @Param("noCategory") final long noCategory);
+
+    @Modifying
+    @Query("delete from MonthlyTransactionRollup r where r.id.ownerId = :ownerId")
+    int deleteByOwner(@Param("ownerId") final String ownerId);
+
+    /**
+     * Every owner that has rollups or transactions, so a full rebuild also clears owners whose transactions are gone.
+     */
+    @Query(value = "select owner_id from monthly_transaction_rollup union select owner_id from transaction", nativeQuery = true)
+    List<String> findOwnerIds();
+}
@@ -0,0 +1,24 @@
+package be.jensberckmoes.personal_finance_tracker.repository;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset pages of {@link TransactionResponseDto}s, newest first. A {@code null} filter matches every row.
+ */
+public interface TransactionPageQueries {
+    List<TransactionResponseDto> findLatestResponses(final Long categoryId, final TransactionType type,
+                                                     final TransactionMethod method, final Limit limit);
+
+    /**
+     * The page that follows the row at {@code (date, id)}.
+     */
+    List<TransactionResponseDto> findLatestResponsesBefore(final LocalDateTime date, final Long id, final Long categoryId,
+                                                           final TransactionType type, final TransactionMethod method,
+                                                           final Limit limit);
+}
@@ -0,0 +1,80 @@
+package be.jensberckmoes.personal_finance_tracker.repository;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the page query for the filters that are actually set, so the statement holds no
+ * {@code (:x is null or column = :x)} predicates for the optimizer to plan around. The position is written as
+ * {@code t.date <= :date and (t.date < :date or t.id < :id)}: the first conjunct alone is a range on the
+ * {@code (owner_id, date, id)} index, or on {@code (category_id, date, id)} when a category is given, which is read
+ * backwards in sort order and left after {@code limit} rows; the second only drops the already returned rows that
+ * share the cursor's date. MySQL does not reliably plan a range for a bare {@code date < :date or (...)} disjunction
+ * or for a row-value comparison, so the leading range is spelled out. Type and method are not indexed and are
+ * checked on the rows of that range.
+ */
+@RequiredArgsConstructor
+class TransactionPageQueriesImpl implements TransactionPageQueries {
+    private static final String RESPONSE_SELECT = "select new be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto(" +
+            "t.id, c.id, t.amount, t.type, t.method, t.date, t.description) from Transaction t left join t.category c ";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponseDto> findLatestResponses(final Long categoryId, final TransactionType type,
+                                                            final TransactionMethod method, final Limit limit) {
+        return findPage(null, null, categoryId, type, method, limit);
+    }
+
+    @Override
+    public List<TransactionResponseDto> findLatestResponsesBefore(final LocalDateTime date, final Long id, final Long categoryId,
+                                                                  final TransactionType type, final TransactionMethod method,
+                                                                  final Limit limit) {
+        return findPage(Objects.requireNonNull(date), Objects.requireNonNull(id), categoryId, type, method, limit);
+    }
+
+    private List<TransactionResponseDto> findPage(final LocalDateTime date, final Long id, final Long categoryId,
+                                                  final TransactionType type, final TransactionMethod method,
+                                                  final Limit limit) {
+        final StringBuilder jpql = new StringBuilder(RESPONSE_SELECT)
+                .append(Objects.isNull(date)
+                        ? "where t.date is not null"
+                        : "where t.date <= :date and (t.date < :date or t.id < :id)");
+        if (Objects.nonNull(categoryId)) {
+            jpql.append(" and t.category.id = :categoryId");
+        }
+        if (Objects.nonNull(type)) {
+            jpql.append(" and t.type = :type");
+        }
+        if (Objects.nonNull(method)) {
+            jpql.append(" and t.method = :method");
+        }
+        jpql.append(" order by t.date desc, t.id desc");
+        final TypedQuery<TransactionResponseDto> query = entityManager.createQuery(jpql.toString(), TransactionResponseDto.class);
+        if (Objects.nonNull(date)) {
+            query.setParameter("date", date).setParameter("id", id);
+        }
+        if (Objects.nonNull(categoryId)) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (Objects.nonNull(type)) {
+            query.setParameter("type", type);
+        }
+        if (Objects.nonNull(method)) {
+            query.setParameter("method", method);
+        }
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,10 +1,151 @@
 package be.jensberckmoes.personal_finance_tracker.repository;
 
 import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionPageQueries {
+    String STREAM_FETCH_SIZE = "1000";
+
+    interface MonthlyAggregateView {
+        Integer getYear();
+
+        Integer getMonth();
+
+        Long getCategoryId();
+
+        TransactionType getType();
+
+        TransactionMethod getMethod();
+
+        BigDecimal getTotalAmount();
+
+        Long getTransactionCount();
+    }
+
+    interface ColumnRowView {
+        Long getId();
+
+        BigDecimal getAmount();
+
+        LocalDateTime getDate();
+
+        TransactionType getType();
+
+        TransactionMethod getMethod();
+
+        Long getCategoryId();
+    }
+
+    interface PeriodTotalView {
+        BigDecimal getTotalAmount();
+
+        Long getTransactionCount();
+    }
+
+    interface CategoryPeriodTotalView extends PeriodTotalView {
+        Long getCategoryId();
+    }
+
+    interface SearchRowView {
+        Long getId();
+
+        String getDescription();
+
+        LocalDateTime getDate();
+
+        Long getCategoryId();
+    }
+
+    @Query("select year(t.date) as year, month(t.date) as month, c.id as categoryId, t.type as type, t.method as method, " +
+            "sum(t.amount) as totalAmount, count(t) as transactionCount " +
+            "from Transaction t left join t.category c " +
+            "where t.date is not null and t.amount is not null " +
+            "group by year(t.date), month(t.date), c.id, t.type, t.method")
+    List<MonthlyAggregateView> aggregateByMonth();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t from Transaction t order by t.date, t.id")
+    Stream<Transaction> streamAllOrderedByDate();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t.id as id, t.amount as amount, t.date as date, t.type as type, t.method as method, " +
+            "c.id as categoryId from Transaction t left join t.category c")
+    Stream<ColumnRowView> streamColumnRows();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t.id as id, t.description as description, t.date as date, c.id as categoryId " +
+            "from Transaction t left join t.category c where t.description is not null order by t.id")
+    Stream<SearchRowView> streamSearchRows();
+
+    @Query("select distinct t.fingerprint from Transaction t where t.fingerprint in :fingerprints")
+    List<Long> findExistingFingerprints(@Param("fingerprints") final Collection<Long> fingerprints);
+
+    @Query("select t.journalSequence from Transaction t where t.journalSequence in :sequences")
+    List<Long> findExistingJournalSequences(@Param("sequences") final Collection<Long> sequences);
+
+    /**
+     * Totals of the bound owner's transactions in {@code [from, until)}, for owners the columnar store does not hold.
+     * The owner and the date bounds form a range on the {@code (owner_id, date, id)} index; the optional filters are
+     * only checked on the rows inside it.
+     */
+    @Query("select coalesce(sum(t.amount), 0) as totalAmount, count(t) as transactionCount from Transaction t " +
+            "where t.date >= :from and t.date < :until and t.amount is not null " +
+            "and (:type is null or t.type = :type) and (:method is null or t.method = :method) " +
+            "and (:categoryId is null or t.category.id = :categoryId)")
+    PeriodTotalView sumBetween(@Param("from") final LocalDateTime from,
+                               @Param("until") final LocalDateTime until,
+                               @Param("type") final TransactionType type,
+                               @Param("method") final TransactionMethod method,
+                               @Param("categoryId") final Long categoryId);
+
+    @Query("select t.category.id as categoryId, sum(t.amount) as totalAmount, count(t) as transactionCount from Transaction t " +
+            "where t.date >= :from and t.date < :until and t.amount is not null and t.category is not null " +
+            "and (:type is null or t.type = :type) and (:method is null or t.method = :method) " +
+            "group by t.category.id order by t.category.id")
+    List<CategoryPeriodTotalView> sumByCategoryBetween(@Param("from") final LocalDateTime from,
+                                                       @Param("until") final LocalDateTime until,
+                                                       @Param("type") final TransactionType type,
+                                                       @Param("method") final TransactionMethod method);
+
+    /**
+     * Fingerprints of every owner, for the shared dedup filter; matches are confirmed per owner by
+     * {@link #findExistingFingerprints}. Native, so the tenant filter does not apply, as for the two queries below.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = "select t.fingerprint from transaction t where t.id > :afterId and t.fingerprint is not null", nativeQuery = true)
+    Stream<Long> streamFingerprintsOfAllOwnersAfter(@Param("afterId") final long afterId);
+
+    @Query(value = "select coalesce(max(t.id), 0) from transaction t", nativeQuery = true)
+    long findMaxIdOfAllOwners();
 
+    @Query(value = "select count(*) from transaction", nativeQuery = true)
+    long countAllOwners();
 }
@@ -0,0 +1,15 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetStatusDto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface BudgetService {
+    BudgetStatusDto setBudget(final BudgetRequestDto budgetRequestDto);
+
+    BudgetStatusDto getStatus(final Long categoryId, final YearMonth month);
+
+    List<BudgetStatusDto> getStatuses(final YearMonth month);
+}
@@ -0,0 +1,43 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.CacheRegionStatisticsDto;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class CacheStatisticsService {
+    private final Statistics statistics;
+
+    public CacheStatisticsService(final EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<CacheRegionStatisticsDto> getCategoryCacheStatistics() {
+        return List.of(
+                toDto(Category.class.getName(), statistics.getDomainDataRegionStatistics(Category.class.getName())),
+                toDto(CategoryRepository.CATEGORY_BY_NAME_CACHE_REGION, statistics.getQueryRegionStatistics(CategoryRepository.CATEGORY_BY_NAME_CACHE_REGION)));
+    }
+
+    private static CacheRegionStatisticsDto toDto(final String regionName, final CacheRegionStatistics regionStatistics) {
+        if (Objects.isNull(regionStatistics)) {
+            return CacheRegionStatisticsDto.builder().regionName(regionName).build();
+        }
+        final long hits = regionStatistics.getHitCount();
+        final long misses = regionStatistics.getMissCount();
+        return CacheRegionStatisticsDto.builder()
+                .regionName(regionName)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(regionStatistics.getPutCount())
+                .hitRatio(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.CategorizationRuleRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategorizationRuleResponseDto;
+
+public interface CategorizationRuleService {
+    CategorizationRuleResponseDto createRule(final CategorizationRuleRequestDto categorizationRuleRequestDto);
+
+    void deleteRule(final Long id);
+}
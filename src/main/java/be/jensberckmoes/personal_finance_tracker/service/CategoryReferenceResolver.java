@@ -0,0 +1,98 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hands out {@link Category} references for the transaction write path. Ids that are known to exist are
+ * answered with a lazy reference proxy, so attaching the foreign key costs no SELECT; unknown ids are
+ * looked up once and remembered in a bounded LRU set. Entries are keyed by owner as well, because a reference proxy
+ * skips the tenant filter and must never attach another owner's category.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryReferenceResolver {
+    private static final int MAX_KNOWN_IDS = 10_000;
+
+    private final CategoryRepository categoryRepository;
+    private final Map<OwnedId, Boolean> knownIds = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<OwnedId, Boolean> eldest) {
+            return size() > MAX_KNOWN_IDS;
+        }
+    });
+
+    public Optional<Category> resolve(final Long categoryId) {
+        if (Objects.isNull(categoryId)) {
+            return Optional.empty();
+        }
+        if (knownIds.containsKey(OwnedId.of(categoryId))) {
+            return Optional.of(categoryRepository.getReferenceById(categoryId));
+        }
+        final Optional<Category> category = categoryRepository.findById(categoryId);
+        category.ifPresent(found -> register(found.getId()));
+        return category;
+    }
+
+    public Map<Long, Category> resolveAll(final Collection<Long> categoryIds) {
+        final Map<Long, Category> resolved = new HashMap<>();
+        final Set<Long> unknownIds = new LinkedHashSet<>();
+        for (final Long categoryId : categoryIds) {
+            if (Objects.isNull(categoryId) || resolved.containsKey(categoryId)) {
+                continue;
+            }
+            if (knownIds.containsKey(OwnedId.of(categoryId))) {
+                resolved.put(categoryId, categoryRepository.getReferenceById(categoryId));
+            } else {
+                unknownIds.add(categoryId);
+            }
+        }
+        if (!unknownIds.isEmpty()) {
+            for (final Category category : categoryRepository.findAllById(unknownIds)) {
+                register(category.getId());
+                resolved.put(category.getId(), category);
+            }
+        }
+        return resolved;
+    }
+
+    public void register(final Long categoryId) {
+        if (Objects.nonNull(categoryId)) {
+            knownIds.put(OwnedId.of(categoryId), Boolean.TRUE);
+        }
+    }
+
+    public void evict(final Long categoryId) {
+        if (Objects.nonNull(categoryId)) {
+            knownIds.remove(OwnedId.of(categoryId));
+        }
+    }
+
+    /**
+     * Forgets every id remembered for the owner, for when its rows move to another shard.
+     */
+    public void evictOwner(final String ownerId) {
+        synchronized (knownIds) {
+            knownIds.keySet().removeIf(known -> known.ownerId().equals(ownerId));
+        }
+    }
+
+    private record OwnedId(String ownerId, long categoryId) {
+        private static OwnedId of(final Long categoryId) {
+            return new OwnedId(OwnerContext.current(), categoryId);
+        }
+    }
+}
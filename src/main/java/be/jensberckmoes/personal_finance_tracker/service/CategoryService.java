@@ -4,6 +4,10 @@ import be.jensberckmoes.personal_finance_tracker.dto.CategoryRequestDto;
 import be.jensberckmoes.personal_finance_tracker.dto.CategoryResponseDto;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 public interface CategoryService {
     CategoryResponseDto createCategory(@Valid final CategoryRequestDto categoryRequestDto);
+
+    List<CategoryResponseDto> listCategories();
 }
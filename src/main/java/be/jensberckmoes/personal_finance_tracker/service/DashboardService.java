@@ -0,0 +1,9 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.DashboardDto;
+
+import java.time.YearMonth;
+
+public interface DashboardService {
+    DashboardDto getDashboard(final YearMonth month);
+}
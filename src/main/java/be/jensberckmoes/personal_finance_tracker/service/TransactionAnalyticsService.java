@@ -0,0 +1,17 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.AnalyticsTotalDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryTotalDto;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TransactionAnalyticsService {
+    AnalyticsTotalDto getTotal(final LocalDate from, final LocalDate to, final TransactionType type,
+                               final TransactionMethod method, final Long categoryId);
+
+    List<CategoryTotalDto> getTotalsByCategory(final LocalDate from, final LocalDate to, final TransactionType type,
+                                               final TransactionMethod method);
+}
@@ -0,0 +1,120 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadWriteRoutingDataSource;
+import be.jensberckmoes.personal_finance_tracker.event.CategorizationRulesChangedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.AhoCorasickMatcher;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionFingerprint;
+import be.jensberckmoes.personal_finance_tracker.repository.CategorizationRuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Picks a category for a transaction description from the keyword rules in {@code categorization_rule}. Each owner's
+ * keywords are compiled into one {@link AhoCorasickMatcher}, so a description is scanned once regardless of the number
+ * of rules, and never against another owner's rules. Keywords and descriptions are normalised the same way as for
+ * fingerprints and only match whole words.
+ *
+ * <p>The compiled rules of all owners are an immutable snapshot behind a volatile field. {@link #reload()} builds the
+ * next snapshot on the side and swaps it in, so categorisation never waits for a rebuild; rebuilds themselves are
+ * serialised.
+ */
+@Slf4j
+@Service
+public class TransactionCategorizer {
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Map<String, CompiledRules> rulesByOwner = Map.of();
+
+    public TransactionCategorizer(final CategorizationRuleRepository categorizationRuleRepository) {
+        this.categorizationRuleRepository = categorizationRuleRepository;
+    }
+
+    public Optional<Long> categorize(final String ownerId, final String description) {
+        final CompiledRules current = rulesByOwner.getOrDefault(ownerId, CompiledRules.NONE);
+        if (Objects.isNull(description) || current.matcher().keywordCount() == 0) {
+            return Optional.empty();
+        }
+        final String text = TransactionFingerprint.normalizeDescription(description);
+        final int[] best = {-1};
+        current.matcher().forEachMatch(text, (keyword, start, end) -> {
+            if (isWordBoundary(text, start - 1) && isWordBoundary(text, end) && current.isBetter(keyword, best[0])) {
+                best[0] = keyword;
+            }
+        });
+        return best[0] < 0 ? Optional.empty() : Optional.of(current.categoryIds()[best[0]]);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRulesChanged(final CategorizationRulesChangedEvent event) {
+        reload();
+    }
+
+    public void reload() {
+        reloadLock.lock();
+        try {
+            final Map<String, Map<String, CategorizationRuleRepository.RuleView>> byOwner = new HashMap<>();
+            for (final CategorizationRuleRepository.RuleView rule : ReadWriteRoutingDataSource.callOnPrimary(categorizationRuleRepository::findRulesOfAllOwners)) {
+                final String keyword = TransactionFingerprint.normalizeDescription(rule.getKeyword());
+                if (keyword.isEmpty()) {
+                    continue;
+                }
+                byOwner.computeIfAbsent(rule.getOwnerId(), owner -> new LinkedHashMap<>())
+                        .merge(keyword, rule, (kept, candidate) -> candidate.getPriority() > kept.getPriority() ? candidate : kept);
+            }
+            final Map<String, CompiledRules> compiled = new HashMap<>();
+            byOwner.forEach((ownerId, byKeyword) -> compiled.put(ownerId, compile(byKeyword)));
+            rulesByOwner = Map.copyOf(compiled);
+            log.info("Compiled categorization keywords for {} owners.", compiled.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static CompiledRules compile(final Map<String, CategorizationRuleRepository.RuleView> byKeyword) {
+        final List<String> keywords = new ArrayList<>(byKeyword.keySet());
+        final long[] categoryIds = new long[keywords.size()];
+        final int[] priorities = new int[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            final CategorizationRuleRepository.RuleView rule = byKeyword.get(keywords.get(i));
+            categoryIds[i] = rule.getCategoryId();
+            priorities[i] = rule.getPriority();
+        }
+        return new CompiledRules(AhoCorasickMatcher.compile(keywords), categoryIds, priorities,
+                keywords.stream().mapToInt(String::length).toArray());
+    }
+
+    private static boolean isWordBoundary(final String text, final int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private record CompiledRules(AhoCorasickMatcher matcher, long[] categoryIds, int[] priorities, int[] lengths) {
+        private static final CompiledRules NONE = new CompiledRules(AhoCorasickMatcher.EMPTY, new long[0], new int[0], new int[0]);
+
+        private boolean isBetter(final int keyword, final int current) {
+            if (current < 0) {
+                return true;
+            }
+            if (priorities[keyword] != priorities[current]) {
+                return priorities[keyword] > priorities[current];
+            }
+            return lengths[keyword] > lengths[current];
+        }
+    }
+}
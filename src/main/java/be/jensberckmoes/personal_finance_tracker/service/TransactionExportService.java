@@ -0,0 +1,9 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.model.enums.ExportFormat;
+
+import java.io.OutputStream;
+
+public interface TransactionExportService {
+    long exportTransactions(final ExportFormat format, final OutputStream outputStream);
+}
@@ -0,0 +1,9 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionImportReportDto;
+
+import java.nio.file.Path;
+
+public interface TransactionImportService {
+    TransactionImportReportDto importCsv(final Path csvFile);
+}
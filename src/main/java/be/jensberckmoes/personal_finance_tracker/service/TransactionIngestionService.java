@@ -0,0 +1,12 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface TransactionIngestionService {
+    CompletableFuture<TransactionResponseDto> submit(final TransactionRequestDto transactionRequestDto);
+
+    long acknowledge(final TransactionRequestDto transactionRequestDto);
+}
@@ -0,0 +1,9 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionSearchRequestDto;
+
+import java.util.List;
+
+public interface TransactionSearchService {
+    List<Long> search(final TransactionSearchRequestDto transactionSearchRequestDto);
+}
@@ -1,8 +1,17 @@
 package be.jensberckmoes.personal_finance_tracker.service;
 
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionBatchResultDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
 
+import java.util.List;
+
 public interface TransactionService {
     TransactionResponseDto addTransaction(final TransactionRequestDto transactionRequestDto);
+
+    List<TransactionBatchResultDto> addTransactions(final List<TransactionRequestDto> transactionRequestDtos);
+
+    TransactionPageDto listTransactions(final TransactionPageRequestDto transactionPageRequestDto);
 }
@@ -0,0 +1,22 @@
+package be.jensberckmoes.personal_finance_tracker.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.MonthlyTotalDto;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TransactionSummaryService {
+    /**
+     * Totals per month from the rollups. The type is required: amounts are unsigned, so summing incomes and expenses
+     * together would mean nothing. Category and method are optional filters. Only the bound owner's rollups count.
+     */
+    List<MonthlyTotalDto> getMonthlyTotals(final YearMonth from, final YearMonth to, final Long categoryId,
+                                           final TransactionType type, final TransactionMethod method);
+
+    /**
+     * Recomputes the bound owner's rollups from its transactions; other owners' rollups are left alone.
+     */
+    long rebuildMonthlyRollups();
+}
@@ -1,75 +1,84 @@
 package be.jensberckmoes.personal_finance_tracker.service;
 
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
-import be.jensberckmoes.personal_finance_tracker.exception.*;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionValidationResult;
+
+import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+import static be.jensberckmoes.personal_finance_tracker.model.enums.TransactionValidationError.*;
+
+@Service
 public class TransactionValidationService {
     public void validateTransactionCreateDto(final TransactionRequestDto dto) {
-        validateNotNull(dto);
-        validateAmount(dto);
-        validateType(dto);
-        validateMethod(dto);
-        validateDate(dto);
-        validateDescription(dto);
+        final TransactionValidationResult result = validate(dto, new TransactionValidationResult());
+        if (!result.isValid()) {
+            throw result.first().toException();
+        }
     }
 
-    private static void validateNotNull(final TransactionRequestDto dto) {
+    /**
+     * Collects every violation of {@code dto} into {@code result}, which is reset first, without throwing.
+     */
+    public TransactionValidationResult validate(final TransactionRequestDto dto, final TransactionValidationResult result) {
+        result.reset();
         if (Objects.isNull(dto)) {
-            throw new NullParameterException("TransactionCreateDto cannot be null.");
+            result.add(REQUEST_NULL);
+            return result;
         }
+        validateAmount(dto, result);
+        validateType(dto, result);
+        validateMethod(dto, result);
+        validateDate(dto, result);
+        validateDescription(dto, result);
+        return result;
     }
 
-    private static void validateDescription(final TransactionRequestDto dto) {
+    private static void validateDescription(final TransactionRequestDto dto, final TransactionValidationResult result) {
         if (dto.getDescription() != null && dto.getDescription().length() > 255) {
-            throw new InvalidTransactionDescriptionException("Description cannot exceed 255 characters.");
+            result.add(DESCRIPTION_TOO_LONG);
         }
     }
 
-    private static void validateDate(final TransactionRequestDto dto) {
+    private static void validateDate(final TransactionRequestDto dto, final TransactionValidationResult result) {
         if (Objects.isNull(dto.getDate())) {
-            throw new NullTransactionDateException();
-        }
-
-        if (dto.getDate().isAfter(LocalDateTime.now())) {
-            throw new InvalidTransactionDateException("Transaction date cannot be in the future.");
+            result.add(DATE_NULL);
+        } else if (dto.getDate().isAfter(LocalDateTime.now())) {
+            result.add(DATE_IN_FUTURE);
         }
     }
 
-    private static void validateMethod(final TransactionRequestDto dto) {
+    private static void validateMethod(final TransactionRequestDto dto, final TransactionValidationResult result) {
         if (dto.getMethod() != null && dto.getMethod().toString().length() > 100) {
-            throw new InvalidTransactionMethodException("Payment method cannot exceed 100 characters.");
+            result.add(METHOD_TOO_LONG);
         }
     }
 
-    private static void validateType(final TransactionRequestDto dto) {
+    private static void validateType(final TransactionRequestDto dto, final TransactionValidationResult result) {
         if (Objects.isNull(dto.getType())) {
-            throw new NullTransactionTypeException();
-        }
-
-        if (dto.getType().toString().length() > 7) {
-            throw new InvalidTransactionTypeException("Payment method cannot exceed 100 characters.");
+            result.add(TYPE_NULL);
+        } else if (dto.getType().toString().length() > 7) {
+            result.add(TYPE_TOO_LONG);
         }
     }
 
-    private static void validateAmount(final TransactionRequestDto dto) {
-        if (Objects.isNull(dto.getAmount())) {
-            throw new NullTransactionAmountException();
+    private static void validateAmount(final TransactionRequestDto dto, final TransactionValidationResult result) {
+        final BigDecimal amount = dto.getAmount();
+        if (Objects.isNull(amount)) {
+            result.add(AMOUNT_NULL);
+            return;
         }
-
-        if (dto.getAmount().precision() > 10) {
-            throw new InvalidTransactionAmountException("Amount precision cannot exceed 10 digits.");
+        if (amount.precision() > 10) {
+            result.add(AMOUNT_PRECISION_EXCEEDED);
         }
-
-        if (dto.getAmount().scale() != 2) {
-            throw new InvalidTransactionAmountException("Amount scale must be 2.");
+        if (amount.scale() != 2) {
+            result.add(AMOUNT_SCALE_INVALID);
         }
-
-        if (dto.getAmount().compareTo(BigDecimal.ZERO) < 0) {
-            throw new InvalidTransactionAmountException("Amount cannot be negative.");
+        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+            result.add(AMOUNT_NEGATIVE);
         }
     }
 
@@ -0,0 +1,85 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetStatusDto;
+import be.jensberckmoes.personal_finance_tracker.event.BudgetChangedEvent;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Budget;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollupKey;
+import be.jensberckmoes.personal_finance_tracker.repository.BudgetRepository;
+import be.jensberckmoes.personal_finance_tracker.service.BudgetService;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@AllArgsConstructor
+public class BudgetServiceImpl implements BudgetService {
+    private final BudgetRepository budgetRepository;
+    private final CategoryReferenceResolver categoryReferenceResolver;
+    private final BudgetTracker budgetTracker;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    @Transactional
+    public BudgetStatusDto setBudget(final BudgetRequestDto budgetRequestDto) {
+        if (Objects.isNull(budgetRequestDto)) {
+            throw new InvalidInputException("BudgetRequestDto cannot be null.");
+        }
+        if (Objects.isNull(budgetRequestDto.getMonthlyLimit()) || budgetRequestDto.getMonthlyLimit().signum() <= 0) {
+            throw new InvalidInputException("Monthly limit must be positive.");
+        }
+        final Category category = categoryReferenceResolver.resolve(budgetRequestDto.getCategoryId())
+                .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + budgetRequestDto.getCategoryId()));
+        final Budget budget = budgetRepository.findByCategoryId(category.getId())
+                .orElseGet(() -> Budget.builder().category(category).build());
+        budget.setMonthlyLimit(budgetRequestDto.getMonthlyLimit());
+        budgetRepository.save(budget);
+        applicationEventPublisher.publishEvent(new BudgetChangedEvent(OwnerContext.current(), category.getId(), budgetRequestDto.getMonthlyLimit()));
+        final YearMonth month = YearMonth.now();
+        return BudgetStatusDto.builder()
+                .categoryId(category.getId())
+                .month(month)
+                .monthlyLimit(budgetRequestDto.getMonthlyLimit())
+                .spent(spent(category.getId(), month))
+                .build();
+    }
+
+    @Override
+    public BudgetStatusDto getStatus(final Long categoryId, final YearMonth month) {
+        if (Objects.isNull(categoryId) || Objects.isNull(month)) {
+            throw new InvalidInputException("Category id and month cannot be null.");
+        }
+        final Long limit = budgetTracker.limitCents(OwnerContext.current(), categoryId);
+        return BudgetStatusDto.builder()
+                .categoryId(categoryId)
+                .month(month)
+                .monthlyLimit(Objects.isNull(limit) ? null : BigDecimal.valueOf(limit, 2))
+                .spent(spent(categoryId, month))
+                .build();
+    }
+
+    @Override
+    public List<BudgetStatusDto> getStatuses(final YearMonth month) {
+        if (Objects.isNull(month)) {
+            throw new InvalidInputException("Month cannot be null.");
+        }
+        return budgetRepository.findAllLimits().stream()
+                .map(limit -> getStatus(limit.getCategoryId(), month))
+                .toList();
+    }
+
+    private BigDecimal spent(final Long categoryId, final YearMonth month) {
+        return BigDecimal.valueOf(budgetTracker.spentCents(OwnerContext.current(), categoryId, MonthlyTransactionRollupKey.toPeriod(month)), 2);
+    }
+}
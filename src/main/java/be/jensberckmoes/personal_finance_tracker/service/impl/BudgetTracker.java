@@ -0,0 +1,275 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadWriteRoutingDataSource;
+import be.jensberckmoes.personal_finance_tracker.event.BudgetChangedEvent;
+import be.jensberckmoes.personal_finance_tracker.event.BudgetThresholdCrossedEvent;
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendCheckpoint;
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendKey;
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollupKey;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.BudgetRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.BudgetSpendCheckpointRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.MonthlyTransactionRollupRepository;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Keeps committed expense totals per owner, category and month in {@link LongAdder}s, so concurrent inserts into the
+ * same category add to striped cells instead of contending on a lock or a row. Limits are held in memory as well, which
+ * makes the threshold check after every commit a pair of map lookups with no database access. Every key carries
+ * the owner, so one owner's limits and spend are never visible to another.
+ *
+ * <p>Each counter remembers the highest threshold it has announced; a crossing is claimed with a CAS on that value,
+ * so exactly one committing thread publishes each {@link BudgetThresholdCrossedEvent}. At startup the counters are
+ * seeded from the EXPENSE rows of {@code monthly_transaction_rollup}, which are committed with the transactions
+ * themselves, so spend is exact after any restart. The seed runs in this lifecycle's start, in a phase ahead of the web
+ * server and the write-behind ingestion with its journal replay, so no transaction can commit while the counters are
+ * set from the rollups and no spend recorded by the listener is overwritten. Announced thresholds are checkpointed to
+ * {@code budget_spend_checkpoint} on a fixed interval and on shutdown, so a restart does not repeat an alert.
+ */
+@Slf4j
+@Component
+public class BudgetTracker implements SmartLifecycle {
+    static final int[] THRESHOLDS = {80, 100};
+    /**
+     * Starts before, and stops after, the web server ({@code DEFAULT_PHASE - 2048}) and every lifecycle in the default
+     * phase, such as the write-behind ingestion; the final checkpoint then covers their last commits.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetSpendCheckpointRepository budgetSpendCheckpointRepository;
+    private final MonthlyTransactionRollupRepository monthlyTransactionRollupRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Duration checkpointInterval;
+    private final Map<SpendKey, SpendCounter> counters = new ConcurrentHashMap<>();
+    private final Map<BudgetKey, Long> limitCents = new ConcurrentHashMap<>();
+    private ScheduledExecutorService checkpointer;
+    private volatile boolean running;
+
+    public BudgetTracker(final BudgetRepository budgetRepository,
+                         final BudgetSpendCheckpointRepository budgetSpendCheckpointRepository,
+                         final MonthlyTransactionRollupRepository monthlyTransactionRollupRepository,
+                         final ApplicationEventPublisher applicationEventPublisher,
+                         @Value("${app.budgets.checkpoint-interval:30s}") final Duration checkpointInterval) {
+        this.budgetRepository = budgetRepository;
+        this.budgetSpendCheckpointRepository = budgetSpendCheckpointRepository;
+        this.monthlyTransactionRollupRepository = monthlyTransactionRollupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public void load() {
+        ReadWriteRoutingDataSource.runOnPrimary(() -> restore(ownerId -> true));
+        log.info("Loaded {} budgets and {} spend counters.", limitCents.size(), counters.size());
+    }
+
+    /**
+     * Drops the owner's counters and limits and seeds them again from the shard the owner is stored on now. The
+     * shard rebalancer calls this after a move, while the owner is still refused, so no commit can interleave.
+     */
+    public void reload(final String ownerId) {
+        counters.keySet().removeIf(key -> key.ownerId().equals(ownerId));
+        limitCents.keySet().removeIf(key -> key.ownerId().equals(ownerId));
+        OwnerContext.runAs(ownerId, () -> ReadWriteRoutingDataSource.runOnPrimary(() -> restore(ownerId::equals)));
+    }
+
+    private void restore(final Predicate<String> owners) {
+        budgetRepository.findLimitsOfAllOwners().stream()
+                .filter(limit -> owners.test(limit.getOwnerId()))
+                .forEach(limit -> limitCents.put(new BudgetKey(limit.getOwnerId(), limit.getCategoryId()), toCents(limit.getMonthlyLimit())));
+        for (final MonthlyTransactionRollupRepository.CategorySpendView spend : monthlyTransactionRollupRepository
+                .sumByCategoryAndPeriod(TransactionType.EXPENSE.name(), MonthlyTransactionRollupKey.NO_CATEGORY)) {
+            if (!owners.test(spend.getOwnerId())) {
+                continue;
+            }
+            final SpendCounter counter = counter(new SpendKey(spend.getOwnerId(), spend.getCategoryId(), spend.getPeriod()));
+            counter.spent.reset();
+            counter.spent.add(toCents(spend.getTotalAmount()));
+        }
+        for (final BudgetSpendCheckpoint checkpoint : budgetSpendCheckpointRepository.findAll()) {
+            final BudgetSpendKey id = checkpoint.getId();
+            if (!owners.test(id.getOwnerId())) {
+                continue;
+            }
+            final SpendCounter counter = counter(new SpendKey(id.getOwnerId(), id.getCategoryId(), id.getPeriod()));
+            counter.notified.accumulateAndGet(checkpoint.getNotifiedThreshold(), Math::max);
+            counter.checkpointedNotified = checkpoint.getNotifiedThreshold();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTransactionsPersisted(final TransactionsPersistedEvent event) {
+        for (final Transaction transaction : event.transactions()) {
+            if (transaction.getType() != TransactionType.EXPENSE || Objects.isNull(transaction.getCategory())
+                    || Objects.isNull(transaction.getAmount()) || Objects.isNull(transaction.getDate())) {
+                continue;
+            }
+            record(transaction.getOwnerId(), transaction.getCategory().getId(),
+                    MonthlyTransactionRollupKey.toPeriod(transaction.getDate()), toCents(transaction.getAmount()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBudgetChanged(final BudgetChangedEvent event) {
+        final long limit = toCents(event.monthlyLimit());
+        limitCents.put(new BudgetKey(event.ownerId(), event.categoryId()), limit);
+        counters.forEach((key, counter) -> {
+            if (key.ownerId().equals(event.ownerId()) && key.categoryId() == event.categoryId()) {
+                counter.notified.set(reachedThreshold(counter.spent.sum(), limit));
+            }
+        });
+    }
+
+    public void record(final String ownerId, final long categoryId, final int period, final long cents) {
+        final SpendCounter counter = counter(new SpendKey(ownerId, categoryId, period));
+        counter.spent.add(cents);
+        final Long limit = limitCents.get(new BudgetKey(ownerId, categoryId));
+        if (Objects.isNull(limit)) {
+            return;
+        }
+        final long spent = counter.spent.sum();
+        final int reached = reachedThreshold(spent, limit);
+        int notified = counter.notified.get();
+        while (reached > notified) {
+            if (counter.notified.compareAndSet(notified, reached)) {
+                for (final int threshold : THRESHOLDS) {
+                    if (threshold > notified && threshold <= reached) {
+                        applicationEventPublisher.publishEvent(new BudgetThresholdCrossedEvent(ownerId, categoryId,
+                                MonthlyTransactionRollupKey.fromPeriod(period), threshold, fromCents(spent), fromCents(limit)));
+                    }
+                }
+                return;
+            }
+            notified = counter.notified.get();
+        }
+    }
+
+    public long spentCents(final String ownerId, final long categoryId, final int period) {
+        final SpendCounter counter = counters.get(new SpendKey(ownerId, categoryId, period));
+        return Objects.isNull(counter) ? 0 : counter.spent.sum();
+    }
+
+    public Long limitCents(final String ownerId, final long categoryId) {
+        return limitCents.get(new BudgetKey(ownerId, categoryId));
+    }
+
+    /**
+     * Writes every counter whose announced threshold changed since its last checkpoint. The spend is stored alongside
+     * for reference only; it is re-seeded from the rollups at startup. Each owner's checkpoints are saved with that
+     * owner bound, so they land on the owner's shard next to its budgets.
+     */
+    public void checkpoint() {
+        final Map<String, List<BudgetSpendCheckpoint>> changed = new HashMap<>();
+        final Map<String, List<Runnable>> commits = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            final long spent = counter.spent.sum();
+            final int notified = counter.notified.get();
+            if (notified != counter.checkpointedNotified) {
+                changed.computeIfAbsent(key.ownerId(), ignored -> new ArrayList<>()).add(BudgetSpendCheckpoint.builder()
+                        .id(BudgetSpendKey.builder().ownerId(key.ownerId()).categoryId(key.categoryId()).period(key.period()).build())
+                        .spentCents(spent)
+                        .notifiedThreshold(notified)
+                        .build());
+                commits.computeIfAbsent(key.ownerId(), ignored -> new ArrayList<>()).add(() -> counter.checkpointedNotified = notified);
+            }
+        });
+        changed.forEach((ownerId, checkpoints) -> {
+            OwnerContext.runAs(ownerId, () -> budgetSpendCheckpointRepository.saveAll(checkpoints));
+            commits.get(ownerId).forEach(Runnable::run);
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        load();
+        checkpointer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("budget-checkpoint").daemon().factory());
+        checkpointer.scheduleWithFixedDelay(this::checkpointQuietly, checkpointInterval.toMillis(), checkpointInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        checkpointer.shutdownNow();
+        checkpointQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (final RuntimeException e) {
+            log.warn("Budget checkpoint failed; retrying on the next interval.", e);
+        }
+    }
+
+    private SpendCounter counter(final SpendKey key) {
+        final SpendCounter existing = counters.get(key);
+        return Objects.nonNull(existing) ? existing : counters.computeIfAbsent(key, ignored -> new SpendCounter());
+    }
+
+    private static int reachedThreshold(final long spentCents, final long limitCents) {
+        int reached = 0;
+        for (final int threshold : THRESHOLDS) {
+            if (spentCents * 100 >= limitCents * threshold) {
+                reached = threshold;
+            }
+        }
+        return reached;
+    }
+
+    private static long toCents(final BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromCents(final long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private record BudgetKey(String ownerId, long categoryId) {
+    }
+
+    private record SpendKey(String ownerId, long categoryId, int period) {
+    }
+
+    private static final class SpendCounter {
+        private final LongAdder spent = new LongAdder();
+        private final AtomicInteger notified = new AtomicInteger();
+        private volatile int checkpointedNotified;
+    }
+}
@@ -0,0 +1,62 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.dto.CategorizationRuleRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategorizationRuleResponseDto;
+import be.jensberckmoes.personal_finance_tracker.event.CategorizationRulesChangedEvent;
+import be.jensberckmoes.personal_finance_tracker.exception.BlankParameterException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.entity.CategorizationRule;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.repository.CategorizationRuleRepository;
+import be.jensberckmoes.personal_finance_tracker.service.CategorizationRuleService;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+@Service
+@AllArgsConstructor
+public class CategorizationRuleServiceImpl implements CategorizationRuleService {
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final CategoryReferenceResolver categoryReferenceResolver;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    @Transactional
+    public CategorizationRuleResponseDto createRule(final CategorizationRuleRequestDto categorizationRuleRequestDto) {
+        if (Objects.isNull(categorizationRuleRequestDto)) {
+            throw new InvalidInputException("CategorizationRuleRequestDto cannot be null.");
+        }
+        if (Objects.isNull(categorizationRuleRequestDto.getKeyword()) || categorizationRuleRequestDto.getKeyword().isBlank()) {
+            throw new BlankParameterException("Keyword cannot be blank.");
+        }
+        final Category category = categoryReferenceResolver.resolve(categorizationRuleRequestDto.getCategoryId())
+                .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + categorizationRuleRequestDto.getCategoryId()));
+        final CategorizationRule saved = categorizationRuleRepository.save(CategorizationRule.builder()
+                .keyword(categorizationRuleRequestDto.getKeyword().strip())
+                .category(category)
+                .priority(categorizationRuleRequestDto.getPriority())
+                .build());
+        applicationEventPublisher.publishEvent(new CategorizationRulesChangedEvent());
+        return CategorizationRuleResponseDto.builder()
+                .id(saved.getId())
+                .keyword(saved.getKeyword())
+                .categoryId(category.getId())
+                .priority(saved.getPriority())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(final Long id) {
+        if (!categorizationRuleRepository.existsById(id)) {
+            throw new EntityNotFoundException("Categorization rule not found with id: " + id);
+        }
+        categorizationRuleRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new CategorizationRulesChangedEvent());
+    }
+}
@@ -7,13 +7,16 @@ import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException
 import be.jensberckmoes.personal_finance_tracker.model.CategoryMapper;
 import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
 import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
 import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,6 +25,7 @@ import java.util.Optional;
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final CategoryRepository categoryRepository;
+    private final CategoryReferenceResolver categoryReferenceResolver;
 
     @Override
     public CategoryResponseDto createCategory(@Valid final CategoryRequestDto categoryRequestDto) {
@@ -34,9 +38,18 @@ public class CategoryServiceImpl implements CategoryService {
         final Category fromRequest = categoryMapper.toEntity(categoryRequestDto)
                 .orElseThrow(() -> new InvalidInputException("Invalid categoryRequestDto received by mapper."));
         final Category saved = categoryRepository.save(fromRequest);
+        categoryReferenceResolver.register(saved.getId());
         return categoryMapper.toResponse(saved).orElseThrow(() -> new InvalidInputException("Invalid Category entity received from database. (object is null)."));
     }
 
+    @Override
+    public List<CategoryResponseDto> listCategories() {
+        return categoryRepository.findAll(Sort.by("name")).stream()
+                .map(categoryMapper::toResponse)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     @Transactional
     public CategoryResponseDto updateCategory(final Long id, @Valid final CategoryRequestDto categoryRequestDto) {
         if (Objects.isNull(categoryRequestDto)) {
@@ -0,0 +1,96 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.FanOutScope;
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetStatusDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryResponseDto;
+import be.jensberckmoes.personal_finance_tracker.dto.DashboardDto;
+import be.jensberckmoes.personal_finance_tracker.dto.MonthlyTotalDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.service.BudgetService;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import be.jensberckmoes.personal_finance_tracker.service.DashboardService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionSummaryService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Loads the dashboard sections concurrently in one {@link FanOutScope}, so a dashboard takes as long as its slowest
+ * section rather than the sum of all of them. All sections share the {@code app.dashboard.timeout} deadline and a
+ * failing section cancels the others. Each section runs on its own virtual thread, acting for the caller's owner, and
+ * goes through a service so it takes its own bulkhead slot and database permit.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService {
+    static final int RECENT_TRANSACTIONS = 20;
+
+    private final TransactionSummaryService transactionSummaryService;
+    private final TransactionService transactionService;
+    private final BudgetService budgetService;
+    private final CategoryService categoryService;
+    private final Duration timeout;
+
+    public DashboardServiceImpl(final TransactionSummaryService transactionSummaryService,
+                                final TransactionService transactionService,
+                                final BudgetService budgetService,
+                                final CategoryService categoryService,
+                                @Value("${app.dashboard.timeout:2s}") final Duration timeout) {
+        this.transactionSummaryService = transactionSummaryService;
+        this.transactionService = transactionService;
+        this.budgetService = budgetService;
+        this.categoryService = categoryService;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public DashboardDto getDashboard(final YearMonth month) {
+        if (Objects.isNull(month)) {
+            throw new InvalidInputException("Month cannot be null.");
+        }
+        final Instant deadline = Instant.now().plus(timeout);
+        final String owner = OwnerContext.current();
+        try (FanOutScope scope = new FanOutScope("dashboard")) {
+            final Future<MonthlyTotalDto> income = fork(scope, owner, () -> monthlyTotal(month, TransactionType.INCOME));
+            final Future<MonthlyTotalDto> expenses = fork(scope, owner, () -> monthlyTotal(month, TransactionType.EXPENSE));
+            final Future<List<TransactionResponseDto>> recentTransactions = fork(scope, owner, this::recentTransactions);
+            final Future<List<BudgetStatusDto>> budgets = fork(scope, owner, () -> budgetService.getStatuses(month));
+            final Future<List<CategoryResponseDto>> categories = fork(scope, owner, categoryService::listCategories);
+            scope.join(deadline);
+            return DashboardDto.builder()
+                    .month(month)
+                    .income(income.resultNow())
+                    .expenses(expenses.resultNow())
+                    .recentTransactions(recentTransactions.resultNow())
+                    .budgets(budgets.resultNow())
+                    .categories(categories.resultNow())
+                    .build();
+        }
+    }
+
+    private static <T> Future<T> fork(final FanOutScope scope, final String owner, final Supplier<T> section) {
+        return scope.fork(() -> OwnerContext.callAs(owner, section));
+    }
+
+    private MonthlyTotalDto monthlyTotal(final YearMonth month, final TransactionType type) {
+        return transactionSummaryService.getMonthlyTotals(month, month, null, type, null).stream()
+                .findFirst()
+                .orElseGet(() -> MonthlyTotalDto.builder().month(month).totalAmount(BigDecimal.ZERO).build());
+    }
+
+    private List<TransactionResponseDto> recentTransactions() {
+        return transactionService.listTransactions(TransactionPageRequestDto.builder().size(RECENT_TRANSACTIONS).build()).getItems();
+    }
+}
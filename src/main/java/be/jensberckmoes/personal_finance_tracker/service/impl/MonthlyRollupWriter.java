@@ -0,0 +1,60 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollupKey;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.repository.MonthlyTransactionRollupRepository;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@AllArgsConstructor
+public class MonthlyRollupWriter {
+    private final MonthlyTransactionRollupRepository monthlyTransactionRollupRepository;
+
+    public void apply(final Collection<Transaction> transactions) {
+        final Map<MonthlyTransactionRollupKey, Delta> deltas = new HashMap<>();
+        for (final Transaction transaction : transactions) {
+            if (Objects.isNull(transaction.getDate()) || Objects.isNull(transaction.getAmount())) {
+                continue;
+            }
+            deltas.computeIfAbsent(keyOf(transaction), key -> new Delta()).add(transaction.getAmount());
+        }
+        deltas.forEach(this::increment);
+    }
+
+    private void increment(final MonthlyTransactionRollupKey key, final Delta delta) {
+        monthlyTransactionRollupRepository.upsert(key.getOwnerId(), key.getPeriod(), key.getCategoryId(), key.getType(), key.getMethod(),
+                delta.amount, delta.count);
+    }
+
+    /**
+     * The owner id is only stamped on a transaction when its insert is flushed, so a row that was saved but not yet
+     * flushed is keyed by the owner bound to the current thread, which is the one Hibernate will stamp.
+     */
+    public static MonthlyTransactionRollupKey keyOf(final Transaction transaction) {
+        return MonthlyTransactionRollupKey.builder()
+                .ownerId(Objects.requireNonNullElseGet(transaction.getOwnerId(), OwnerContext::current))
+                .period(MonthlyTransactionRollupKey.toPeriod(transaction.getDate()))
+                .categoryId(Objects.isNull(transaction.getCategory()) ? MonthlyTransactionRollupKey.NO_CATEGORY : transaction.getCategory().getId())
+                .type(Objects.isNull(transaction.getType()) ? MonthlyTransactionRollupKey.NONE : transaction.getType().name())
+                .method(Objects.isNull(transaction.getMethod()) ? MonthlyTransactionRollupKey.NONE : transaction.getMethod().name())
+                .build();
+    }
+
+    private static final class Delta {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        private void add(final BigDecimal value) {
+            amount = amount.add(value);
+            count++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.Workload;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.dto.AnalyticsTotalDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryTotalDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionAnalyticsService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Period totals for the default owner come from the {@link TransactionColumnStore}, which holds only that owner's
+ * rows. Every other owner is answered by aggregate queries over its own rows, which the tenant filter scopes.
+ */
+@Service
+@Workload(WorkloadClass.REPORT)
+@AllArgsConstructor
+@ConditionalOnProperty(name = "app.analytics.columnar.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionAnalyticsServiceImpl implements TransactionAnalyticsService {
+    private final TransactionColumnStore transactionColumnStore;
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    public AnalyticsTotalDto getTotal(final LocalDate from, final LocalDate to, final TransactionType type,
+                                      final TransactionMethod method, final Long categoryId) {
+        validateRange(from, to);
+        if (!OwnerContext.isDefault(OwnerContext.current())) {
+            final TransactionRepository.PeriodTotalView total = transactionRepository.sumBetween(from.atStartOfDay(),
+                    to.plusDays(1).atStartOfDay(), type, method, categoryId);
+            return AnalyticsTotalDto.builder()
+                    .totalAmount(toAmount(total.getTotalAmount()))
+                    .transactionCount(total.getTransactionCount())
+                    .build();
+        }
+        final long[] totals = new long[2];
+        transactionColumnStore.sum(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()),
+                ordinal(type), ordinal(method), Objects.isNull(categoryId) ? TransactionColumnStore.NONE : categoryId, totals);
+        return AnalyticsTotalDto.builder()
+                .totalAmount(BigDecimal.valueOf(totals[0], 2))
+                .transactionCount(totals[1])
+                .build();
+    }
+
+    @Override
+    public List<CategoryTotalDto> getTotalsByCategory(final LocalDate from, final LocalDate to, final TransactionType type,
+                                                      final TransactionMethod method) {
+        validateRange(from, to);
+        if (!OwnerContext.isDefault(OwnerContext.current())) {
+            return transactionRepository.sumByCategoryBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), type, method)
+                    .stream()
+                    .map(total -> CategoryTotalDto.builder()
+                            .categoryId(total.getCategoryId())
+                            .totalAmount(toAmount(total.getTotalAmount()))
+                            .transactionCount(total.getTransactionCount())
+                            .build())
+                    .toList();
+        }
+        final int categoryCount = transactionColumnStore.categoryCount();
+        final long[] cents = new long[categoryCount];
+        final long[] counts = new long[categoryCount];
+        transactionColumnStore.sumByCategory(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()),
+                ordinal(type), ordinal(method), cents, counts);
+        final List<CategoryTotalDto> totals = new ArrayList<>();
+        for (int category = 0; category < categoryCount; category++) {
+            if (counts[category] > 0) {
+                totals.add(CategoryTotalDto.builder()
+                        .categoryId(transactionColumnStore.categoryIdAt(category))
+                        .totalAmount(BigDecimal.valueOf(cents[category], 2))
+                        .transactionCount(counts[category])
+                        .build());
+            }
+        }
+        return totals;
+    }
+
+    private static void validateRange(final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new InvalidInputException("Period bounds cannot be null.");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException("Period start cannot be after period end.");
+        }
+    }
+
+    private static BigDecimal toAmount(final BigDecimal total) {
+        return total.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static int ordinal(final Enum<?> value) {
+        return Objects.isNull(value) ? TransactionColumnStore.NONE : value.ordinal();
+    }
+}
@@ -0,0 +1,58 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Persists transactions through the shared persistence context in chunks that line up with
+ * {@code hibernate.jdbc.batch_size}, flushing and clearing after every chunk so Hibernate sends
+ * real JDBC batches and the first-level cache does not grow with the size of the input. The monthly rollups are
+ * updated in the same transaction.
+ */
+@Component
+@AllArgsConstructor
+public class TransactionBatchWriter {
+    public static final int BATCH_SIZE = 50;
+
+    private final EntityManager entityManager;
+    private final MonthlyRollupWriter monthlyRollupWriter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionRepository transactionRepository;
+
+    @Transactional
+    public List<Transaction> persistInBatches(final List<Transaction> transactions) {
+        for (int i = 0; i < transactions.size(); i++) {
+            entityManager.persist(transactions.get(i));
+            if ((i + 1) % BATCH_SIZE == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        monthlyRollupWriter.apply(transactions);
+        applicationEventPublisher.publishEvent(new TransactionsPersistedEvent(transactions));
+        return transactions;
+    }
+
+    /**
+     * The journal sequences among {@code sequences} that already have a committed row for the bound owner.
+     */
+    public Set<Long> appliedJournalSequences(final Collection<Long> sequences) {
+        return new HashSet<>(transactionRepository.findExistingJournalSequences(sequences));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,262 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadWriteRoutingDataSource;
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Columnar copy of the ledger: one primitive array per attribute, indexed by row. Amounts are stored as cents,
+ * dates as epoch days, enums as their ordinal and categories as a dense index, so scans touch only the columns they
+ * filter or sum on and allocate nothing. The store is filled at startup and appended to after every commit that
+ * inserts transactions. Rows without an amount or date are skipped; a missing type, method or category is stored
+ * as {@link #NONE}.
+ *
+ * <p>The store has no owner column and holds only the default owner's rows: the startup load runs without a bound
+ * owner, and committed rows of other owners are not appended. {@link TransactionAnalyticsServiceImpl} answers other
+ * owners from the database instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.analytics.columnar.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionColumnStore {
+    public static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TransactionRepository transactionRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> categoryIndex = new HashMap<>();
+    private long[] categoryIds = new long[16];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] amountCents = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private byte[] methods = new byte[INITIAL_CAPACITY];
+    private int[] categories = new int[INITIAL_CAPACITY];
+    private int size;
+    private List<Transaction> pendingDuringLoad;
+
+    public TransactionColumnStore(final TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        final List<Transaction> pending;
+        final Set<Long> pendingIds = new HashSet<>();
+        try (Stream<TransactionRepository.ColumnRowView> rows = ReadWriteRoutingDataSource.callOnPrimary(transactionRepository::streamColumnRows)) {
+            rows.forEach(row -> {
+                lock.writeLock().lock();
+                try {
+                    append(row.getId(), row.getAmount(), row.getDate(), row.getType(), row.getMethod(), row.getCategoryId());
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending = pendingDuringLoad;
+                pendingDuringLoad = null;
+                pending.forEach(transaction -> pendingIds.add(transaction.getId()));
+                for (int row = 0; row < size && !pendingIds.isEmpty(); row++) {
+                    pendingIds.remove(ids[row]);
+                }
+                for (final Transaction transaction : pending) {
+                    if (pendingIds.contains(transaction.getId())) {
+                        append(transaction);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Loaded {} transactions into the columnar analytics store.", size());
+    }
+
+    @TransactionalEventListener
+    public void onTransactionsPersisted(final TransactionsPersistedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (Objects.nonNull(pendingDuringLoad)) {
+                pendingDuringLoad.addAll(event.transactions());
+                return;
+            }
+            for (final Transaction transaction : event.transactions()) {
+                append(transaction);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums the rows matching the filter into {@code totals}: {@code totals[0]} receives the amount in cents and
+     * {@code totals[1]} the row count. Day bounds are inclusive epoch days; the other filters use {@link #NONE}
+     * as "any", with the category given as its database id.
+     */
+    public void sum(final int fromEpochDay, final int toEpochDay, final int type, final int method, final long categoryId,
+                    final long[] totals) {
+        lock.readLock().lock();
+        try {
+            final int category = categoryId == NONE ? NONE : categoryIndex.getOrDefault(categoryId, Integer.MIN_VALUE);
+            long cents = 0;
+            long count = 0;
+            if (category != Integer.MIN_VALUE) {
+                for (int row = 0; row < size; row++) {
+                    if (matches(row, fromEpochDay, toEpochDay, type, method) && (category == NONE || categories[row] == category)) {
+                        cents += amountCents[row];
+                        count++;
+                    }
+                }
+            }
+            totals[0] = cents;
+            totals[1] = count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups the matching rows by dense category index. {@code centsByCategory} and {@code countByCategory} must
+     * hold one slot per dense category, as reported by {@link #categoryCount()}; rows without a category, or of a
+     * category added after the arrays were sized, are not counted.
+     */
+    public void sumByCategory(final int fromEpochDay, final int toEpochDay, final int type, final int method,
+                              final long[] centsByCategory, final long[] countByCategory) {
+        lock.readLock().lock();
+        try {
+            Arrays.fill(centsByCategory, 0L);
+            Arrays.fill(countByCategory, 0L);
+            for (int row = 0; row < size; row++) {
+                final int category = categories[row];
+                if (category != NONE && category < centsByCategory.length && matches(row, fromEpochDay, toEpochDay, type, method)) {
+                    centsByCategory[category] += amountCents[row];
+                    countByCategory[category]++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int categoryCount() {
+        lock.readLock().lock();
+        try {
+            return categoryIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long categoryIdAt(final int denseIndex) {
+        lock.readLock().lock();
+        try {
+            return categoryIds[denseIndex];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(final int row, final int fromEpochDay, final int toEpochDay, final int type, final int method) {
+        final int day = epochDays[row];
+        return day >= fromEpochDay && day <= toEpochDay
+                && (type == NONE || types[row] == type)
+                && (method == NONE || methods[row] == method);
+    }
+
+    private void append(final Transaction transaction) {
+        if (!OwnerContext.isDefault(transaction.getOwnerId())) {
+            return;
+        }
+        append(transaction.getId(), transaction.getAmount(), transaction.getDate(), transaction.getType(), transaction.getMethod(),
+                Objects.isNull(transaction.getCategory()) ? null : transaction.getCategory().getId());
+    }
+
+    private void append(final Long id, final BigDecimal amount, final LocalDateTime date, final TransactionType type,
+                        final TransactionMethod method, final Long categoryId) {
+        if (Objects.isNull(amount) || Objects.isNull(date)) {
+            return;
+        }
+        ensureCapacity(size + 1);
+        ids[size] = Objects.isNull(id) ? NONE : id;
+        amountCents[size] = toCents(amount);
+        epochDays[size] = Math.toIntExact(date.toLocalDate().toEpochDay());
+        types[size] = (byte) (Objects.isNull(type) ? NONE : type.ordinal());
+        methods[size] = (byte) (Objects.isNull(method) ? NONE : method.ordinal());
+        categories[size] = Objects.isNull(categoryId) ? NONE : denseCategory(categoryId);
+        size++;
+    }
+
+    private int denseCategory(final long categoryId) {
+        final Integer existing = categoryIndex.get(categoryId);
+        if (Objects.nonNull(existing)) {
+            return existing;
+        }
+        final int next = categoryIndex.size();
+        if (next == categoryIds.length) {
+            categoryIds = Arrays.copyOf(categoryIds, next * 2);
+        }
+        categoryIds[next] = categoryId;
+        categoryIndex.put(categoryId, next);
+        return next;
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        final int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        types = Arrays.copyOf(types, capacity);
+        methods = Arrays.copyOf(methods, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+    }
+
+    private static long toCents(final BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,66 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.Workload;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.exception.TransactionExportException;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionRowWriter;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.ExportFormat;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionExportService;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@Workload(WorkloadClass.REPORT)
+@AllArgsConstructor
+public class TransactionExportServiceImpl implements TransactionExportService {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionRowWriter transactionRowWriter;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTransactions(final ExportFormat format, final OutputStream outputStream) {
+        if (Objects.isNull(format) || Objects.isNull(outputStream)) {
+            throw new InvalidInputException("Export format and output stream cannot be null.");
+        }
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long rows = 0;
+        try (Stream<Transaction> transactions = transactionRepository.streamAllOrderedByDate()) {
+            if (format == ExportFormat.CSV) {
+                transactionRowWriter.writeCsvHeader(writer);
+            }
+            final Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                final Transaction transaction = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    transactionRowWriter.writeCsv(writer, transaction);
+                } else {
+                    transactionRowWriter.writeNdjson(writer, transaction);
+                }
+                entityManager.detach(transaction);
+                rows++;
+            }
+            writer.flush();
+        } catch (final IOException e) {
+            throw new TransactionExportException("Export failed after " + rows + " rows.", e);
+        }
+        return rows;
+    }
+}
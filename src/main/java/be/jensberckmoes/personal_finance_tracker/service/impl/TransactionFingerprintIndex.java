@@ -0,0 +1,173 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadWriteRoutingDataSource;
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.BloomFilter;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Answers "does a transaction with this fingerprint already exist?" for the import. A {@link BloomFilter} over every
+ * stored fingerprint, of all owners, rules out most rows in memory; only the fingerprints it may contain are confirmed
+ * against the indexed {@code fingerprint} column, one query per chunk, which sees the bound owner's rows only.
+ *
+ * <p>The filter is written to disk on shutdown together with the highest transaction id it covers. At startup the file
+ * is read back and topped up with the rows inserted since; when it is missing, unreadable, ahead of the table or too
+ * small for the table, the filter is rebuilt from the table instead. The covered id is only a watermark: ids are
+ * snowflakes, not row numbers, so the filter is sized and checked against the row count. Until loading has finished
+ * every fingerprint is confirmed against the database.
+ */
+@Slf4j
+@Component
+public class TransactionFingerprintIndex {
+    private static final long FILE_MAGIC = 0x5446_4246_4c54_5231L;
+    private static final int CONFIRM_CHUNK_SIZE = 500;
+
+    private final TransactionRepository transactionRepository;
+    private final Path file;
+    private final long expectedTransactions;
+    private final double falsePositiveProbability;
+    private final AtomicLong coveredMaxId = new AtomicLong();
+    private volatile BloomFilter filter;
+    private volatile long capacity;
+    private volatile boolean ready;
+
+    public TransactionFingerprintIndex(final TransactionRepository transactionRepository,
+                                       @Value("${app.dedup.bloom-file:data/dedup/transactions.bloom}") final Path file,
+                                       @Value("${app.dedup.expected-transactions:1000000}") final long expectedTransactions,
+                                       @Value("${app.dedup.false-positive-probability:0.01}") final double falsePositiveProbability) {
+        this.transactionRepository = transactionRepository;
+        this.file = file;
+        this.expectedTransactions = expectedTransactions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        final long maxId = ReadWriteRoutingDataSource.callOnPrimary(transactionRepository::findMaxIdOfAllOwners);
+        final long rowCount = ReadWriteRoutingDataSource.callOnPrimary(transactionRepository::countAllOwners);
+        final long afterId = restore(maxId, rowCount) ? coveredMaxId.get() : rebuild(rowCount);
+        final long[] added = {0};
+        try (Stream<Long> fingerprints = transactionRepository.streamFingerprintsOfAllOwnersAfter(afterId)) {
+            fingerprints.forEach(fingerprint -> {
+                filter.put(fingerprint);
+                added[0]++;
+            });
+        }
+        coveredMaxId.accumulateAndGet(maxId, Math::max);
+        ready = true;
+        log.info("Fingerprint filter ready: {} bits, {} hash functions, {} rows added after id {}.",
+                filter.bitSize(), filter.hashFunctions(), added[0], afterId);
+    }
+
+    @TransactionalEventListener
+    public void onTransactionsPersisted(final TransactionsPersistedEvent event) {
+        final BloomFilter current = filter;
+        if (Objects.isNull(current)) {
+            return;
+        }
+        for (final Transaction transaction : event.transactions()) {
+            if (Objects.nonNull(transaction.getFingerprint())) {
+                current.put(transaction.getFingerprint());
+            }
+            if (Objects.nonNull(transaction.getId())) {
+                coveredMaxId.accumulateAndGet(transaction.getId(), Math::max);
+            }
+        }
+    }
+
+    /**
+     * Returns the subset of {@code fingerprints} that is already stored.
+     */
+    public Set<Long> findExisting(final Collection<Long> fingerprints) {
+        final BloomFilter current = ready ? filter : null;
+        final List<Long> candidates = new ArrayList<>();
+        for (final Long fingerprint : new HashSet<>(fingerprints)) {
+            if (Objects.nonNull(fingerprint) && (Objects.isNull(current) || current.mightContain(fingerprint))) {
+                candidates.add(fingerprint);
+            }
+        }
+        final Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += CONFIRM_CHUNK_SIZE) {
+            existing.addAll(transactionRepository.findExistingFingerprints(
+                    candidates.subList(from, Math.min(candidates.size(), from + CONFIRM_CHUNK_SIZE))));
+        }
+        return existing;
+    }
+
+    @PreDestroy
+    public void save() {
+        if (!ready) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeLong(FILE_MAGIC);
+                out.writeLong(coveredMaxId.get());
+                out.writeLong(capacity);
+                filter.writeTo(out);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            log.warn("Could not write fingerprint filter to {}; it will be rebuilt on the next start.", file, e);
+        }
+    }
+
+    private boolean restore(final long maxId, final long rowCount) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readLong() != FILE_MAGIC) {
+                return false;
+            }
+            final long restoredMaxId = in.readLong();
+            final long restoredCapacity = in.readLong();
+            if (restoredMaxId > maxId || rowCount > restoredCapacity) {
+                return false;
+            }
+            filter = BloomFilter.readFrom(in);
+            capacity = restoredCapacity;
+            coveredMaxId.set(restoredMaxId);
+            return true;
+        } catch (final IOException e) {
+            log.warn("Could not read fingerprint filter from {}; rebuilding it from the table.", file, e);
+            return false;
+        }
+    }
+
+    private long rebuild(final long rowCount) {
+        capacity = Math.max(expectedTransactions, rowCount * 2);
+        filter = BloomFilter.create(capacity, falsePositiveProbability);
+        coveredMaxId.set(0);
+        return 0;
+    }
+}
@@ -0,0 +1,68 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.Workload;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The persist step of the CSV import: resolves the categories of one chunk of parsed rows, drops the rows whose
+ * fingerprint is already stored or was already written by the same import, and writes the rest. It is its own bean
+ * so the {@link Workload} admission wraps a single chunk; the import holds no bulkhead or database permit while it
+ * reads and parses, or while it waits for the next chunk.
+ */
+@Component
+@AllArgsConstructor
+public class TransactionImportChunkWriter {
+    private final CategoryReferenceResolver categoryReferenceResolver;
+    private final TransactionFingerprintIndex transactionFingerprintIndex;
+    private final TransactionBatchWriter transactionBatchWriter;
+
+    /**
+     * {@code imported} collects the fingerprints the import has written, this chunk's included, so a row repeated in
+     * the file is skipped even when the first copy is not committed yet, as within one chunk.
+     */
+    @Workload(WorkloadClass.INGEST)
+    public ChunkResult persist(final List<Row> rows, final Set<Long> imported) {
+        final Map<Long, Category> categories = categoryReferenceResolver.resolveAll(rows.stream()
+                .map(Row::categoryId)
+                .toList());
+        final Set<Long> existing = transactionFingerprintIndex.findExisting(rows.stream()
+                .map(row -> row.transaction().getFingerprint())
+                .toList());
+        final List<Transaction> transactions = new ArrayList<>(rows.size());
+        final List<Row> unknownCategory = new ArrayList<>();
+        int duplicates = 0;
+        for (final Row row : rows) {
+            final Category category = categories.get(row.categoryId());
+            if (Objects.isNull(category)) {
+                unknownCategory.add(row);
+                continue;
+            }
+            final Long fingerprint = row.transaction().getFingerprint();
+            if (existing.contains(fingerprint) || (Objects.nonNull(fingerprint) && !imported.add(fingerprint))) {
+                duplicates++;
+                continue;
+            }
+            row.transaction().setCategory(category);
+            transactions.add(row.transaction());
+        }
+        transactionBatchWriter.persistInBatches(transactions);
+        return new ChunkResult(transactions.size(), duplicates, unknownCategory);
+    }
+
+    public record Row(long lineNumber, Transaction transaction, Long categoryId) {
+    }
+
+    public record ChunkResult(int imported, int duplicates, List<Row> unknownCategory) {
+    }
+}
@@ -0,0 +1,241 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionImportErrorDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionImportReportDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.exception.TransactionImportException;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionCsvParser;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionMapper;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionValidationResult;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionCategorizer;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionImportService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams a CSV file through read → parse/validate/map → persist. The reader hands blocks of lines to a
+ * pool sized to the available cores and queues the resulting futures in file order on a bounded queue,
+ * so the persist stage sees rows in order and the reader blocks once the pipeline is full. Before a chunk is
+ * persisted, rows whose fingerprint is already stored, or was written earlier in the same file, are skipped as
+ * duplicates. Rows without a category id are categorised from their description on the parser threads. Each chunk
+ * is written through the {@link TransactionImportChunkWriter}, which takes the ingest permits for that chunk only.
+ */
+@Service
+@AllArgsConstructor
+public class TransactionImportServiceImpl implements TransactionImportService {
+    private static final int LINES_PER_BLOCK = 256;
+    private static final int PERSIST_CHUNK_SIZE = TransactionBatchWriter.BATCH_SIZE * 20;
+    private static final int MAX_REPORTED_ERRORS = 10_000;
+    private static final Future<List<ParsedLine>> END_OF_INPUT = CompletableFuture.completedFuture(List.of());
+
+    private final TransactionCsvParser transactionCsvParser;
+    private final TransactionValidationService transactionValidationService;
+    private final TransactionMapper transactionMapper;
+    private final TransactionImportChunkWriter transactionImportChunkWriter;
+    private final TransactionCategorizer transactionCategorizer;
+
+    @Override
+    public TransactionImportReportDto importCsv(final Path csvFile) {
+        if (Objects.isNull(csvFile)) {
+            throw new InvalidInputException("CSV file cannot be null.");
+        }
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        final BlockingQueue<Future<List<ParsedLine>>> pipeline = new ArrayBlockingQueue<>(parallelism * 2);
+        final ExecutorService parsers = Executors.newFixedThreadPool(parallelism);
+        final ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            final String ownerId = OwnerContext.current();
+            final Future<Void> reading = reader.submit(() -> readBlocks(csvFile, ownerId, parsers, pipeline));
+            final TransactionImportReportDto report = persistInOrder(pipeline);
+            awaitReader(reading, report.getLinesRead());
+            return report;
+        } finally {
+            reader.shutdownNow();
+            parsers.shutdownNow();
+        }
+    }
+
+    /**
+     * Always ends the pipeline, with {@link #END_OF_INPUT} or with the failure that stopped the reader, so the persist
+     * stage never waits on a reader that is gone.
+     */
+    private Void readBlocks(final Path csvFile, final String ownerId, final ExecutorService parsers,
+                            final BlockingQueue<Future<List<ParsedLine>>> pipeline) throws InterruptedException {
+        Future<List<ParsedLine>> last = END_OF_INPUT;
+        try {
+            readLines(csvFile, ownerId, parsers, pipeline);
+        } catch (final IOException | RuntimeException e) {
+            last = CompletableFuture.failedFuture(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            pipeline.put(last);
+        }
+        return null;
+    }
+
+    private void readLines(final Path csvFile, final String ownerId, final ExecutorService parsers,
+                           final BlockingQueue<Future<List<ParsedLine>>> pipeline) throws IOException, InterruptedException {
+        try (BufferedReader bufferedReader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            long lineNumber = 0;
+            List<String> block = new ArrayList<>(LINES_PER_BLOCK);
+            long blockStart = 1;
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && transactionCsvParser.isHeader(line)) {
+                    blockStart = 2;
+                    continue;
+                }
+                block.add(line);
+                if (block.size() == LINES_PER_BLOCK) {
+                    pipeline.put(submitBlock(parsers, ownerId, blockStart, block));
+                    block = new ArrayList<>(LINES_PER_BLOCK);
+                    blockStart = lineNumber + 1;
+                }
+            }
+            if (!block.isEmpty()) {
+                pipeline.put(submitBlock(parsers, ownerId, blockStart, block));
+            }
+        }
+    }
+
+    private static void awaitReader(final Future<Void> reading, final long linesRead) {
+        try {
+            reading.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionImportException("Import was interrupted after " + linesRead + " lines.", e);
+        } catch (final ExecutionException e) {
+            throw new TransactionImportException("Import failed after " + linesRead + " lines.", e.getCause());
+        }
+    }
+
+    /**
+     * Parses on a pool thread, which has no owner bound; {@code ownerId} is the importing owner, whose rules categorise
+     * the lines.
+     */
+    private Future<List<ParsedLine>> submitBlock(final ExecutorService parsers, final String ownerId, final long firstLineNumber,
+                                                 final List<String> lines) {
+        return parsers.submit(() -> {
+            final List<ParsedLine> parsed = new ArrayList<>(lines.size());
+            final TransactionValidationResult validation = new TransactionValidationResult();
+            for (int i = 0; i < lines.size(); i++) {
+                parsed.add(parseLine(ownerId, firstLineNumber + i, lines.get(i), validation));
+            }
+            return parsed;
+        });
+    }
+
+    private ParsedLine parseLine(final String ownerId, final long lineNumber, final String line,
+                                 final TransactionValidationResult validation) {
+        try {
+            final TransactionRequestDto dto = transactionCsvParser.parse(line);
+            if (!transactionValidationService.validate(dto, validation).isValid()) {
+                return new ParsedLine(lineNumber, null, null, validation.describe());
+            }
+            final Transaction transaction = transactionMapper.toEntity(dto)
+                    .orElseThrow(() -> new InvalidInputException("Invalid TransactionRequestDto received. Null object"));
+            final Long categoryId = Objects.nonNull(dto.getCategoryId())
+                    ? dto.getCategoryId()
+                    : transactionCategorizer.categorize(ownerId, dto.getDescription()).orElse(null);
+            return new ParsedLine(lineNumber, transaction, categoryId, null);
+        } catch (final RuntimeException e) {
+            return new ParsedLine(lineNumber, null, null, describe(e));
+        }
+    }
+
+    private TransactionImportReportDto persistInOrder(final BlockingQueue<Future<List<ParsedLine>>> pipeline) {
+        final ImportProgress progress = new ImportProgress();
+        final List<TransactionImportChunkWriter.Row> pending = new ArrayList<>(PERSIST_CHUNK_SIZE);
+        try {
+            Future<List<ParsedLine>> next;
+            while ((next = pipeline.take()) != END_OF_INPUT) {
+                for (final ParsedLine parsedLine : next.get()) {
+                    progress.linesRead++;
+                    if (Objects.nonNull(parsedLine.error())) {
+                        progress.fail(parsedLine.lineNumber(), parsedLine.error());
+                        continue;
+                    }
+                    pending.add(new TransactionImportChunkWriter.Row(parsedLine.lineNumber(), parsedLine.transaction(),
+                            parsedLine.categoryId()));
+                    if (pending.size() == PERSIST_CHUNK_SIZE) {
+                        persistChunk(pending, progress);
+                    }
+                }
+            }
+            persistChunk(pending, progress);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionImportException("Import was interrupted after " + progress.linesRead + " lines.", e);
+        } catch (final ExecutionException e) {
+            throw new TransactionImportException("Import failed after " + progress.linesRead + " lines.", e.getCause());
+        }
+        return TransactionImportReportDto.builder()
+                .linesRead(progress.linesRead)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .duplicates(progress.duplicates)
+                .errors(progress.errors)
+                .build();
+    }
+
+    private void persistChunk(final List<TransactionImportChunkWriter.Row> pending, final ImportProgress progress) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final TransactionImportChunkWriter.ChunkResult result = transactionImportChunkWriter.persist(pending, progress.fingerprints);
+        for (final TransactionImportChunkWriter.Row row : result.unknownCategory()) {
+            progress.fail(row.lineNumber(), "Category not found with id: " + row.categoryId());
+        }
+        progress.duplicates += result.duplicates();
+        progress.imported += result.imported();
+        pending.clear();
+    }
+
+    private static String describe(final RuntimeException e) {
+        return Objects.isNull(e.getMessage()) ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
+    private record ParsedLine(long lineNumber, Transaction transaction, Long categoryId, String error) {
+    }
+
+    private static final class ImportProgress {
+        private final List<TransactionImportErrorDto> errors = new ArrayList<>();
+        private final Set<Long> fingerprints = new HashSet<>();
+        private long linesRead;
+        private long imported;
+        private long failed;
+        private long duplicates;
+
+        private void fail(final long lineNumber, final String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(TransactionImportErrorDto.builder().lineNumber(lineNumber).error(error).build());
+            }
+        }
+    }
+}
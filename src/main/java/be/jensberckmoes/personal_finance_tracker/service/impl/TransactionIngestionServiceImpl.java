@@ -0,0 +1,375 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.MpscRingBuffer;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.exception.IngestionRejectedException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.journal.TransactionJournal;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionMapper;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionValidationResult;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionIngestionService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind ingestion: callers enqueue validated requests on a bounded {@link MpscRingBuffer} and get a future
+ * back. One writer thread drains the buffer into groups of up to {@code app.ingestion.max-batch-size} rows, waiting
+ * at most {@code app.ingestion.linger} after the first row of a group, and commits each group in one transaction.
+ * Futures complete only after that commit. If a group fails, its rows are retried one by one so a single bad row
+ * only fails its own future. On shutdown the buffer is drained before the writer stops; enqueuing holds the read side of
+ * a lifecycle lock that {@link #stop()} takes for writing, so nothing is offered after the writer's last drain.
+ *
+ * <p>When a {@link TransactionJournal} is configured, every accepted request is first appended to it, and
+ * {@link #acknowledge(TransactionRequestDto)} returns as soon as that append is durable. Each group commit advances
+ * the journal's checkpoint once it has committed, and records beyond the checkpoint are replayed on startup.
+ * The category is checked before a request is journaled. A journaled row that still cannot be applied is dead-lettered
+ * before any later commit moves the checkpoint past it; if even that fails, the checkpoint stays below the row so it is
+ * replayed on the next start rather than lost. Each row stores its journal sequence in a unique column, and replay
+ * skips records whose sequence is already stored, so a checkpoint that lags behind the committed rows only costs a
+ * lookup, never a duplicate.
+ *
+ * <p>The writer thread has no request of its own, so each row carries the owner that was bound when it was accepted,
+ * and the journal records it too. A group is committed per owner with that owner bound, in order of each owner's first
+ * row; such a commit only moves the checkpoint to just below the next owner's first row, and the last one to the end
+ * of the group.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.ingestion.write-behind.enabled", havingValue = "true")
+public class TransactionIngestionServiceImpl implements TransactionIngestionService, SmartLifecycle {
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(1).toNanos();
+    private static final int SEGMENT_CLEANUP_INTERVAL = 64;
+
+    private final TransactionValidationService transactionValidationService;
+    private final TransactionMapper transactionMapper;
+    private final CategoryReferenceResolver categoryReferenceResolver;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final TransactionJournal transactionJournal;
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final ReentrantReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private final MpscRingBuffer<PendingTransaction> buffer;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private volatile boolean running;
+    private volatile boolean writerIdle;
+    private Thread writer;
+    private int commitsSinceCleanup;
+    private long checkpointLimit = Long.MAX_VALUE;
+
+    public TransactionIngestionServiceImpl(final TransactionValidationService transactionValidationService,
+                                           final TransactionMapper transactionMapper,
+                                           final CategoryReferenceResolver categoryReferenceResolver,
+                                           final TransactionBatchWriter transactionBatchWriter,
+                                           final Optional<TransactionJournal> transactionJournal,
+                                           @Value("${app.ingestion.capacity:65536}") final int capacity,
+                                           @Value("${app.ingestion.max-batch-size:1000}") final int maxBatchSize,
+                                           @Value("${app.ingestion.linger:2ms}") final Duration linger) {
+        this.transactionValidationService = transactionValidationService;
+        this.transactionMapper = transactionMapper;
+        this.categoryReferenceResolver = categoryReferenceResolver;
+        this.transactionBatchWriter = transactionBatchWriter;
+        this.transactionJournal = transactionJournal.orElse(null);
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+    }
+
+    @Override
+    public CompletableFuture<TransactionResponseDto> submit(final TransactionRequestDto transactionRequestDto) {
+        try {
+            validate(transactionRequestDto);
+            return enqueue(transactionRequestDto).future();
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public long acknowledge(final TransactionRequestDto transactionRequestDto) {
+        if (Objects.isNull(transactionJournal)) {
+            throw new IngestionRejectedException("Acknowledged ingestion requires the transaction journal.");
+        }
+        validate(transactionRequestDto);
+        if (categoryReferenceResolver.resolve(transactionRequestDto.getCategoryId()).isEmpty()) {
+            throw new EntityNotFoundException("Category not found with id: " + transactionRequestDto.getCategoryId());
+        }
+        return enqueue(transactionRequestDto).journalSequence();
+    }
+
+    private void validate(final TransactionRequestDto transactionRequestDto) {
+        final TransactionValidationResult validation = transactionValidationService.validate(transactionRequestDto, new TransactionValidationResult());
+        if (!validation.isValid()) {
+            throw validation.first().toException();
+        }
+    }
+
+    private PendingTransaction enqueue(final TransactionRequestDto transactionRequestDto) {
+        final String ownerId = OwnerContext.current();
+        final PendingTransaction pending;
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new IngestionRejectedException("Ingestion is not running.");
+            }
+            pending = Objects.isNull(transactionJournal)
+                    ? offer(new PendingTransaction(ownerId, transactionRequestDto, new CompletableFuture<>(), 0))
+                    : journalAndOffer(ownerId, transactionRequestDto);
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+        return pending;
+    }
+
+    private PendingTransaction offer(final PendingTransaction pending) {
+        if (!buffer.offer(pending)) {
+            throw new IngestionRejectedException("Ingestion buffer is full (" + buffer.capacity() + " transactions).");
+        }
+        return pending;
+    }
+
+    private PendingTransaction journalAndOffer(final String ownerId, final TransactionRequestDto transactionRequestDto) {
+        journalLock.lock();
+        try {
+            if (buffer.size() >= buffer.capacity()) {
+                throw new IngestionRejectedException("Ingestion buffer is full (" + buffer.capacity() + " transactions).");
+            }
+            final long sequence = transactionJournal.append(ownerId, transactionRequestDto);
+            return offer(new PendingTransaction(ownerId, transactionRequestDto, new CompletableFuture<>(), sequence));
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        replayJournal();
+        running = true;
+        writer = Thread.ofPlatform().name("transaction-ingestion-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        PendingTransaction late;
+        while ((late = buffer.poll()) != null) {
+            late.future().completeExceptionally(new IngestionRejectedException("Ingestion stopped before the transaction was written."));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void replayJournal() {
+        if (Objects.isNull(transactionJournal)) {
+            return;
+        }
+        final long applied = transactionJournal.appliedSequence();
+        final List<PendingTransaction> chunk = new ArrayList<>(maxBatchSize);
+        final long[] replayed = {0};
+        transactionJournal.replay(applied, record -> {
+            chunk.add(new PendingTransaction(record.ownerId(), record.transaction(), new CompletableFuture<>(), record.sequence()));
+            replayed[0]++;
+            if (chunk.size() == maxBatchSize) {
+                commitReplayed(chunk);
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            commitReplayed(chunk);
+        }
+        if (replayed[0] > 0) {
+            log.info("Replayed {} journaled transactions after sequence {}.", replayed[0], applied);
+        }
+    }
+
+    private void writeLoop() {
+        final List<PendingTransaction> group = new ArrayList<>(maxBatchSize);
+        while (running || buffer.size() > 0) {
+            fillGroup(group);
+            if (group.isEmpty()) {
+                writerIdle = true;
+                if (buffer.size() == 0 && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+                continue;
+            }
+            commit(group, group.get(group.size() - 1).journalSequence());
+            group.clear();
+        }
+    }
+
+    private void fillGroup(final List<PendingTransaction> group) {
+        if (buffer.drain(group::add, maxBatchSize) == 0) {
+            return;
+        }
+        final long deadline = System.nanoTime() + lingerNanos;
+        while (group.size() < maxBatchSize && running) {
+            if (buffer.drain(group::add, maxBatchSize - group.size()) == 0) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Commits a replayed chunk without the records whose row an earlier run already committed but whose checkpoint
+     * it did not get to write, so a replay never inserts a row twice.
+     */
+    private void commitReplayed(final List<PendingTransaction> chunk) {
+        final List<PendingTransaction> unapplied = new ArrayList<>(chunk.size());
+        byOwner(chunk).forEach((ownerId, rows) -> {
+            final Set<Long> applied = OwnerContext.callAs(ownerId, () -> transactionBatchWriter.appliedJournalSequences(rows.stream()
+                    .map(PendingTransaction::journalSequence)
+                    .toList()));
+            rows.stream().filter(pending -> !applied.contains(pending.journalSequence())).forEach(unapplied::add);
+        });
+        unapplied.sort(Comparator.comparingLong(PendingTransaction::journalSequence));
+        commit(unapplied, chunk.get(chunk.size() - 1).journalSequence());
+    }
+
+    /**
+     * Commits {@code group} per owner. Every record up to {@code lastSequence} is either in {@code group} or already
+     * applied, so the last owner's commit may move the checkpoint that far.
+     */
+    private void commit(final List<PendingTransaction> group, final long lastSequence) {
+        final List<List<PendingTransaction>> owned = new ArrayList<>(byOwner(group).values());
+        for (int i = 0; i < owned.size(); i++) {
+            final List<PendingTransaction> rows = owned.get(i);
+            final long appliedCeiling = i + 1 < owned.size() ? owned.get(i + 1).get(0).journalSequence() - 1 : lastSequence;
+            OwnerContext.runAs(rows.get(0).ownerId(), () -> commitOwned(rows, appliedCeiling));
+        }
+    }
+
+    private static Map<String, List<PendingTransaction>> byOwner(final List<PendingTransaction> group) {
+        final Map<String, List<PendingTransaction>> byOwner = new LinkedHashMap<>();
+        for (final PendingTransaction pending : group) {
+            byOwner.computeIfAbsent(pending.ownerId(), owner -> new ArrayList<>()).add(pending);
+        }
+        return byOwner;
+    }
+
+    private void commitOwned(final List<PendingTransaction> group, final long appliedCeiling) {
+        try {
+            persist(group, appliedCeiling);
+        } catch (final RuntimeException e) {
+            log.warn("Group commit of {} transactions failed, retrying individually: {}", group.size(), e.toString());
+            final PendingTransaction last = group.get(group.size() - 1);
+            for (final PendingTransaction pending : group) {
+                if (pending.future().isDone()) {
+                    continue;
+                }
+                try {
+                    persist(List.of(pending), pending == last ? appliedCeiling : Math.min(pending.journalSequence(), appliedCeiling));
+                } catch (final RuntimeException individual) {
+                    pending.future().completeExceptionally(individual);
+                    deadLetter(pending, individual);
+                }
+            }
+        }
+    }
+
+    private void persist(final List<PendingTransaction> group, final long appliedCeiling) {
+        final Map<Long, Category> categories = categoryReferenceResolver.resolveAll(group.stream()
+                .map(pending -> pending.request().getCategoryId())
+                .toList());
+        final List<PendingTransaction> accepted = new ArrayList<>(group.size());
+        final List<Transaction> transactions = new ArrayList<>(group.size());
+        for (final PendingTransaction pending : group) {
+            final Category category = categories.get(pending.request().getCategoryId());
+            if (Objects.isNull(category)) {
+                final EntityNotFoundException notFound = new EntityNotFoundException("Category not found with id: " + pending.request().getCategoryId());
+                pending.future().completeExceptionally(notFound);
+                deadLetter(pending, notFound);
+                continue;
+            }
+            final Transaction transaction = transactionMapper.toEntity(pending.request())
+                    .orElseThrow(() -> new InvalidInputException("Invalid TransactionRequestDto received. Null object"));
+            transaction.setCategory(category);
+            if (Objects.nonNull(transactionJournal)) {
+                transaction.setJournalSequence(pending.journalSequence());
+            }
+            transactions.add(transaction);
+            accepted.add(pending);
+        }
+        final List<Transaction> saved = Objects.isNull(transactionJournal)
+                ? transactionBatchWriter.persistInBatches(transactions)
+                : persistJournaled(transactions, Math.min(appliedCeiling, checkpointLimit));
+        for (int i = 0; i < accepted.size(); i++) {
+            final Transaction transaction = saved.get(i);
+            accepted.get(i).future().complete(transactionMapper.toResponse(transaction)
+                    .orElseThrow(() -> new InvalidInputException("Invalid Transaction entity received from batch writer. (object is null).")));
+        }
+    }
+
+    private void deadLetter(final PendingTransaction pending, final RuntimeException failure) {
+        if (Objects.isNull(transactionJournal)) {
+            return;
+        }
+        try {
+            transactionJournal.deadLetter(pending.journalSequence(), pending.ownerId(), pending.request());
+            log.error("Journaled transaction {} could not be applied and was dead-lettered: {}", pending.journalSequence(), failure.toString());
+        } catch (final RuntimeException e) {
+            checkpointLimit = Math.min(checkpointLimit, pending.journalSequence() - 1);
+            log.error("Journaled transaction {} could not be applied or dead-lettered; holding the checkpoint below it: {}",
+                    pending.journalSequence(), e.toString());
+        }
+    }
+
+    private List<Transaction> persistJournaled(final List<Transaction> transactions, final long appliedSequence) {
+        final List<Transaction> saved = transactionBatchWriter.persistInBatches(transactions);
+        transactionJournal.checkpoint(appliedSequence);
+        if (++commitsSinceCleanup >= SEGMENT_CLEANUP_INTERVAL) {
+            commitsSinceCleanup = 0;
+            transactionJournal.deleteSegmentsUpTo(appliedSequence);
+        }
+        return saved;
+    }
+
+    private record PendingTransaction(String ownerId, TransactionRequestDto request,
+                                      CompletableFuture<TransactionResponseDto> future, long journalSequence) {
+    }
+}
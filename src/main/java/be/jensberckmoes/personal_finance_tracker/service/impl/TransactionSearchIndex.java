@@ -0,0 +1,334 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadWriteRoutingDataSource;
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionFingerprint;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.SearchMode;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index over transaction descriptions. Each description is normalised, padded with a space on both
+ * sides and split into overlapping three-character grams; every gram keeps a posting list of the rows that contain it.
+ * Rows are appended in order, so posting lists stay sorted and a query intersects the lists of its own grams, starting
+ * from the shortest. Surviving rows are filtered on date and category and then verified against the stored text, so
+ * grams only narrow the candidates and never produce false matches.
+ *
+ * <p>Because of the padding, a word-prefix query of two characters already forms a gram (" de"); shorter queries fall
+ * back to a scan. Results are ranked by how well the query matches (whole word, start of word, inside a word), then by
+ * the earliest match position, then newest date and highest id first. Like {@link TransactionColumnStore}, the index
+ * is filled at startup and appended to after every commit that inserts transactions. It holds the default owner's
+ * rows only, like the column store; other owners are answered by {@link #scan}, which runs the same matching and
+ * ranking over their rows read from the database.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.search.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionSearchIndex {
+    public static final long ANY_CATEGORY = Long.MIN_VALUE;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int GRAM = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::quality)
+            .thenComparing(Comparator.comparingInt(Hit::position).reversed())
+            .thenComparingInt(Hit::epochDay)
+            .thenComparingLong(Hit::id);
+
+    private final TransactionRepository transactionRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private long[] categoryIds = new long[INITIAL_CAPACITY];
+    private String[] texts = new String[INITIAL_CAPACITY];
+    private int size;
+    private List<Transaction> pendingDuringLoad;
+
+    public TransactionSearchIndex(final TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+            postings.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        final Set<Long> loadedIds = new HashSet<>();
+        try (Stream<TransactionRepository.SearchRowView> rows = ReadWriteRoutingDataSource.callOnPrimary(transactionRepository::streamSearchRows)) {
+            rows.forEach(row -> {
+                lock.writeLock().lock();
+                try {
+                    if (append(row.getId(), row.getDescription(), row.getDate(), row.getCategoryId())) {
+                        loadedIds.add(row.getId());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                for (final Transaction transaction : pendingDuringLoad) {
+                    if (!loadedIds.contains(transaction.getId())) {
+                        append(transaction);
+                    }
+                }
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Indexed {} transaction descriptions ({} trigrams).", size(), postings.size());
+    }
+
+    @TransactionalEventListener
+    public void onTransactionsPersisted(final TransactionsPersistedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (Objects.nonNull(pendingDuringLoad)) {
+                pendingDuringLoad.addAll(event.transactions());
+                return;
+            }
+            for (final Transaction transaction : event.transactions()) {
+                append(transaction);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best {@code limit} rows whose description contains {@code query} (or, in
+     * {@link SearchMode#PREFIX} mode, contains a word starting with it), best match first. Day bounds are inclusive
+     * epoch days; {@link #ANY_CATEGORY} disables the category filter.
+     */
+    public List<Long> search(final String query, final SearchMode mode, final int fromEpochDay, final int toEpochDay,
+                             final long categoryId, final int limit) {
+        final String needle = needle(query, mode);
+        if (Objects.isNull(needle)) {
+            return List.of();
+        }
+        final PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING);
+        lock.readLock().lock();
+        try {
+            final int[] candidates = candidates(needle);
+            final int count = Objects.isNull(candidates) ? size : candidates.length;
+            for (int i = 0; i < count; i++) {
+                final int row = Objects.isNull(candidates) ? i : candidates[i];
+                if (!inPeriod(epochDays[row], fromEpochDay, toEpochDay)
+                        || (categoryId != ANY_CATEGORY && categoryIds[row] != categoryId)) {
+                    continue;
+                }
+                offer(best, match(ids[row], texts[row], epochDays[row], needle), limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ranked(best);
+    }
+
+    /**
+     * Answers the same query as {@link #search} from the bound owner's rows in the database instead of the in-memory
+     * index, for owners the index does not hold. Every description of the owner is read and matched, so this is a
+     * scan of the owner's rows on the {@code owner_id} index rather than a lookup.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> scan(final String query, final SearchMode mode, final int fromEpochDay, final int toEpochDay,
+                           final long categoryId, final int limit) {
+        final String needle = needle(query, mode);
+        if (Objects.isNull(needle)) {
+            return List.of();
+        }
+        final PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING);
+        try (Stream<TransactionRepository.SearchRowView> rows = transactionRepository.streamSearchRows()) {
+            rows.forEach(row -> {
+                final String normalized = TransactionFingerprint.normalizeDescription(row.getDescription());
+                final int epochDay = Objects.isNull(row.getDate()) ? NO_DATE : Math.toIntExact(row.getDate().toLocalDate().toEpochDay());
+                final long rowCategoryId = Objects.isNull(row.getCategoryId()) ? ANY_CATEGORY : row.getCategoryId();
+                if (normalized.isEmpty() || !inPeriod(epochDay, fromEpochDay, toEpochDay)
+                        || (categoryId != ANY_CATEGORY && rowCategoryId != categoryId)) {
+                    return;
+                }
+                offer(best, match(row.getId(), " " + normalized + " ", epochDay, needle), limit);
+            });
+        }
+        return ranked(best);
+    }
+
+    private static String needle(final String query, final SearchMode mode) {
+        final String normalized = TransactionFingerprint.normalizeDescription(query);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return mode == SearchMode.PREFIX ? " " + normalized : normalized;
+    }
+
+    private static void offer(final PriorityQueue<Hit> best, final Hit hit, final int limit) {
+        if (Objects.nonNull(hit)) {
+            best.add(hit);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private static List<Long> ranked(final PriorityQueue<Hit> best) {
+        final Long[] ranked = new Long[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll().id();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    /**
+     * Intersects the posting lists of the grams in {@code needle}; {@code null} means the needle is too short to use
+     * the index and every row is a candidate.
+     */
+    private int[] candidates(final String needle) {
+        if (needle.length() < GRAM) {
+            return null;
+        }
+        final List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            final Postings list = postings.get(gram(needle, i));
+            if (Objects.isNull(list)) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists.get(0).rows, lists.get(0).size);
+        for (int l = 1; l < lists.size() && result.length > 0; l++) {
+            final Postings other = lists.get(l);
+            int kept = 0;
+            for (final int row : result) {
+                if (Arrays.binarySearch(other.rows, 0, other.size, row) >= 0) {
+                    result[kept++] = row;
+                }
+            }
+            result = Arrays.copyOf(result, kept);
+        }
+        return result;
+    }
+
+    private static boolean inPeriod(final int day, final int fromEpochDay, final int toEpochDay) {
+        if (day == NO_DATE) {
+            return fromEpochDay == Integer.MIN_VALUE && toEpochDay == Integer.MAX_VALUE;
+        }
+        return day >= fromEpochDay && day <= toEpochDay;
+    }
+
+    private static Hit match(final long id, final String text, final int epochDay, final String needle) {
+        int quality = -1;
+        int position = -1;
+        for (int at = text.indexOf(needle); at >= 0 && quality < 2; at = text.indexOf(needle, at + 1)) {
+            final int start = needle.charAt(0) == ' ' ? at + 1 : at;
+            final boolean wordStart = text.charAt(start - 1) == ' ';
+            final int candidate = !wordStart ? 0 : text.charAt(at + needle.length()) == ' ' ? 2 : 1;
+            if (candidate > quality) {
+                quality = candidate;
+                position = start;
+            }
+        }
+        return quality < 0 ? null : new Hit(id, quality, position, epochDay);
+    }
+
+    private void append(final Transaction transaction) {
+        if (!OwnerContext.isDefault(transaction.getOwnerId())) {
+            return;
+        }
+        append(transaction.getId(), transaction.getDescription(), transaction.getDate(),
+                Objects.isNull(transaction.getCategory()) ? null : transaction.getCategory().getId());
+    }
+
+    private boolean append(final Long id, final String description, final LocalDateTime date, final Long categoryId) {
+        if (Objects.isNull(id) || Objects.isNull(description)) {
+            return false;
+        }
+        final String normalized = TransactionFingerprint.normalizeDescription(description);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        final String text = " " + normalized + " ";
+        ids[size] = id;
+        epochDays[size] = Objects.isNull(date) ? NO_DATE : Math.toIntExact(date.toLocalDate().toEpochDay());
+        categoryIds[size] = Objects.isNull(categoryId) ? ANY_CATEGORY : categoryId;
+        texts[size] = text;
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            postings.computeIfAbsent(gram(text, i), key -> new Postings()).add(size);
+        }
+        size++;
+        return true;
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        final int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+    }
+
+    private static long gram(final String text, final int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private record Hit(long id, int quality, int position, int epochDay) {
+    }
+
+    private static final class Postings {
+        private int[] rows = new int[4];
+        private int size;
+
+        private void add(final int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+    }
+}
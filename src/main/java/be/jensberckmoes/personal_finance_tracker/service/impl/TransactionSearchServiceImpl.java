@@ -0,0 +1,51 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionSearchRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.BlankParameterException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.enums.SearchMode;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionSearchService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(name = "app.search.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionSearchServiceImpl implements TransactionSearchService {
+    private static final int MAX_RESULTS = 500;
+
+    private final TransactionSearchIndex transactionSearchIndex;
+
+    @Override
+    public List<Long> search(final TransactionSearchRequestDto transactionSearchRequestDto) {
+        if (Objects.isNull(transactionSearchRequestDto)) {
+            throw new InvalidInputException("TransactionSearchRequestDto cannot be null.");
+        }
+        if (Objects.isNull(transactionSearchRequestDto.getQuery()) || transactionSearchRequestDto.getQuery().isBlank()) {
+            throw new BlankParameterException("Search query cannot be blank.");
+        }
+        final int limit = transactionSearchRequestDto.getLimit();
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new InvalidInputException("Search limit must be between 1 and " + MAX_RESULTS + ".");
+        }
+        final int fromEpochDay = Objects.isNull(transactionSearchRequestDto.getFrom())
+                ? Integer.MIN_VALUE : Math.toIntExact(transactionSearchRequestDto.getFrom().toEpochDay());
+        final int toEpochDay = Objects.isNull(transactionSearchRequestDto.getTo())
+                ? Integer.MAX_VALUE : Math.toIntExact(transactionSearchRequestDto.getTo().toEpochDay());
+        if (fromEpochDay > toEpochDay) {
+            throw new InvalidInputException("Period start cannot be after period end.");
+        }
+        final SearchMode mode = Objects.isNull(transactionSearchRequestDto.getMode()) ? SearchMode.SUBSTRING : transactionSearchRequestDto.getMode();
+        final long categoryId = Objects.isNull(transactionSearchRequestDto.getCategoryId())
+                ? TransactionSearchIndex.ANY_CATEGORY : transactionSearchRequestDto.getCategoryId();
+        if (!OwnerContext.isDefault(OwnerContext.current())) {
+            return transactionSearchIndex.scan(transactionSearchRequestDto.getQuery(), mode, fromEpochDay, toEpochDay, categoryId, limit);
+        }
+        return transactionSearchIndex.search(transactionSearchRequestDto.getQuery(), mode, fromEpochDay, toEpochDay, categoryId, limit);
+    }
+}
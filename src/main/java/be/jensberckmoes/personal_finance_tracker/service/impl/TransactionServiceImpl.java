@@ -1,33 +1,152 @@
 package be.jensberckmoes.personal_finance_tracker.service.impl;
 
+import be.jensberckmoes.personal_finance_tracker.concurrency.Workload;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionBatchResultDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
 import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
 import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
 import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionCursorCodec;
 import be.jensberckmoes.personal_finance_tracker.model.TransactionMapper;
-import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionValidationResult;
 import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionCategorizer;
 import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 @AllArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
-    private final CategoryRepository categoryRepository;
+    private final CategoryReferenceResolver categoryReferenceResolver;
+    private final TransactionValidationService transactionValidationService;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final MonthlyRollupWriter monthlyRollupWriter;
+    private final TransactionCursorCodec transactionCursorCodec;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionCategorizer transactionCategorizer;
 
     @Override
+    @Transactional
+    @Workload(WorkloadClass.INGEST)
     public TransactionResponseDto addTransaction(final TransactionRequestDto transactionRequestDto) {
         final Transaction transaction = transactionMapper.toEntity(transactionRequestDto).orElseThrow(() -> new InvalidInputException("Invalid TransactionRequestDto received. Null object"));
-        final Optional<Category> optionalCategory = categoryRepository.findById(transactionRequestDto.getCategoryId());
+        final Optional<Category> optionalCategory = categoryReferenceResolver.resolve(categoryIdOf(transactionRequestDto));
         optionalCategory.ifPresent(transaction::setCategory);
         final Transaction savedTransaction = transactionRepository.save(transaction);
+        monthlyRollupWriter.apply(List.of(savedTransaction));
+        applicationEventPublisher.publishEvent(new TransactionsPersistedEvent(List.of(savedTransaction)));
         return transactionMapper.toResponse(savedTransaction).orElseThrow(() -> new InvalidInputException("Invalid Category entity received from database. (object is null)."));
     }
 
+    @Override
+    @Transactional
+    @Workload(WorkloadClass.INGEST)
+    public List<TransactionBatchResultDto> addTransactions(final List<TransactionRequestDto> transactionRequestDtos) {
+        if (Objects.isNull(transactionRequestDtos)) {
+            throw new InvalidInputException("TransactionRequestDto list cannot be null.");
+        }
+        final List<Long> categoryIds = transactionRequestDtos.stream()
+                .map(dto -> Objects.isNull(dto) ? null : categoryIdOf(dto))
+                .toList();
+        final Map<Long, Category> categories = categoryReferenceResolver.resolveAll(categoryIds);
+        final List<TransactionBatchResultDto> results = new ArrayList<>(transactionRequestDtos.size());
+        final List<Transaction> accepted = new ArrayList<>(transactionRequestDtos.size());
+        final TransactionValidationResult validation = new TransactionValidationResult();
+        for (int i = 0; i < transactionRequestDtos.size(); i++) {
+            final TransactionRequestDto dto = transactionRequestDtos.get(i);
+            transactionValidationService.validate(dto, validation);
+            if (!validation.isValid()) {
+                results.add(TransactionBatchResultDto.builder().index(i).success(false).error(validation.describe()).build());
+                continue;
+            }
+            try {
+                accepted.add(toEntity(dto, categoryIds.get(i), categories));
+                results.add(TransactionBatchResultDto.builder().index(i).success(true).build());
+            } catch (final RuntimeException e) {
+                results.add(TransactionBatchResultDto.builder().index(i).success(false).error(describe(e)).build());
+            }
+        }
+
+        final List<Transaction> saved = transactionBatchWriter.persistInBatches(accepted);
+        int savedIndex = 0;
+        for (final TransactionBatchResultDto result : results) {
+            if (result.isSuccess()) {
+                result.setTransaction(transactionMapper.toResponse(saved.get(savedIndex++))
+                        .orElseThrow(() -> new InvalidInputException("Invalid Transaction entity received from batch writer. (object is null).")));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageDto listTransactions(final TransactionPageRequestDto transactionPageRequestDto) {
+        if (Objects.isNull(transactionPageRequestDto)) {
+            throw new InvalidInputException("TransactionPageRequestDto cannot be null.");
+        }
+        final int size = transactionPageRequestDto.getSize();
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        final List<TransactionResponseDto> rows = findPage(transactionPageRequestDto, Limit.of(size + 1));
+        final boolean hasNextPage = rows.size() > size;
+        final List<TransactionResponseDto> page = hasNextPage ? List.copyOf(rows.subList(0, size)) : rows;
+        final TransactionResponseDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return TransactionPageDto.builder()
+                .items(page)
+                .nextCursor(hasNextPage ? transactionCursorCodec.encode(last.getDate(), last.getId()) : null)
+                .build();
+    }
+
+    private List<TransactionResponseDto> findPage(final TransactionPageRequestDto request, final Limit limit) {
+        if (Objects.isNull(request.getCursor())) {
+            return transactionRepository.findLatestResponses(request.getCategoryId(), request.getType(), request.getMethod(), limit);
+        }
+        final TransactionCursorCodec.Position position = transactionCursorCodec.decode(request.getCursor());
+        return transactionRepository.findLatestResponsesBefore(position.date(), position.id(),
+                request.getCategoryId(), request.getType(), request.getMethod(), limit);
+    }
+
+    private Transaction toEntity(final TransactionRequestDto dto, final Long categoryId, final Map<Long, Category> categories) {
+        final Category category = categories.get(categoryId);
+        if (Objects.isNull(category)) {
+            throw new EntityNotFoundException("Category not found with id: " + categoryId);
+        }
+        final Transaction transaction = transactionMapper.toEntity(dto)
+                .orElseThrow(() -> new InvalidInputException("Invalid TransactionRequestDto received. Null object"));
+        transaction.setCategory(category);
+        return transaction;
+    }
+
+    private Long categoryIdOf(final TransactionRequestDto dto) {
+        return Objects.nonNull(dto.getCategoryId()) ? dto.getCategoryId() : transactionCategorizer.categorize(OwnerContext.current(), dto.getDescription()).orElse(null);
+    }
+
+    private static String describe(final RuntimeException e) {
+        return Objects.isNull(e.getMessage()) ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
 }
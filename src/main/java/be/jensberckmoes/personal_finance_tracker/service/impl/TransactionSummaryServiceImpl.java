@@ -0,0 +1,76 @@
+package be.jensberckmoes.personal_finance_tracker.service.impl;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.Workload;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.dto.MonthlyTotalDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollupKey;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.MonthlyTransactionRollupRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionSummaryService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@Workload(WorkloadClass.REPORT)
+@AllArgsConstructor
+public class TransactionSummaryServiceImpl implements TransactionSummaryService {
+    private final MonthlyTransactionRollupRepository monthlyTransactionRollupRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    public List<MonthlyTotalDto> getMonthlyTotals(final YearMonth from, final YearMonth to, final Long categoryId,
+                                                  final TransactionType type, final TransactionMethod method) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new InvalidInputException("Period bounds cannot be null.");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException("Period start cannot be after period end.");
+        }
+        if (Objects.isNull(type)) {
+            throw new InvalidInputException("Transaction type cannot be null for monthly totals.");
+        }
+        return monthlyTransactionRollupRepository.sumByPeriod(
+                        OwnerContext.current(),
+                        MonthlyTransactionRollupKey.toPeriod(from),
+                        MonthlyTransactionRollupKey.toPeriod(to),
+                        categoryId,
+                        type.name(),
+                        Objects.isNull(method) ? null : method.name())
+                .stream()
+                .map(view -> MonthlyTotalDto.builder()
+                        .month(MonthlyTransactionRollupKey.fromPeriod(view.getPeriod()))
+                        .totalAmount(view.getTotalAmount())
+                        .transactionCount(view.getTransactionCount())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public long rebuildMonthlyRollups() {
+        final String ownerId = OwnerContext.current();
+        monthlyTransactionRollupRepository.deleteByOwner(ownerId);
+        long rows = 0;
+        for (final TransactionRepository.MonthlyAggregateView aggregate : transactionRepository.aggregateByMonth()) {
+            monthlyTransactionRollupRepository.insert(
+                    ownerId,
+                    MonthlyTransactionRollupKey.toPeriod(YearMonth.of(aggregate.getYear(), aggregate.getMonth())),
+                    Objects.isNull(aggregate.getCategoryId()) ? MonthlyTransactionRollupKey.NO_CATEGORY : aggregate.getCategoryId(),
+                    Objects.isNull(aggregate.getType()) ? MonthlyTransactionRollupKey.NONE : aggregate.getType().name(),
+                    Objects.isNull(aggregate.getMethod()) ? MonthlyTransactionRollupKey.NONE : aggregate.getMethod().name(),
+                    aggregate.getTotalAmount(),
+                    aggregate.getTransactionCount());
+            rows++;
+        }
+        return rows;
+    }
+}
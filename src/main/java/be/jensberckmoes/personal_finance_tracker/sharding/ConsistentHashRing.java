@@ -0,0 +1,76 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable consistent-hash ring over named nodes. Every node is placed at {@code virtualNodes} points on a 64-bit
+ * ring and a key belongs to the first point at or after its own hash, wrapping around. Adding or removing a node
+ * therefore only moves the keys adjacent to that node's points, roughly {@code 1/n} of them.
+ * <p>
+ * Points are kept in two parallel sorted arrays, so a lookup is one binary search with no boxing.
+ */
+public final class ConsistentHashRing {
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+
+    public ConsistentHashRing(final Collection<String> nodes, final int virtualNodes) {
+        if (Objects.isNull(nodes) || nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive.");
+        }
+        this.nodes = List.copyOf(nodes);
+        final List<Point> placed = new ArrayList<>(this.nodes.size() * virtualNodes);
+        for (final String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                placed.add(new Point(hash(node + "#" + i), node));
+            }
+        }
+        placed.sort(Comparator.comparingLong(Point::hash).thenComparing(Point::node));
+        this.points = new long[placed.size()];
+        this.owners = new String[placed.size()];
+        for (int i = 0; i < placed.size(); i++) {
+            points[i] = placed.get(i).hash();
+            owners[i] = placed.get(i).node();
+        }
+    }
+
+    public String locate(final String key) {
+        final int found = Arrays.binarySearch(points, hash(key));
+        final int index = found >= 0 ? found : -found - 1;
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes followed by the MurmurHash3 64-bit finalizer, which spreads the similar keys a
+     * ring sees ({@code shard-0#1}, {@code shard-0#2}, ...) evenly over the whole range.
+     */
+    static long hash(final String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Point(long hash, String node) {
+    }
+}
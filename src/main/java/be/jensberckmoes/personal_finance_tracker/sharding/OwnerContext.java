@@ -0,0 +1,65 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Holds the owner the current thread acts for. Every owner-scoped entity is written with, and filtered by, this
+ * owner, and the shard router uses it to pick a datasource. Threads that never bind an owner act for
+ * {@link #DEFAULT_OWNER}, so single-user deployments keep working unchanged. Databases created before owners existed
+ * are backfilled to that owner by {@code db/owner-id-migration.sql}.
+ */
+public final class OwnerContext {
+    public static final String DEFAULT_OWNER = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private OwnerContext() {
+    }
+
+    public static String current() {
+        final String owner = CURRENT.get();
+        return Objects.isNull(owner) ? DEFAULT_OWNER : owner;
+    }
+
+    public static boolean isDefault(final String ownerId) {
+        return DEFAULT_OWNER.equals(ownerId);
+    }
+
+    /**
+     * Binds {@code ownerId} until the returned scope is closed, which restores the previous binding.
+     */
+    public static Scope bind(final String ownerId) {
+        final String previous = CURRENT.get();
+        CURRENT.set(ownerId);
+        return () -> {
+            if (Objects.isNull(previous)) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static <T> T callAs(final String ownerId, final Supplier<T> action) {
+        final Scope scope = bind(ownerId);
+        try {
+            return action.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    public static void runAs(final String ownerId, final Runnable action) {
+        callAs(ownerId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,36 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Binds the authenticated principal as the request's owner. Anonymous requests act for
+ * {@link OwnerContext#DEFAULT_OWNER}.
+ */
+public class OwnerContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.isNull(authentication) || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final OwnerContext.Scope scope = OwnerContext.bind(authentication.getName());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+        }
+    }
+}
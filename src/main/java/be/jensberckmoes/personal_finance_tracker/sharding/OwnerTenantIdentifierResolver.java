@@ -0,0 +1,22 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@link OwnerContext#current()} to Hibernate as the tenant identifier, which fills and filters the
+ * {@code @TenantId} owner columns.
+ */
+@Component
+public class OwnerTenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return OwnerContext.current();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
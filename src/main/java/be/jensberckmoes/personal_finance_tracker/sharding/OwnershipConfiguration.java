@@ -0,0 +1,26 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OwnershipConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantIdentifierResolverCustomizer(final OwnerTenantIdentifierResolver ownerTenantIdentifierResolver) {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, ownerTenantIdentifierResolver);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication
+    public FilterRegistrationBean<OwnerContextFilter> ownerContextFilter() {
+        final FilterRegistrationBean<OwnerContextFilter> registration = new FilterRegistrationBean<>(new OwnerContextFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,33 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Pins the current thread to a named shard, bypassing the owner-based routing. Only maintenance code such as
+ * schema initialization and the {@link ShardRebalancer} should need this.
+ */
+public final class ShardContext {
+    private static final ThreadLocal<String> PINNED = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String pinned() {
+        return PINNED.get();
+    }
+
+    public static <T> T callOn(final String shard, final Supplier<T> action) {
+        final String previous = PINNED.get();
+        PINNED.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (Objects.isNull(previous)) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The connection pools of all shards, in configuration order. The first shard doubles as the directory shard.
+ */
+public class ShardDataSources implements AutoCloseable {
+    private final Map<String, HikariDataSource> dataSources;
+
+    public ShardDataSources(final Map<String, HikariDataSource> dataSources) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard must be configured.");
+        }
+        this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+    }
+
+    public Map<String, ? extends DataSource> asMap() {
+        return dataSources;
+    }
+
+    public List<String> names() {
+        return List.copyOf(dataSources.keySet());
+    }
+
+    public DataSource directoryDataSource() {
+        return dataSources.values().iterator().next();
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,40 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persists the owners whose shard differs from the one the hash ring assigns them, which is what the
+ * {@link ShardRebalancer} produces. The table lives on a single directory shard and is read once at startup; it
+ * only ever holds the exceptions, so it stays small.
+ */
+public class ShardDirectory {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShardDirectory(final DataSource directoryDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(directoryDataSource);
+        jdbcTemplate.execute("create table if not exists owner_placement (" +
+                "owner_id varchar(100) not null primary key, shard varchar(100) not null)");
+    }
+
+    public Map<String, String> loadPlacements() {
+        final Map<String, String> placements = new HashMap<>();
+        final RowCallbackHandler collector = rs -> placements.put(rs.getString("owner_id"), rs.getString("shard"));
+        jdbcTemplate.query("select owner_id, shard from owner_placement", collector);
+        return placements;
+    }
+
+    public void save(final String ownerId, final String shard) {
+        if (jdbcTemplate.update("update owner_placement set shard = ? where owner_id = ?", shard, ownerId) == 0) {
+            jdbcTemplate.update("insert into owner_placement (owner_id, shard) values (?, ?)", ownerId, shard);
+        }
+    }
+
+    public void remove(final String ownerId) {
+        jdbcTemplate.update("delete from owner_placement where owner_id = ?", ownerId);
+    }
+}
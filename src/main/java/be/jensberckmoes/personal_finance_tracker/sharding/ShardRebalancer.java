@@ -0,0 +1,274 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import be.jensberckmoes.personal_finance_tracker.dto.OwnerRelocationReportDto;
+import be.jensberckmoes.personal_finance_tracker.exception.BlankParameterException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Budget;
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendCheckpoint;
+import be.jensberckmoes.personal_finance_tracker.model.entity.CategorizationRule;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.impl.BudgetTracker;
+import be.jensberckmoes.personal_finance_tracker.service.impl.MonthlyRollupWriter;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionBatchWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Moves every row an owner has from its current shard to another one. The owner is refused by the
+ * {@link ShardRouter} for the duration of the move. Rows are copied to the target in one transaction, the
+ * placement is switched, and only then are the source rows deleted, so a failure before the switch leaves the
+ * owner untouched on the source shard. Transactions are read from the source a page at a time along the
+ * {@code (date, id)} keyset, each page in its own read-only transaction, and written to the target before the next
+ * page is read, so the history is never held in memory as a whole.
+ * <p>
+ * Categories, categorization rules, budgets and transactions keep their snowflake ids, which are unique across shards,
+ * so ids held by clients, page cursors and the in-memory caches stay valid. The rows are written with batched native
+ * inserts, since Hibernate would assign a new id to every persisted entity. Budget spend checkpoints move with the rows,
+ * and the owner's monthly rollups are rebuilt on the target from the copied transactions. Before the owner is
+ * routed again, its remembered category ids are dropped and its budget counters are seeded from the target shard.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+    private static final int BATCH_SIZE = TransactionBatchWriter.BATCH_SIZE;
+    private static final int PAGE_SIZE = BATCH_SIZE * 20;
+
+    private final ShardRouter shardRouter;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final MonthlyRollupWriter monthlyRollupWriter;
+    private final CategoryReferenceResolver categoryReferenceResolver;
+    private final BudgetTracker budgetTracker;
+
+    public OwnerRelocationReportDto relocate(final String ownerId, final String targetShard) {
+        if (Objects.isNull(ownerId) || ownerId.isBlank()) {
+            throw new BlankParameterException("Owner id cannot be blank.");
+        }
+        if (!shardRouter.shards().contains(targetShard)) {
+            throw new InvalidInputException("Unknown shard '" + targetShard + "'. Known shards: " + shardRouter.shards());
+        }
+        final String sourceShard = shardRouter.homeShardOf(ownerId);
+        final OwnerRelocationReportDto report = OwnerRelocationReportDto.builder()
+                .ownerId(ownerId).sourceShard(sourceShard).targetShard(targetShard).build();
+        if (sourceShard.equals(targetShard)) {
+            return report;
+        }
+        shardRouter.beginRelocation(ownerId);
+        try {
+            final OwnerRows rows = inTransaction(sourceShard, ownerId, true, this::readRows);
+            final long transactions = inTransaction(targetShard, ownerId, false, () -> copyRows(rows, sourceShard));
+            shardRouter.assign(ownerId, targetShard);
+            inTransaction(sourceShard, ownerId, false, () -> deleteRows(rows));
+            categoryReferenceResolver.evictOwner(ownerId);
+            ShardContext.callOn(targetShard, () -> {
+                budgetTracker.reload(ownerId);
+                return null;
+            });
+            report.setCategories(rows.categories().size());
+            report.setCategorizationRules(rows.rules().size());
+            report.setBudgets(rows.budgets().size());
+            report.setTransactions(transactions);
+            log.info("Moved owner '{}' from shard '{}' to '{}': {} categories, {} transactions.",
+                    ownerId, sourceShard, targetShard, report.getCategories(), report.getTransactions());
+            return report;
+        } finally {
+            shardRouter.endRelocation(ownerId);
+        }
+    }
+
+    private OwnerRows readRows() {
+        final List<Category> categories = entityManager.createQuery("select c from Category c", Category.class).getResultList();
+        final List<Long> categoryIds = categories.stream().map(Category::getId).toList();
+        final List<CategorizationRule> rules = categoryIds.isEmpty() ? List.of() : entityManager
+                .createQuery("select r from CategorizationRule r join fetch r.category where r.category.id in :ids", CategorizationRule.class)
+                .setParameter("ids", categoryIds)
+                .getResultList();
+        final List<Budget> budgets = categoryIds.isEmpty() ? List.of() : entityManager
+                .createQuery("select b from Budget b join fetch b.category where b.category.id in :ids", Budget.class)
+                .setParameter("ids", categoryIds)
+                .getResultList();
+        final List<BudgetSpendCheckpoint> checkpoints = entityManager
+                .createQuery("select c from BudgetSpendCheckpoint c where c.id.ownerId = :ownerId", BudgetSpendCheckpoint.class)
+                .setParameter("ownerId", OwnerContext.current())
+                .getResultList();
+        return new OwnerRows(categories, rules, budgets, checkpoints);
+    }
+
+    private long copyRows(final OwnerRows rows, final String sourceShard) {
+        final String ownerId = OwnerContext.current();
+        insert("insert into category (id, name, description, category_type, category_group_type, owner_id) values (?, ?, ?, ?, ?, ?)",
+                rows.categories(), (statement, category) -> {
+                    statement.setLong(1, category.getId());
+                    statement.setString(2, category.getName());
+                    statement.setString(3, category.getDescription());
+                    statement.setString(4, category.getCategoryType().name());
+                    statement.setString(5, category.getCategoryGroupType());
+                    statement.setString(6, ownerId);
+                });
+        insert("insert into categorization_rule (id, keyword, category_id, priority, owner_id) values (?, ?, ?, ?, ?)",
+                rows.rules(), (statement, rule) -> {
+                    statement.setLong(1, rule.getId());
+                    statement.setString(2, rule.getKeyword());
+                    statement.setLong(3, rule.getCategory().getId());
+                    statement.setInt(4, rule.getPriority());
+                    statement.setString(5, ownerId);
+                });
+        insert("insert into budget (id, category_id, monthly_limit, owner_id) values (?, ?, ?, ?)",
+                rows.budgets(), (statement, budget) -> {
+                    statement.setLong(1, budget.getId());
+                    statement.setLong(2, budget.getCategory().getId());
+                    statement.setBigDecimal(3, budget.getMonthlyLimit());
+                    statement.setString(4, ownerId);
+                });
+        for (final BudgetSpendCheckpoint checkpoint : rows.checkpoints()) {
+            entityManager.persist(checkpoint);
+        }
+        entityManager.flush();
+        return copyTransactionPages(sourceShard, ownerId, this::readTransactionPage)
+                + copyTransactionPages(sourceShard, ownerId, this::readUndatedTransactionPage);
+    }
+
+    private long copyTransactionPages(final String sourceShard, final String ownerId, final Function<Transaction, List<Transaction>> reader) {
+        long copied = 0;
+        Transaction last = null;
+        List<Transaction> page;
+        do {
+            final Transaction after = last;
+            page = inTransaction(sourceShard, ownerId, true, () -> reader.apply(after));
+            copyTransactions(page, ownerId);
+            copied += page.size();
+            last = page.isEmpty() ? null : page.getLast();
+        } while (page.size() == PAGE_SIZE);
+        return copied;
+    }
+
+    /**
+     * Next page of the owner's dated transactions after {@code after} in {@code (date, id)} order, which the
+     * {@code (owner_id, date, id)} index serves as a range scan.
+     */
+    private List<Transaction> readTransactionPage(final Transaction after) {
+        final String keyset = Objects.isNull(after) ? "t.date is not null" : "(t.date > :date or (t.date = :date and t.id > :id))";
+        final TypedQuery<Transaction> query = entityManager.createQuery("select t from Transaction t left join fetch t.category where "
+                + keyset + " order by t.date, t.id", Transaction.class);
+        if (Objects.nonNull(after)) {
+            query.setParameter("date", after.getDate()).setParameter("id", after.getId());
+        }
+        return query.setMaxResults(PAGE_SIZE).getResultList();
+    }
+
+    /**
+     * Next page of the owner's transactions without a date, which the {@code (date, id)} keyset cannot reach.
+     */
+    private List<Transaction> readUndatedTransactionPage(final Transaction after) {
+        final String keyset = Objects.isNull(after) ? "" : " and t.id > :id";
+        final TypedQuery<Transaction> query = entityManager.createQuery("select t from Transaction t left join fetch t.category "
+                + "where t.date is null" + keyset + " order by t.id", Transaction.class);
+        if (Objects.nonNull(after)) {
+            query.setParameter("id", after.getId());
+        }
+        return query.setMaxResults(PAGE_SIZE).getResultList();
+    }
+
+    private void copyTransactions(final List<Transaction> page, final String ownerId) {
+        insert("insert into transaction (id, category_id, amount, type, method, date, description, fingerprint, journal_sequence, owner_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", page, (statement, transaction) -> {
+                    statement.setLong(1, transaction.getId());
+                    statement.setObject(2, Objects.isNull(transaction.getCategory()) ? null : transaction.getCategory().getId(), Types.BIGINT);
+                    statement.setBigDecimal(3, transaction.getAmount());
+                    statement.setObject(4, Objects.isNull(transaction.getType()) ? null : transaction.getType().ordinal(), Types.INTEGER);
+                    statement.setObject(5, Objects.isNull(transaction.getMethod()) ? null : transaction.getMethod().ordinal(), Types.INTEGER);
+                    statement.setObject(6, transaction.getDate());
+                    statement.setString(7, transaction.getDescription());
+                    statement.setObject(8, transaction.getFingerprint(), Types.BIGINT);
+                    statement.setObject(9, transaction.getJournalSequence(), Types.BIGINT);
+                    statement.setString(10, ownerId);
+                });
+        monthlyRollupWriter.apply(page);
+    }
+
+    /**
+     * Inserts the rows in JDBC batches on the connection of the current transaction.
+     */
+    private <T> void insert(final String statement, final List<T> rows, final RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement prepared = connection.prepareStatement(statement)) {
+                int batched = 0;
+                for (final T row : rows) {
+                    binder.bind(prepared, row);
+                    prepared.addBatch();
+                    if (++batched % BATCH_SIZE == 0) {
+                        prepared.executeBatch();
+                    }
+                }
+                prepared.executeBatch();
+            }
+        });
+    }
+
+    private Void deleteRows(final OwnerRows rows) {
+        entityManager.createQuery("delete from Transaction t where t.ownerId = :ownerId")
+                .setParameter("ownerId", OwnerContext.current())
+                .executeUpdate();
+        deleteByIds("delete from CategorizationRule r where r.id in :ids", rows.rules().stream().map(CategorizationRule::getId).toList());
+        deleteByIds("delete from Budget b where b.id in :ids", rows.budgets().stream().map(Budget::getId).toList());
+        entityManager.createQuery("delete from MonthlyTransactionRollup r where r.id.ownerId = :ownerId")
+                .setParameter("ownerId", OwnerContext.current())
+                .executeUpdate();
+        entityManager.createQuery("delete from BudgetSpendCheckpoint c where c.id.ownerId = :ownerId")
+                .setParameter("ownerId", OwnerContext.current())
+                .executeUpdate();
+        deleteByIds("delete from Category c where c.id in :ids", rows.categories().stream().map(Category::getId).toList());
+        return null;
+    }
+
+    private void deleteByIds(final String statement, final List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE * 10) {
+            entityManager.createQuery(statement)
+                    .setParameter("ids", ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE * 10)))
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * Runs the work in a new transaction on the shard. A new one even when called inside another, so a page read
+     * from the source does not join the target's copy transaction.
+     */
+    private <T> T inTransaction(final String shard, final String ownerId, final boolean readOnly, final Supplier<T> work) {
+        final TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(readOnly);
+        return ShardContext.callOn(shard, () -> OwnerContext.callAs(ownerId, () -> template.execute(status -> work.get())));
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private record OwnerRows(List<Category> categories, List<CategorizationRule> rules, List<Budget> budgets,
+                             List<BudgetSpendCheckpoint> checkpoints) {
+    }
+}
@@ -0,0 +1,64 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import be.jensberckmoes.personal_finance_tracker.exception.ShardUnavailableException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps owners to shards: an explicit placement from the {@link ShardDirectory} wins, otherwise the
+ * {@link ConsistentHashRing} decides. Owners that are being relocated are refused until the move completes, so no
+ * write can land on the shard that is about to be cleaned up.
+ */
+public class ShardRouter {
+    private final ConsistentHashRing ring;
+    private final ShardDirectory shardDirectory;
+    private final Map<String, String> placements;
+    private final Set<String> relocating = ConcurrentHashMap.newKeySet();
+
+    public ShardRouter(final ConsistentHashRing ring, final ShardDirectory shardDirectory) {
+        this.ring = ring;
+        this.shardDirectory = shardDirectory;
+        this.placements = new ConcurrentHashMap<>(shardDirectory.loadPlacements());
+        placements.values().removeIf(shard -> !ring.nodes().contains(shard));
+    }
+
+    public String shardFor(final String ownerId) {
+        if (relocating.contains(ownerId)) {
+            throw new ShardUnavailableException("Owner '" + ownerId + "' is being moved to another shard. Retry shortly.");
+        }
+        return homeShardOf(ownerId);
+    }
+
+    public String homeShardOf(final String ownerId) {
+        final String placed = placements.get(ownerId);
+        return Objects.nonNull(placed) ? placed : ring.locate(ownerId);
+    }
+
+    public List<String> shards() {
+        return ring.nodes();
+    }
+
+    public void beginRelocation(final String ownerId) {
+        if (!relocating.add(ownerId)) {
+            throw new ShardUnavailableException("Owner '" + ownerId + "' is already being moved.");
+        }
+    }
+
+    public void endRelocation(final String ownerId) {
+        relocating.remove(ownerId);
+    }
+
+    public void assign(final String ownerId, final String shard) {
+        if (ring.locate(ownerId).equals(shard)) {
+            shardDirectory.remove(ownerId);
+            placements.remove(ownerId);
+        } else {
+            shardDirectory.save(ownerId, shard);
+            placements.put(ownerId, shard);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Hands out connections from the shard that owns the current thread's owner, or from the pinned shard when
+ * maintenance code has pinned one. The key is resolved when a transaction acquires its connection, so the owner
+ * must be bound before the transaction starts.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+    private final ShardRouter shardRouter;
+
+    public ShardRoutingDataSource(final ShardDataSources shardDataSources, final ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+        setTargetDataSources(new HashMap<>(shardDataSources.asMap()));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final String pinned = ShardContext.pinned();
+        return Objects.nonNull(pinned) ? pinned : shardRouter.shardFor(OwnerContext.current());
+    }
+}
@@ -0,0 +1,35 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.MappedSchema;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * {@code spring.jpa.hibernate.ddl-auto} only reaches the shard that serves the startup thread. This creates the
+ * mapped tables on every other shard that does not have them yet. Disable it with
+ * {@code app.sharding.initialize-schema=false} where schemas are migrated out of band.
+ */
+@Slf4j
+@AllArgsConstructor
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+    private final ShardDataSources shardDataSources;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (final Map.Entry<String, ? extends DataSource> shard : shardDataSources.asMap().entrySet()) {
+            if (!MappedSchema.exists(shard.getValue())) {
+                ShardContext.callOn(shard.getKey(), () -> {
+                    MappedSchema.export(entityManagerFactory);
+                    return null;
+                });
+                log.info("Created schema on shard '{}'.", shard.getKey());
+            }
+        }
+    }
+}
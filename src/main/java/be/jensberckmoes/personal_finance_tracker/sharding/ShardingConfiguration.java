@@ -0,0 +1,69 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Replaces the single application datasource with a {@link ShardRoutingDataSource} over several shards when
+ * {@code app.sharding.enabled=true}. Repositories and services are unaware of it: the owner bound in
+ * {@link OwnerContext} selects the shard and Hibernate's tenant filter scopes the rows within it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(final ShardingProperties shardingProperties) {
+        final Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+        if (shardingProperties.getShards().isEmpty()) {
+            final String suffix = UUID.randomUUID().toString().substring(0, 8);
+            for (int i = 0; i < shardingProperties.getEmbeddedShards(); i++) {
+                dataSources.put("shard-" + i, build("jdbc:h2:mem:shard-" + i + "-" + suffix + ";DB_CLOSE_DELAY=-1", "sa", ""));
+            }
+        } else {
+            for (final ShardingProperties.Shard shard : shardingProperties.getShards()) {
+                dataSources.put(shard.getName(), build(shard.getUrl(), shard.getUsername(), shard.getPassword()));
+            }
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(final ShardDataSources shardDataSources) {
+        return new ShardDirectory(shardDataSources.directoryDataSource());
+    }
+
+    @Bean
+    public ShardRouter shardRouter(final ShardDataSources shardDataSources, final ShardDirectory shardDirectory,
+                                   final ShardingProperties shardingProperties) {
+        return new ShardRouter(new ConsistentHashRing(shardDataSources.names(), shardingProperties.getVirtualNodes()), shardDirectory);
+    }
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(final ShardDataSources shardDataSources, final ShardRouter shardRouter) {
+        return new ShardRoutingDataSource(shardDataSources, shardRouter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.initialize-schema", havingValue = "true", matchIfMissing = true)
+    public ShardSchemaInitializer shardSchemaInitializer(final ShardDataSources shardDataSources,
+                                                         final EntityManagerFactory entityManagerFactory) {
+        return new ShardSchemaInitializer(shardDataSources, entityManagerFactory);
+    }
+
+    private static HikariDataSource build(final String url, final String username, final String password) {
+        return DataSourceBuilder.create().type(HikariDataSource.class).url(url).username(username).password(password).build();
+    }
+}
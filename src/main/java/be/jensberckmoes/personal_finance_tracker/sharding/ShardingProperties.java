@@ -0,0 +1,27 @@
+package be.jensberckmoes.personal_finance_tracker.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code app.sharding.*}. When no {@link #shards} are listed, {@link #embeddedShards} in-memory H2 databases stand
+ * in for them, which is what local runs and tests use.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+    private int virtualNodes = 160;
+    private int embeddedShards = 3;
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,35 @@
+-- One-off migration for MySQL databases created before rows were partitioned by owner. Run it before the first start
+-- of the owner-aware version: the owner columns are NOT NULL, and adding them to populated tables needs a value for
+-- the existing rows. Every existing row belongs to the default owner, which is what unauthenticated callers and
+-- background jobs are bound to.
+
+-- Owned tables: add the column with a default for the existing rows, then drop the default so the application always
+-- supplies the owner itself.
+ALTER TABLE category ADD COLUMN owner_id VARCHAR(100) NOT NULL DEFAULT 'default';
+ALTER TABLE category ALTER COLUMN owner_id DROP DEFAULT;
+ALTER TABLE transaction ADD COLUMN owner_id VARCHAR(100) NOT NULL DEFAULT 'default';
+ALTER TABLE transaction ALTER COLUMN owner_id DROP DEFAULT;
+ALTER TABLE budget ADD COLUMN owner_id VARCHAR(100) NOT NULL DEFAULT 'default';
+ALTER TABLE budget ALTER COLUMN owner_id DROP DEFAULT;
+ALTER TABLE categorization_rule ADD COLUMN owner_id VARCHAR(100) NOT NULL DEFAULT 'default';
+ALTER TABLE categorization_rule ALTER COLUMN owner_id DROP DEFAULT;
+
+-- Category names are unique per owner now. The old single-column unique index was named by Hibernate; look it up with
+-- SHOW INDEX FROM category WHERE Column_name = 'name' and drop it before adding the owner-scoped one.
+-- ALTER TABLE category DROP INDEX <name of the old unique index on name>;
+ALTER TABLE category ADD CONSTRAINT uk_category_owner_name UNIQUE (owner_id, name);
+CREATE INDEX idx_transaction_owner_date_id ON transaction (owner_id, date, id);
+
+-- The owner is part of the key of the derived tables.
+ALTER TABLE monthly_transaction_rollup ADD COLUMN owner_id VARCHAR(100) NOT NULL DEFAULT 'default';
+ALTER TABLE monthly_transaction_rollup ALTER COLUMN owner_id DROP DEFAULT;
+ALTER TABLE monthly_transaction_rollup DROP PRIMARY KEY, ADD PRIMARY KEY (owner_id, period, category_id, type, method);
+ALTER TABLE budget_spend_checkpoint ADD COLUMN owner_id VARCHAR(100) NOT NULL DEFAULT 'default';
+ALTER TABLE budget_spend_checkpoint ALTER COLUMN owner_id DROP DEFAULT;
+ALTER TABLE budget_spend_checkpoint DROP PRIMARY KEY, ADD PRIMARY KEY (owner_id, category_id, period);
+
+-- transaction.journal_sequence and its unique index need nothing here: the column is nullable and Hibernate adds both.
+-- Rows written before the journal, or with the journal disabled, simply have no sequence.
+
+-- The journal checkpoint now lives in the journal directory; the table earlier builds created is no longer read.
+DROP TABLE IF EXISTS journal_checkpoint;
@@ -0,0 +1,13 @@
+-- One-off migration for MySQL databases created before Transaction, Category, Budget and CategorizationRule ids became
+-- snowflake ids.
+-- Existing rows keep their ids: snowflake ids start around 2^42 and are always larger than the old values, and
+-- the application lifts its allocator above max(id) at startup. Only the database-side generators have to go.
+
+-- Category, budget and categorization rule ids were AUTO_INCREMENT; the application now supplies them, so an owner's
+-- rows keep their ids when the shard rebalancer moves them to another shard.
+ALTER TABLE category MODIFY id BIGINT NOT NULL;
+ALTER TABLE budget MODIFY id BIGINT NOT NULL;
+ALTER TABLE categorization_rule MODIFY id BIGINT NOT NULL;
+
+-- Transaction ids came from the emulated transaction_seq sequence table, which nothing reads any more.
+DROP TABLE IF EXISTS transaction_seq;
@@ -0,0 +1,132 @@
+package be.jensberckmoes.personal_finance_tracker.integration.datasource;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReplicaLagMonitor;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The replica is a second, empty H2 database: a listing served from it returns no rows, one served from the primary
+ * returns the owner's rows. Replication is simulated by writing the replica's heartbeat row by hand. The slice does
+ * not include the auto-configuration that attaches transaction execution listeners, so it is imported here.
+ */
+@DataJpaTest(properties = {"app.read-replica.enabled=true", "app.read-replica.max-lag=2s", "app.read-replica.lag-check-interval=1h"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReadReplicaRoutingTest {
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("delete from replica_heartbeat");
+    }
+
+    @Test
+    public void givenReplicaWithoutHeartbeat_whenListing_thenPrimaryServesTheRead() {
+        addTransactionAs("hank");
+        replicaLagMonitor.probe();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(listingSizeOf("hank")).isEqualTo(1);
+    }
+
+    @Test
+    public void givenCaughtUpReplica_whenListing_thenReplicaServesTheRead() {
+        addTransactionAs("ivan");
+        replicateUpTo(System.currentTimeMillis() + 1);
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(listingSizeOf("ivan")).isZero();
+    }
+
+    @Test
+    public void givenOwnWriteNotYetReplicated_whenListing_thenPrimaryServesTheRead() throws InterruptedException {
+        replicateUpTo(System.currentTimeMillis());
+        Thread.sleep(5);
+
+        addTransactionAs("judy");
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(listingSizeOf("judy")).isEqualTo(1);
+        assertThat(listingSizeOf("karl")).isZero();
+    }
+
+    @Test
+    public void givenReplicaBeyondMaxLag_whenListing_thenPrimaryServesTheRead() {
+        addTransactionAs("lena");
+        replicateUpTo(System.currentTimeMillis() - 10_000);
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(listingSizeOf("lena")).isEqualTo(1);
+    }
+
+    private void replicateUpTo(final long beatMillis) {
+        replica.update("delete from replica_heartbeat");
+        replica.update("insert into replica_heartbeat (id, beat_millis) values (1, ?)", beatMillis);
+        replicaLagMonitor.probe();
+    }
+
+    private void addTransactionAs(final String ownerId) {
+        OwnerContext.runAs(ownerId, () -> {
+            final Long categoryId = categoryService.createCategory(CategoryRequestDto.builder()
+                    .name("FOOD")
+                    .description("groceries")
+                    .categoryType(CategoryType.EXPENSE)
+                    .categoryGroupType("LIVING")
+                    .build()).getId();
+            transactionService.addTransaction(TransactionRequestDto.builder()
+                    .categoryId(categoryId)
+                    .amount(new BigDecimal("12.50"))
+                    .type(TransactionType.EXPENSE)
+                    .method(TransactionMethod.CREDIT_CARD)
+                    .date(LocalDateTime.of(2025, 5, 1, 12, 0))
+                    .description("Weekly shop")
+                    .build());
+        });
+        try {
+            Thread.sleep(5);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int listingSizeOf(final String ownerId) {
+        return OwnerContext.callAs(ownerId, () -> transactionService.listTransactions(TransactionPageRequestDto.builder().size(50).build()))
+                .getItems().size();
+    }
+}
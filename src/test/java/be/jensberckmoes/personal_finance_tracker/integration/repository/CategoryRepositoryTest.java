@@ -4,7 +4,10 @@ import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
 import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
 import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.ConstraintViolationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +35,8 @@ public class CategoryRepositoryTest {
     private CategoryRepository categoryRepository;
     @Autowired
     private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeEach
     void setUp() {
@@ -77,7 +84,7 @@ public class CategoryRepositoryTest {
                 .description("Rent")
                 .build();
 
-        assertThrows(DataIntegrityViolationException.class, () -> categoryRepository.save(secondCategoryToSave));
+        assertThrows(DataIntegrityViolationException.class, () -> categoryRepository.saveAndFlush(secondCategoryToSave));
     }
 
     @ParameterizedTest(name = "{index}: {1}")
@@ -92,7 +99,7 @@ public class CategoryRepositoryTest {
                 .categoryGroupType("SOME_CATEGORY_GROUP_TYPE")
                 .build();
 
-        assertThrows(ConstraintViolationException.class, () -> categoryRepository.save(category));
+        assertThrows(ConstraintViolationException.class, () -> categoryRepository.saveAndFlush(category));
     }
 
     private static Stream<Arguments> invalidCategoryNames() {
@@ -109,7 +116,7 @@ public class CategoryRepositoryTest {
                 .name("TEST")
                 .description("a".repeat(256))
                 .build();
-        assertThrows(ConstraintViolationException.class, () -> categoryRepository.save(category));
+        assertThrows(ConstraintViolationException.class, () -> categoryRepository.saveAndFlush(category));
     }
 
     @ParameterizedTest(name = "{index}: {1}")
@@ -124,7 +131,7 @@ public class CategoryRepositoryTest {
                 .categoryGroupType(invalidCategoryGroupType)
                 .build();
 
-        assertThrows(ConstraintViolationException.class, () -> categoryRepository.save(category));
+        assertThrows(ConstraintViolationException.class, () -> categoryRepository.saveAndFlush(category));
     }
 
     private static Stream<Arguments> invalidCategoryGroupTypes() {
@@ -233,6 +240,26 @@ public class CategoryRepositoryTest {
         );
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should serve repeated name and id lookups from the second-level and query cache")
+    public void givenCommittedCategory_whenLookedUpRepeatedly_thenCacheRegionsAreHit() {
+        final Category savedCategory = categoryRepository.save(Category.builder()
+                .name("CACHED")
+                .categoryType(CategoryType.EXPENSE)
+                .categoryGroupType("EXPENSE_TEST")
+                .build());
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        categoryRepository.findByNameIgnoreCase("cached");
+        categoryRepository.findByNameIgnoreCase("cached");
+        categoryRepository.findById(savedCategory.getId());
+
+        assertEquals(1, statistics.getQueryRegionStatistics(CategoryRepository.CATEGORY_BY_NAME_CACHE_REGION).getHitCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(Category.class.getName()).getHitCount() >= 1);
+    }
+
     @Test
     public void givenWrongCategoryName_whenFindByName_thenIsEmpty() {
         final Category category = Category.builder()
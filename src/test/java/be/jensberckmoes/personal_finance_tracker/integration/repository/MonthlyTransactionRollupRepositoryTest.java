@@ -0,0 +1,140 @@
+package be.jensberckmoes.personal_finance_tracker.integration.repository;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.MonthlyTransactionRollupKey;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.MonthlyTransactionRollupRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class MonthlyTransactionRollupRepositoryTest {
+    private static final String OWNER = "default";
+    private static final String OTHER_OWNER = "alice";
+
+    @Autowired
+    private MonthlyTransactionRollupRepository monthlyTransactionRollupRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenMissingThenExistingRow_whenUpsert_thenRowIsCreatedAndThenIncremented() {
+        monthlyTransactionRollupRepository.upsert(OWNER, 202504, 1L, "EXPENSE", "CASH", new BigDecimal("10.00"), 1);
+        monthlyTransactionRollupRepository.upsert(OWNER, 202504, 1L, "EXPENSE", "CASH", new BigDecimal("5.50"), 2);
+
+        final List<MonthlyTransactionRollupRepository.MonthlyTotalView> totals =
+                monthlyTransactionRollupRepository.sumByPeriod(OWNER, 202504, 202504, 1L, "EXPENSE", "CASH");
+        assertThat(totals).hasSize(1);
+        assertThat(totals.get(0).getTotalAmount()).isEqualByComparingTo("15.50");
+        assertThat(totals.get(0).getTransactionCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void givenRowsAcrossMonthsAndDimensions_whenSumByPeriod_thenTotalsAreGroupedPerMonthWithinRange() {
+        monthlyTransactionRollupRepository.insert(OWNER, 202503, 1L, "EXPENSE", "CASH", new BigDecimal("1.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 1L, "EXPENSE", "CASH", new BigDecimal("2.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 2L, "EXPENSE", MonthlyTransactionRollupKey.NONE, new BigDecimal("3.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 2L, "INCOME", "DIRECT_DEBIT", new BigDecimal("4.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202505, 1L, "EXPENSE", "CASH", new BigDecimal("8.00"), 1);
+
+        final List<MonthlyTransactionRollupRepository.MonthlyTotalView> expenses =
+                monthlyTransactionRollupRepository.sumByPeriod(OWNER, 202504, 202505, null, "EXPENSE", null);
+
+        assertThat(expenses).extracting(MonthlyTransactionRollupRepository.MonthlyTotalView::getPeriod).containsExactly(202504, 202505);
+        assertThat(expenses.get(0).getTotalAmount()).isEqualByComparingTo("5.00");
+        assertThat(expenses.get(0).getTransactionCount()).isEqualTo(2L);
+        assertThat(expenses.get(1).getTotalAmount()).isEqualByComparingTo("8.00");
+    }
+
+    @Test
+    public void givenExpenseRowsAcrossMethods_whenSumByCategoryAndPeriod_thenUncategorisedAndIncomeRowsAreLeftOut() {
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 1L, "EXPENSE", "CASH", new BigDecimal("2.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 1L, "EXPENSE", "DIRECT_DEBIT", new BigDecimal("3.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 1L, "INCOME", "CASH", new BigDecimal("50.00"), 1);
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, MonthlyTransactionRollupKey.NO_CATEGORY, "EXPENSE", "CASH", new BigDecimal("9.00"), 1);
+
+        final List<MonthlyTransactionRollupRepository.CategorySpendView> spend =
+                monthlyTransactionRollupRepository.sumByCategoryAndPeriod("EXPENSE", MonthlyTransactionRollupKey.NO_CATEGORY);
+
+        assertThat(spend).singleElement().satisfies(view -> {
+            assertThat(view.getOwnerId()).isEqualTo(OWNER);
+            assertThat(view.getCategoryId()).isEqualTo(1L);
+            assertThat(view.getPeriod()).isEqualTo(202504);
+            assertThat(view.getTotalAmount()).isEqualByComparingTo("5.00");
+        });
+    }
+
+    @Test
+    public void givenTwoOwnersWithTheSameKey_whenUpsert_thenEachOwnerKeepsAndSeesOnlyItsOwnTotals() {
+        monthlyTransactionRollupRepository.upsert(OWNER, 202504, MonthlyTransactionRollupKey.NO_CATEGORY, "EXPENSE", "CASH", new BigDecimal("10.00"), 1);
+        monthlyTransactionRollupRepository.upsert(OTHER_OWNER, 202504, MonthlyTransactionRollupKey.NO_CATEGORY, "EXPENSE", "CASH", new BigDecimal("70.00"), 7);
+
+        assertThat(monthlyTransactionRollupRepository.sumByPeriod(OWNER, 202504, 202504, null, "EXPENSE", null))
+                .singleElement().satisfies(view -> assertThat(view.getTotalAmount()).isEqualByComparingTo("10.00"));
+        assertThat(monthlyTransactionRollupRepository.sumByPeriod(OTHER_OWNER, 202504, 202504, null, "EXPENSE", null))
+                .singleElement().satisfies(view -> assertThat(view.getTransactionCount()).isEqualTo(7L));
+    }
+
+    @Test
+    public void givenRowsOfTwoOwners_whenDeleteByOwner_thenTheOtherOwnersRowsStay() {
+        monthlyTransactionRollupRepository.insert(OWNER, 202504, 1L, "EXPENSE", "CASH", new BigDecimal("1.00"), 1);
+        monthlyTransactionRollupRepository.insert(OTHER_OWNER, 202504, 2L, "EXPENSE", "CASH", new BigDecimal("2.00"), 1);
+
+        monthlyTransactionRollupRepository.deleteByOwner(OWNER);
+
+        assertThat(monthlyTransactionRollupRepository.findAll()).singleElement()
+                .satisfies(rollup -> assertThat(rollup.getId().getOwnerId()).isEqualTo(OTHER_OWNER));
+    }
+
+    @Test
+    public void givenTransactions_whenAggregateByMonth_thenOneRowPerMonthCategoryTypeAndMethod() {
+        final Category category = categoryRepository.save(Category.builder()
+                .name("FOOD")
+                .categoryType(CategoryType.EXPENSE)
+                .categoryGroupType("EXPENSE_FOOD")
+                .build());
+        transactionRepository.saveAll(List.of(
+                transaction(category, "10.00", LocalDateTime.of(2025, 4, 1, 8, 0)),
+                transaction(category, "15.00", LocalDateTime.of(2025, 4, 20, 8, 0)),
+                transaction(category, "7.00", LocalDateTime.of(2025, 5, 2, 8, 0))));
+        transactionRepository.flush();
+
+        final List<TransactionRepository.MonthlyAggregateView> aggregates = transactionRepository.aggregateByMonth();
+
+        assertThat(aggregates).hasSize(2);
+        final TransactionRepository.MonthlyAggregateView april = aggregates.stream()
+                .filter(aggregate -> aggregate.getMonth() == 4)
+                .findFirst()
+                .orElseThrow();
+        assertThat(april.getYear()).isEqualTo(2025);
+        assertThat(april.getCategoryId()).isEqualTo(category.getId());
+        assertThat(april.getType()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(april.getMethod()).isEqualTo(TransactionMethod.CASH);
+        assertThat(april.getTotalAmount()).isEqualByComparingTo("25.00");
+        assertThat(april.getTransactionCount()).isEqualTo(2L);
+    }
+
+    private static Transaction transaction(final Category category, final String amount, final LocalDateTime date) {
+        return Transaction.builder()
+                .category(category)
+                .amount(new BigDecimal(amount))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CASH)
+                .date(date)
+                .build();
+    }
+}
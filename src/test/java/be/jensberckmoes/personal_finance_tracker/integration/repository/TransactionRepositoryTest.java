@@ -0,0 +1,182 @@
+package be.jensberckmoes.personal_finance_tracker.integration.repository;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class TransactionRepositoryTest {
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Category food;
+    private Category rent;
+
+    @BeforeEach
+    void setUp() {
+        food = categoryRepository.save(category("FOOD"));
+        rent = categoryRepository.save(category("RENT"));
+        final LocalDateTime start = LocalDateTime.of(2025, 4, 1, 8, 0);
+        final List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transactions.add(transaction(i % 2 == 0 ? food : rent, start.plusDays(i / 2)));
+        }
+        transactionRepository.saveAll(transactions);
+        transactionRepository.flush();
+    }
+
+    @Test
+    public void givenTransactionsSharingDates_whenSeekingPageByPage_thenEveryRowIsReturnedOnceInDateThenIdOrder() {
+        final List<TransactionResponseDto> seen = new ArrayList<>(transactionRepository.findLatestResponses(null, null, null, Limit.of(3)));
+        while (true) {
+            final TransactionResponseDto last = seen.get(seen.size() - 1);
+            final List<TransactionResponseDto> page = transactionRepository.findLatestResponsesBefore(last.getDate(), last.getId(),
+                    null, null, null, Limit.of(3));
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(page);
+        }
+
+        assertThat(seen).hasSize(10);
+        assertThat(seen).extracting(TransactionResponseDto::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < seen.size(); i++) {
+            final TransactionResponseDto previous = seen.get(i - 1);
+            final TransactionResponseDto current = seen.get(i);
+            assertThat(current.getDate().isBefore(previous.getDate())
+                    || (current.getDate().isEqual(previous.getDate()) && current.getId() < previous.getId())).isTrue();
+        }
+    }
+
+    @Test
+    public void givenCategoryFilter_whenFindLatestResponses_thenOnlyThatCategoryIsReturned() {
+        final List<TransactionResponseDto> page = transactionRepository.findLatestResponses(rent.getId(), TransactionType.EXPENSE,
+                null, Limit.of(50));
+
+        assertThat(page).hasSize(5);
+        assertThat(page).allMatch(response -> response.getCategoryId().equals(rent.getId()));
+    }
+
+    @Test
+    public void givenEveryFilter_whenSeekingResponsesPageByPage_thenOnlyMatchingRowsAreReturnedOnceNewestFirst() {
+        final List<TransactionResponseDto> seen = new ArrayList<>(transactionRepository.findLatestResponses(rent.getId(),
+                TransactionType.EXPENSE, TransactionMethod.CASH, Limit.of(2)));
+        while (true) {
+            final TransactionResponseDto last = seen.get(seen.size() - 1);
+            final List<TransactionResponseDto> page = transactionRepository.findLatestResponsesBefore(last.getDate(), last.getId(),
+                    rent.getId(), TransactionType.EXPENSE, TransactionMethod.CASH, Limit.of(2));
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(page);
+        }
+
+        assertThat(seen).hasSize(5);
+        assertThat(seen).allMatch(response -> response.getCategoryId().equals(rent.getId()));
+        assertThat(seen).extracting(TransactionResponseDto::getDate).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(transactionRepository.findLatestResponses(rent.getId(), TransactionType.INCOME, null, Limit.of(2))).isEmpty();
+    }
+
+    @Test
+    public void givenManyRowsAcrossCategories_whenListingThroughProjection_thenOneStatementIsIssued() {
+        final List<Transaction> more = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            more.add(transaction(categoryRepository.save(category("C" + i)), LocalDateTime.of(2025, 6, 1, 8, 0).plusMinutes(i)));
+        }
+        transactionRepository.saveAll(more);
+        transactionRepository.flush();
+        entityManager.clear();
+        final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final List<TransactionResponseDto> responses = transactionRepository.findLatestResponses(null, null, null, Limit.of(500));
+
+        assertThat(responses).hasSize(210);
+        assertThat(responses).allMatch(response -> response.getCategoryId() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenFiltersAndHalfOpenPeriod_whenSummingBetween_thenOnlyMatchingRowsAreTotalled() {
+        final LocalDateTime from = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+        final TransactionRepository.PeriodTotalView food = transactionRepository.sumBetween(from, from.plusDays(2),
+                TransactionType.EXPENSE, null, this.food.getId());
+        final TransactionRepository.PeriodTotalView income = transactionRepository.sumBetween(from, from.plusDays(5),
+                TransactionType.INCOME, null, null);
+        final List<TransactionRepository.CategoryPeriodTotalView> byCategory = transactionRepository.sumByCategoryBetween(from,
+                from.plusDays(5), null, TransactionMethod.CASH);
+
+        assertThat(food.getTotalAmount()).isEqualByComparingTo("20.00");
+        assertThat(food.getTransactionCount()).isEqualTo(2);
+        assertThat(income.getTotalAmount()).isEqualByComparingTo("0");
+        assertThat(income.getTransactionCount()).isZero();
+        assertThat(byCategory).extracting(TransactionRepository.CategoryPeriodTotalView::getCategoryId)
+                .containsExactlyInAnyOrder(this.food.getId(), rent.getId());
+        assertThat(byCategory).allSatisfy(total -> assertThat(total.getTotalAmount()).isEqualByComparingTo("50.00"));
+    }
+
+    @Test
+    public void givenStoredFingerprints_whenFindExistingFingerprints_thenOnlyStoredOnesAreReturned() {
+        final Transaction stored = transaction(food, LocalDateTime.of(2025, 5, 1, 9, 0));
+        stored.setFingerprint(42L);
+        transactionRepository.saveAndFlush(stored);
+
+        assertThat(transactionRepository.findExistingFingerprints(List.of(42L, 43L))).containsExactly(42L);
+        assertThat(transactionRepository.streamFingerprintsOfAllOwnersAfter(stored.getId() - 1).toList()).containsExactly(42L);
+        assertThat(transactionRepository.findMaxIdOfAllOwners()).isEqualTo(stored.getId());
+    }
+
+    @Test
+    public void givenJournaledTransaction_whenFindExistingJournalSequences_thenOnlyStoredOnesAreReturned() {
+        final Transaction journaled = transaction(food, LocalDateTime.of(2025, 5, 1, 9, 0));
+        journaled.setJournalSequence(7L);
+        transactionRepository.saveAndFlush(journaled);
+        transactionRepository.saveAndFlush(transaction(food, LocalDateTime.of(2025, 5, 2, 9, 0)));
+
+        assertThat(transactionRepository.findExistingJournalSequences(List.of(6L, 7L, 8L))).containsExactly(7L);
+    }
+
+    private static Category category(final String name) {
+        return Category.builder()
+                .name(name)
+                .categoryType(CategoryType.EXPENSE)
+                .categoryGroupType("EXPENSE_" + name)
+                .build();
+    }
+
+    private static Transaction transaction(final Category category, final LocalDateTime date) {
+        return Transaction.builder()
+                .category(category)
+                .amount(new BigDecimal("10.00"))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CASH)
+                .date(date)
+                .build();
+    }
+}
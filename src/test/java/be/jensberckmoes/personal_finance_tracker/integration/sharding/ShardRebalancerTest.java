@@ -0,0 +1,191 @@
+package be.jensberckmoes.personal_finance_tracker.integration.sharding;
+
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategorizationRuleRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryResponseDto;
+import be.jensberckmoes.personal_finance_tracker.dto.OwnerRelocationReportDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.service.BudgetService;
+import be.jensberckmoes.personal_finance_tracker.service.CategorizationRuleService;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import be.jensberckmoes.personal_finance_tracker.service.impl.BudgetTracker;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import be.jensberckmoes.personal_finance_tracker.sharding.ShardDataSources;
+import be.jensberckmoes.personal_finance_tracker.sharding.ShardRebalancer;
+import be.jensberckmoes.personal_finance_tracker.sharding.ShardRouter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"app.sharding.enabled=true", "app.sharding.embedded-shards=3"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ShardRebalancerTest {
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private ShardRouter shardRouter;
+    @Autowired
+    private ShardDataSources shardDataSources;
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+    @Autowired
+    private BudgetService budgetService;
+    @Autowired
+    private CategorizationRuleService categorizationRuleService;
+    @Autowired
+    private BudgetTracker budgetTracker;
+
+    @Test
+    public void givenTwoOwners_whenUsingTheSameServices_thenEachOnlySeesItsOwnRowsOnItsOwnShard() {
+        final Long carolFood = OwnerContext.callAs("carol", () -> categoryService.createCategory(category("FOOD")).getId());
+        OwnerContext.runAs("carol", () -> transactionService.addTransaction(transaction(carolFood, "12.50")));
+        final Long daveFood = OwnerContext.callAs("dave", () -> categoryService.createCategory(category("FOOD")).getId());
+        OwnerContext.runAs("dave", () -> transactionService.addTransaction(transaction(daveFood, "99.00")));
+
+        assertThat(amountsOf("carol")).containsExactly(new BigDecimal("12.50"));
+        assertThat(amountsOf("dave")).containsExactly(new BigDecimal("99.00"));
+        assertThat(countOn(shardRouter.shardFor("carol"), "transaction", "carol")).isEqualTo(1);
+        assertThat(countOn(shardRouter.shardFor("dave"), "transaction", "dave")).isEqualTo(1);
+    }
+
+    @Test
+    public void givenOwnerWithData_whenRelocating_thenRowsMoveAndServicesFollowTheOwner() {
+        final CategoryResponseDto food = OwnerContext.callAs("erin", () -> categoryService.createCategory(category("FOOD")));
+        OwnerContext.runAs("erin", () -> {
+            transactionService.addTransaction(transaction(food.getId(), "10.00"));
+            transactionService.addTransaction(transaction(food.getId(), "20.00"));
+            transactionService.addTransaction(transaction(food.getId(), "30.00"));
+        });
+        final String source = shardRouter.shardFor("erin");
+        final String target = shardRouter.shards().stream().filter(shard -> !shard.equals(source)).findFirst().orElseThrow();
+
+        final OwnerRelocationReportDto report = shardRebalancer.relocate("erin", target);
+
+        assertThat(report.getCategories()).isEqualTo(1);
+        assertThat(report.getTransactions()).isEqualTo(3);
+        assertThat(shardRouter.shardFor("erin")).isEqualTo(target);
+        assertThat(countOn(source, "transaction", "erin")).isZero();
+        assertThat(countOn(source, "category", "erin")).isZero();
+        assertThat(countOn(target, "transaction", "erin")).isEqualTo(3);
+        final List<TransactionResponseDto> moved = page("erin").getItems();
+        assertThat(moved).extracting(TransactionResponseDto::getAmount)
+                .containsExactlyInAnyOrder(new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("30.00"));
+        assertThat(moved).extracting(TransactionResponseDto::getCategoryId).containsOnly(moved.get(0).getCategoryId());
+        assertThat(countOn(target, "category", "erin")).isEqualTo(1);
+    }
+
+    @Test
+    public void givenOwnerWithBudgetAndRule_whenRelocating_thenIdsAreKeptAndSpendFollowsTheOwner() {
+        final Long food = OwnerContext.callAs("gina", () -> categoryService.createCategory(category("FOOD")).getId());
+        final Long ruleId = OwnerContext.callAs("gina", () -> {
+            budgetService.setBudget(BudgetRequestDto.builder().categoryId(food).monthlyLimit(new BigDecimal("25.00")).build());
+            transactionService.addTransaction(transaction(food, "10.00"));
+            transactionService.addTransaction(transaction(food, "20.00"));
+            return categorizationRuleService.createRule(CategorizationRuleRequestDto.builder()
+                    .keyword("shop").categoryId(food).priority(1).build()).getId();
+        });
+        budgetTracker.checkpoint();
+        final List<Long> transactionIds = page("gina").getItems().stream().map(TransactionResponseDto::getId).toList();
+        final String source = shardRouter.shardFor("gina");
+        final String target = shardRouter.shards().stream().filter(shard -> !shard.equals(source)).findFirst().orElseThrow();
+
+        shardRebalancer.relocate("gina", target);
+
+        assertThat(page("gina").getItems()).extracting(TransactionResponseDto::getId).containsExactlyInAnyOrderElementsOf(transactionIds);
+        assertThat(page("gina").getItems()).extracting(TransactionResponseDto::getCategoryId).containsOnly(food);
+        for (final String table : List.of("budget", "categorization_rule", "budget_spend_checkpoint")) {
+            assertThat(countOn(source, table, "gina")).as(table).isZero();
+            assertThat(countOn(target, table, "gina")).as(table).isEqualTo(1);
+        }
+        assertThat(budgetTracker.spentCents("gina", food, 202505)).isEqualTo(3_000L);
+        assertThat(budgetTracker.limitCents("gina", food)).isEqualTo(2_500L);
+        OwnerContext.runAs("gina", () -> categorizationRuleService.deleteRule(ruleId));
+        assertThat(countOn(target, "categorization_rule", "gina")).isZero();
+    }
+
+    @Test
+    public void givenHistoryLongerThanAPageWithSharedAndMissingDates_whenRelocating_thenEveryTransactionMoves() {
+        final Long food = OwnerContext.callAs("hank", () -> categoryService.createCategory(category("FOOD")).getId());
+        final String source = shardRouter.shardFor("hank");
+        final List<Object[]> rows = new ArrayList<>();
+        for (long i = 0; i < 2_100; i++) {
+            final Timestamp date = i % 700 == 0 ? null : Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(i / 10));
+            rows.add(new Object[]{1_000_000L + i, food, new BigDecimal("1.00"), date});
+        }
+        new JdbcTemplate(shardDataSources.asMap().get(source)).batchUpdate(
+                "insert into transaction (id, category_id, amount, date, owner_id) values (?, ?, ?, ?, 'hank')", rows);
+        final String target = shardRouter.shards().stream().filter(shard -> !shard.equals(source)).findFirst().orElseThrow();
+
+        final OwnerRelocationReportDto report = shardRebalancer.relocate("hank", target);
+
+        assertThat(report.getTransactions()).isEqualTo(2_100);
+        assertThat(countOn(target, "transaction", "hank")).isEqualTo(2_100);
+        assertThat(countOn(source, "transaction", "hank")).isZero();
+    }
+
+    @Test
+    public void givenOwnerAlreadyOnTarget_whenRelocating_thenNothingMoves() {
+        final String home = shardRouter.shardFor("frank");
+
+        final OwnerRelocationReportDto report = shardRebalancer.relocate("frank", home);
+
+        assertThat(report.getSourceShard()).isEqualTo(home);
+        assertThat(report.getTransactions()).isZero();
+    }
+
+    private List<BigDecimal> amountsOf(final String ownerId) {
+        return page(ownerId).getItems().stream().map(TransactionResponseDto::getAmount).toList();
+    }
+
+    private TransactionPageDto page(final String ownerId) {
+        return OwnerContext.callAs(ownerId, () -> transactionService.listTransactions(TransactionPageRequestDto.builder().size(50).build()));
+    }
+
+    private int countOn(final String shard, final String table, final String ownerId) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSources.asMap().get(shard));
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where owner_id = ?", Integer.class, ownerId);
+    }
+
+    private static CategoryRequestDto category(final String name) {
+        return CategoryRequestDto.builder()
+                .name(name)
+                .description("groceries")
+                .categoryType(CategoryType.EXPENSE)
+                .categoryGroupType("LIVING")
+                .build();
+    }
+
+    private static TransactionRequestDto transaction(final Long categoryId, final String amount) {
+        return TransactionRequestDto.builder()
+                .categoryId(categoryId)
+                .amount(new BigDecimal(amount))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CREDIT_CARD)
+                .date(LocalDateTime.of(2025, 5, 1, 12, 0))
+                .description("Weekly shop")
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package be.jensberckmoes.personal_finance_tracker.unit.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.Bulkhead;
+import be.jensberckmoes.personal_finance_tracker.concurrency.BulkheadAspect;
+import be.jensberckmoes.personal_finance_tracker.concurrency.Bulkheads;
+import be.jensberckmoes.personal_finance_tracker.concurrency.JdbcConcurrencyLimiter;
+import be.jensberckmoes.personal_finance_tracker.concurrency.JdbcConcurrencyLimiterAspect;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionBatchWriter;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionFingerprintIndex;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionImportChunkWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdmissionPointcutsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void givenMethodWithItsOwnWorkload_whenCalled_thenItHoldsABulkheadPermitAndADatabasePermit() {
+        final Bulkheads bulkheads = new Bulkheads(Arrays.stream(WorkloadClass.values())
+                .map(workloadClass -> new Bulkhead(workloadClass, 2, 0, Duration.ofMillis(10), meterRegistry))
+                .toList());
+        final JdbcConcurrencyLimiter limiter = new JdbcConcurrencyLimiter(4, Duration.ofMillis(10));
+        final TransactionBatchWriter transactionBatchWriter = mock(TransactionBatchWriter.class);
+        final int[] held = new int[2];
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            held[0] = bulkheads.get(WorkloadClass.INGEST).getActive();
+            held[1] = 4 - limiter.getAvailablePermits();
+            return invocation.getArgument(0);
+        });
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TransactionImportChunkWriter(
+                mock(CategoryReferenceResolver.class), mock(TransactionFingerprintIndex.class), transactionBatchWriter));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new JdbcConcurrencyLimiterAspect(limiter));
+        proxyFactory.addAspect(new BulkheadAspect(bulkheads));
+        final TransactionImportChunkWriter chunkWriter = proxyFactory.getProxy();
+
+        chunkWriter.persist(List.of(), new HashSet<>());
+
+        assertThat(held).containsExactly(1, 1);
+        assertThat(bulkheads.get(WorkloadClass.INGEST).getActive()).isZero();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(4);
+    }
+}
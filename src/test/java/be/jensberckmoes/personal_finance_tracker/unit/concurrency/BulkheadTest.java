@@ -0,0 +1,130 @@
+package be.jensberckmoes.personal_finance_tracker.unit.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.Bulkhead;
+import be.jensberckmoes.personal_finance_tracker.concurrency.BulkheadRejectionHandler;
+import be.jensberckmoes.personal_finance_tracker.concurrency.Bulkheads;
+import be.jensberckmoes.personal_finance_tracker.concurrency.WorkloadClass;
+import be.jensberckmoes.personal_finance_tracker.exception.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BulkheadTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void givenFullQueue_whenAcquiring_thenRejectsAtOnceWithRetryAfter() {
+        final Bulkhead bulkhead = new Bulkhead(WorkloadClass.REPORT, 1, 0, Duration.ofMinutes(1), meterRegistry);
+        bulkhead.acquire();
+
+        final long start = System.nanoTime();
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOfSatisfying(BulkheadFullException.class, e -> assertThat(e.getRetryAfter()).isPositive());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get(Bulkhead.REJECTED_METRIC).tag("workload", "report").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenRejection_whenHandled_thenAnswersTooManyRequestsWithRetryAfterInSeconds() {
+        final ResponseEntity<ProblemDetail> response = new BulkheadRejectionHandler()
+                .handleBulkheadFull(new BulkheadFullException("Bulkhead REPORT rejected the call: queue is full.", Duration.ofSeconds(3)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody().getDetail()).isEqualTo("Bulkhead REPORT rejected the call: queue is full.");
+    }
+
+    @Test
+    public void givenAllPermitsHeld_whenQueueTimeoutPasses_thenRejectsAndRecordsTheWait() {
+        final Bulkhead bulkhead = new Bulkhead(WorkloadClass.INGEST, 1, 5, Duration.ofMillis(20), meterRegistry);
+        bulkhead.acquire();
+
+        final CompletableFuture<Long> queued = CompletableFuture.supplyAsync(bulkhead::acquire, Thread::startVirtualThread);
+
+        assertThatThrownBy(queued::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(BulkheadFullException.class);
+        assertThat(bulkhead.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get(Bulkhead.REJECTED_METRIC).tag("workload", "ingest").tag("reason", "timeout").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Bulkhead.WAIT_METRIC).tag("workload", "ingest").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenReleasedPermit_whenCallerIsQueued_thenItIsAdmitted() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(WorkloadClass.INTERACTIVE, 1, 5, Duration.ofSeconds(5), meterRegistry);
+        final long acquiredAt = bulkhead.acquire();
+
+        final CompletableFuture<Long> queued = CompletableFuture.supplyAsync(bulkhead::acquire, Thread::startVirtualThread);
+        while (bulkhead.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(meterRegistry.get(Bulkhead.QUEUE_DEPTH_METRIC).tag("workload", "interactive").gauge().value()).isEqualTo(1);
+        bulkhead.release(acquiredAt);
+
+        assertThat(queued.get()).isPositive();
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenCallerParkedInQueue_whenPermitIsReleased_thenANewcomerDoesNotBargePastIt() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(WorkloadClass.INTERACTIVE, 1, 1, Duration.ofSeconds(1), meterRegistry);
+        final long acquiredAt = bulkhead.acquire();
+        final CompletableFuture<Long> first = new CompletableFuture<>();
+        final Thread waiter = new Thread(() -> first.complete(bulkhead.acquire()));
+        waiter.start();
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        bulkhead.release(acquiredAt);
+
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(BulkheadFullException.class);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    public void givenSaturatedReportBulkhead_whenIngesting_thenIngestIsStillAdmitted() {
+        final Bulkheads bulkheads = bulkheads(1);
+        bulkheads.get(WorkloadClass.REPORT).acquire();
+
+        bulkheads.enter(WorkloadClass.INGEST);
+
+        assertThat(bulkheads.get(WorkloadClass.INGEST).getActive()).isEqualTo(1);
+        bulkheads.exit();
+        assertThat(bulkheads.get(WorkloadClass.INGEST).getActive()).isZero();
+    }
+
+    @Test
+    public void givenNestedEntry_whenSameThread_thenTheOuterPermitIsReused() {
+        final Bulkheads bulkheads = bulkheads(1);
+
+        bulkheads.enter(WorkloadClass.INTERACTIVE);
+        bulkheads.enter(WorkloadClass.REPORT);
+        assertThat(bulkheads.get(WorkloadClass.INTERACTIVE).getActive()).isEqualTo(1);
+        assertThat(bulkheads.get(WorkloadClass.REPORT).getActive()).isZero();
+
+        bulkheads.exit();
+        assertThat(bulkheads.get(WorkloadClass.INTERACTIVE).getActive()).isEqualTo(1);
+        bulkheads.exit();
+        assertThat(bulkheads.get(WorkloadClass.INTERACTIVE).getActive()).isZero();
+    }
+
+    private Bulkheads bulkheads(final int permits) {
+        return new Bulkheads(List.of(
+                new Bulkhead(WorkloadClass.INGEST, permits, 0, Duration.ofMillis(10), meterRegistry),
+                new Bulkhead(WorkloadClass.INTERACTIVE, permits, 0, Duration.ofMillis(10), meterRegistry),
+                new Bulkhead(WorkloadClass.REPORT, permits, 0, Duration.ofMillis(10), meterRegistry)));
+    }
+}
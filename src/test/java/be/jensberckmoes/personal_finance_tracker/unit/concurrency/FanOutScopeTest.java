@@ -0,0 +1,100 @@
+package be.jensberckmoes.personal_finance_tracker.unit.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.FanOutScope;
+import be.jensberckmoes.personal_finance_tracker.exception.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FanOutScopeTest {
+    private static final Instant FAR_DEADLINE = Instant.now().plus(Duration.ofMinutes(1));
+
+    @Test
+    public void givenSubtasksWaitingForEachOther_whenJoining_thenTheyRunConcurrently() {
+        final CountDownLatch started = new CountDownLatch(3);
+        try (FanOutScope scope = new FanOutScope("test")) {
+            final Future<Integer> first = scope.fork(() -> awaitOthers(started, 1));
+            final Future<Integer> second = scope.fork(() -> awaitOthers(started, 2));
+            final Future<Integer> third = scope.fork(() -> awaitOthers(started, 3));
+
+            scope.join(FAR_DEADLINE);
+
+            assertThat(first.resultNow() + second.resultNow() + third.resultNow()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    public void givenFailingSubtask_whenJoining_thenSiblingsAreCancelledAndFailureIsRethrown() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOutScope scope = new FanOutScope("test")) {
+            final Future<Object> slow = scope.fork(() -> sleepUntilInterrupted(interrupted));
+            scope.fork(() -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            assertThatThrownBy(() -> scope.join(FAR_DEADLINE)).isInstanceOf(IllegalArgumentException.class).hasMessage("boom");
+            assertThat(slow.isCancelled()).isTrue();
+        }
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void givenSubtaskOutlivingDeadline_whenJoining_thenThrowsDeadlineExceededExceptionAndCancelsIt() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOutScope scope = new FanOutScope("test")) {
+            final Future<Object> slow = scope.fork(() -> sleepUntilInterrupted(interrupted));
+
+            assertThatThrownBy(() -> scope.join(Instant.now().plusMillis(50))).isInstanceOf(DeadlineExceededException.class);
+            assertThat(slow.isCancelled()).isTrue();
+        }
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void givenSubtaskThatFailsWhenInterrupted_whenDeadlinePasses_thenItsFailureDoesNotReplaceTheDeadline() {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            try (FanOutScope scope = new FanOutScope("test")) {
+                scope.fork(FanOutScopeTest::sleepOrFail);
+
+                assertThatThrownBy(() -> scope.join(Instant.now().plusMillis(5))).isInstanceOf(DeadlineExceededException.class);
+            }
+        }
+    }
+
+    private static int awaitOthers(final CountDownLatch started, final int value) {
+        started.countDown();
+        try {
+            if (!started.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Subtasks did not run concurrently.");
+            }
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    private static Object sleepUntilInterrupted(final CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofMinutes(1));
+        } catch (final InterruptedException e) {
+            interrupted.countDown();
+        }
+        return null;
+    }
+
+    private static Object sleepOrFail() {
+        try {
+            Thread.sleep(Duration.ofMinutes(1));
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException("interrupted", e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package be.jensberckmoes.personal_finance_tracker.unit.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.JdbcConcurrencyLimiter;
+import be.jensberckmoes.personal_finance_tracker.exception.ConcurrencyLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JdbcConcurrencyLimiterTest {
+
+    @Test
+    public void givenNestedAcquire_whenSameThread_thenOnlyOnePermitIsHeld() {
+        final JdbcConcurrencyLimiter limiter = new JdbcConcurrencyLimiter(2, Duration.ofMillis(10));
+
+        limiter.acquire();
+        limiter.acquire();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(1);
+        limiter.release();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenAllPermitsHeld_whenOtherThreadAcquires_thenItTimesOut() {
+        final JdbcConcurrencyLimiter limiter = new JdbcConcurrencyLimiter(1, Duration.ofMillis(20));
+        limiter.acquire();
+
+        final CompletableFuture<Void> other = CompletableFuture.runAsync(limiter::acquire, Thread::startVirtualThread);
+
+        assertThatThrownBy(other::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        limiter.release();
+        assertThat(limiter.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,71 @@
+package be.jensberckmoes.personal_finance_tracker.unit.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.MpscRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MpscRingBufferTest {
+
+    @Test
+    public void givenFullBuffer_whenOffer_thenReturnsFalseUntilPolled() {
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    public void givenCapacityThatIsNotAPowerOfTwo_whenCreated_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void givenConcurrentProducers_whenDrained_thenEveryElementArrivesOnceAndInProducerOrder() throws Exception {
+        final int producers = 8;
+        final int perProducer = 20_000;
+        final MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        final List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                final long producer = p;
+                futures.add(executor.submit(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(new long[]{producer, i})) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            final long[] nextExpected = new long[producers];
+            int received = 0;
+            while (received < producers * perProducer) {
+                final long[] element = buffer.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertThat(element[1]).isEqualTo(nextExpected[(int) element[0]]++);
+                received++;
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package be.jensberckmoes.personal_finance_tracker.unit.concurrency;
+
+import be.jensberckmoes.personal_finance_tracker.concurrency.JdbcConcurrencyLimiter;
+import be.jensberckmoes.personal_finance_tracker.concurrency.VirtualThreadConfiguration;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadConfigurationTest {
+
+    @Test
+    public void givenRoutingDataSourceBehindProxy_whenSizingLimiter_thenThePoolsOfAllTargetsAreCounted() throws SQLException {
+        final AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return "primary";
+            }
+        };
+        routing.setTargetDataSources(Map.of("primary", pool(6), "replica", pool(4)));
+        routing.afterPropertiesSet();
+
+        final JdbcConcurrencyLimiter limiter = limiterFor(new LazyConnectionDataSourceProxy(routing));
+
+        assertThat(limiter.getAvailablePermits()).isEqualTo(10);
+    }
+
+    @Test
+    public void givenDataSourceWithoutPool_whenSizingLimiter_thenConfiguredPoolSizeIsUsed() throws SQLException {
+        final JdbcConcurrencyLimiter limiter = limiterFor(new SimpleDriverDataSource());
+
+        assertThat(limiter.getAvailablePermits()).isEqualTo(7);
+    }
+
+    private static JdbcConcurrencyLimiter limiterFor(final DataSource dataSource) throws SQLException {
+        return new VirtualThreadConfiguration().jdbcConcurrencyLimiter(dataSource, 0, Duration.ofSeconds(1), 7,
+                new SimpleMeterRegistry());
+    }
+
+    private static HikariDataSource pool(final int maximumPoolSize) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+}
@@ -0,0 +1,107 @@
+package be.jensberckmoes.personal_finance_tracker.unit.datasource;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadWriteRoutingDataSource;
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadYourWritesTracker;
+import be.jensberckmoes.personal_finance_tracker.datasource.ReplicaLagMonitor;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadWriteRoutingDataSourceTest {
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaConnection;
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        routing = new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor, readYourWritesTracker);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void givenReadWriteTransaction_whenConnecting_thenPrimaryIsUsed() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void givenReadOnlyTransactionAndHealthyReplica_whenConnecting_thenReplicaIsUsed() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void givenReadOnlyTransactionAndLaggingReplica_whenConnecting_thenPrimaryIsUsed() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void givenOwnerWithUnreplicatedWrite_whenReadingOnly_thenPrimaryIsUsed() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(readYourWritesTracker.hasUnreplicatedWrites(eq("alice"), anyLong())).thenReturn(true);
+
+        final Connection connection = OwnerContext.callAs("alice", () -> {
+            try {
+                return routing.getConnection();
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void givenPrimaryPin_whenReadingOnly_thenPrimaryIsUsedWithoutConsultingTheMonitor() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        final Connection connection = ReadWriteRoutingDataSource.callOnPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+}
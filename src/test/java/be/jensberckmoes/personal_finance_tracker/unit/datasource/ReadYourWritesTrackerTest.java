@@ -0,0 +1,61 @@
+package be.jensberckmoes.personal_finance_tracker.unit.datasource;
+
+import be.jensberckmoes.personal_finance_tracker.datasource.ReadYourWritesTracker;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReadYourWritesTrackerTest {
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(clock::get);
+
+    @Test
+    public void givenCommittedWrite_whenReplicaHasNotPassedIt_thenOwnerHasUnreplicatedWrites() {
+        OwnerContext.runAs("alice", () -> tracker.afterCommit(execution(false), null));
+
+        assertThat(tracker.hasUnreplicatedWrites("alice", 1_000)).isTrue();
+        assertThat(tracker.hasUnreplicatedWrites("bob", 1_000)).isFalse();
+    }
+
+    @Test
+    public void givenCommittedWrite_whenReplicaPassesIt_thenOwnerIsReleased() {
+        tracker.recordWrite("alice");
+
+        assertThat(tracker.hasUnreplicatedWrites("alice", 1_001)).isFalse();
+        assertThat(tracker.pendingOwners()).isZero();
+    }
+
+    @Test
+    public void givenReadOnlyOrFailedCommit_whenCompleted_thenNothingIsRecorded() {
+        OwnerContext.runAs("alice", () -> {
+            tracker.afterCommit(execution(true), null);
+            tracker.afterCommit(execution(false), new IllegalStateException("commit failed"));
+        });
+
+        assertThat(tracker.pendingOwners()).isZero();
+    }
+
+    @Test
+    public void givenSeveralOwners_whenPruning_thenOnlyOwnersAheadOfTheReplicaRemain() {
+        tracker.recordWrite("alice");
+        clock.set(2_000);
+        tracker.recordWrite("bob");
+
+        tracker.prune(1_500);
+
+        assertThat(tracker.pendingOwners()).isEqualTo(1);
+        assertThat(tracker.hasUnreplicatedWrites("bob", 1_500)).isTrue();
+    }
+
+    private static TransactionExecution execution(final boolean readOnly) {
+        final TransactionExecution execution = mock(TransactionExecution.class);
+        when(execution.isReadOnly()).thenReturn(readOnly);
+        return execution;
+    }
+}
@@ -0,0 +1,87 @@
+package be.jensberckmoes.personal_finance_tracker.unit.id;
+
+import be.jensberckmoes.personal_finance_tracker.id.SnowflakeIdAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SnowflakeIdAllocatorTest {
+    private static final long NOW = SnowflakeIdAllocator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    public void givenNodeId_whenAllocating_thenIdCarriesNodeAndTimestamp() {
+        final SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(42, () -> NOW);
+
+        final long id = allocator.nextId();
+
+        assertThat(SnowflakeIdAllocator.nodeIdOf(id)).isEqualTo(42);
+        assertThat(SnowflakeIdAllocator.timestampMillisOf(id)).isEqualTo(NOW);
+    }
+
+    @Test
+    public void givenClockMovingBackwards_whenAllocating_thenIdsKeepIncreasing() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(1, clock::get);
+
+        final long beforeStep = allocator.nextId();
+        clock.set(NOW - 5_000);
+        final long afterStep = allocator.nextId();
+
+        assertThat(afterStep).isGreaterThan(beforeStep);
+        assertThat(allocator.clockLeadMillis()).isEqualTo(5_000);
+    }
+
+    @Test
+    public void givenExhaustedSequence_whenAllocating_thenNextMillisecondIsBorrowed() {
+        final SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(1, () -> NOW);
+        long id = 0;
+        for (int i = 0; i <= 4096; i++) {
+            final long next = allocator.nextId();
+            assertThat(next).isGreaterThan(id);
+            id = next;
+        }
+
+        assertThat(SnowflakeIdAllocator.timestampMillisOf(id)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    public void givenStoredIdFromTheFuture_whenAdvancingPast_thenNextIdIsLarger() {
+        final SnowflakeIdAllocator ahead = new SnowflakeIdAllocator(7, () -> NOW + 60_000);
+        final long stored = ahead.nextId();
+        final SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(1, () -> NOW);
+
+        allocator.advancePast(stored);
+
+        assertThat(allocator.nextId()).isGreaterThan(stored);
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenAllocating_thenIdsAreUnique() throws Exception {
+        final SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(3, System::currentTimeMillis);
+        final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(allocator.nextId());
+                    }
+                });
+            }
+        }
+
+        assertThat(ids).hasSize(160_000);
+    }
+
+    @Test
+    public void givenNodeIdOutOfRange_whenCreatingAllocator_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new SnowflakeIdAllocator(SnowflakeIdAllocator.MAX_NODE_ID + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
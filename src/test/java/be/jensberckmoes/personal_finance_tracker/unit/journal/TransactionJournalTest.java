@@ -0,0 +1,174 @@
+package be.jensberckmoes.personal_finance_tracker.unit.journal;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.journal.JournalRecord;
+import be.jensberckmoes.personal_finance_tracker.journal.TransactionJournal;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransactionJournalTest {
+    private static final String OWNER = "default";
+    private static final long THREE_RECORDS = 3L * TransactionJournal.RECORD_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenAppendedTransactions_whenReplayed_thenRecordsRoundTripInOrder() {
+        final TransactionRequestDto withEverything = transaction("12.34", 7L, "Groceries – café");
+        final TransactionRequestDto withNulls = TransactionRequestDto.builder()
+                .amount(new BigDecimal("-0.50"))
+                .type(TransactionType.EXPENSE)
+                .date(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_000_000))
+                .build();
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            assertThat(journal.append(OWNER, withEverything)).isEqualTo(1);
+            assertThat(journal.append("zoë@example.com", withNulls)).isEqualTo(2);
+
+            final List<JournalRecord> records = replay(journal, 0);
+
+            assertThat(records).extracting(JournalRecord::sequence).containsExactly(1L, 2L);
+            assertThat(records).extracting(JournalRecord::ownerId).containsExactly(OWNER, "zoë@example.com");
+            assertThat(records).extracting(JournalRecord::transaction).containsExactly(withEverything, withNulls);
+            assertThat(replay(journal, 1)).extracting(JournalRecord::sequence).containsExactly(2L);
+        }
+    }
+
+    @Test
+    public void givenDeadLetteredRecord_whenRead_thenItKeepsItsSequenceAndOwner() {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            journal.deadLetter(5, "alice", transaction("4.20", 3L, "unknown category"));
+
+            final List<JournalRecord> deadLetters = new ArrayList<>();
+            journal.deadLetters(deadLetters::add);
+
+            assertThat(deadLetters).extracting(JournalRecord::sequence).containsExactly(5L);
+            assertThat(deadLetters).extracting(JournalRecord::ownerId).containsExactly("alice");
+            assertThat(deadLetters.get(0).transaction().getDescription()).isEqualTo("unknown category");
+        }
+    }
+
+    @Test
+    public void givenFullSegment_whenAppend_thenRollsToNewSegmentNamedAfterFirstSequence() throws IOException {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            for (int i = 0; i < 7; i++) {
+                journal.append(OWNER, transaction("1.00", 1L, "row " + i));
+            }
+
+            assertThat(segmentNames()).containsExactly(
+                    "journal-00000000000000000001.seg", "journal-00000000000000000004.seg", "journal-00000000000000000007.seg");
+            assertThat(replay(journal, 0)).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        }
+    }
+
+    @Test
+    public void givenExistingJournal_whenReopened_thenContinuesAfterLastSequence() {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, true)) {
+            journal.append(OWNER, transaction("1.00", 1L, "first"));
+            journal.append(OWNER, transaction("2.00", 1L, "second"));
+        }
+
+        try (TransactionJournal reopened = new TransactionJournal(directory, THREE_RECORDS, true)) {
+            assertThat(reopened.lastSequence()).isEqualTo(2);
+            assertThat(reopened.append(OWNER, transaction("3.00", 1L, "third"))).isEqualTo(3);
+            assertThat(replay(reopened, 0)).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Test
+    public void givenCorruptedRecord_whenReplayed_thenStopsBeforeIt() throws IOException {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, true)) {
+            journal.append(OWNER, transaction("1.00", 1L, "intact"));
+            journal.append(OWNER, transaction("2.00", 1L, "torn"));
+            journal.append(OWNER, transaction("3.00", 1L, "after torn"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("journal-00000000000000000001.seg").toFile(), "rw")) {
+            file.seek(TransactionJournal.RECORD_SIZE + 50);
+            file.write(0x5A);
+        }
+
+        try (TransactionJournal reopened = new TransactionJournal(directory, THREE_RECORDS, true)) {
+            assertThat(replay(reopened, 0)).extracting(JournalRecord::sequence).containsExactly(1L);
+            assertThat(reopened.lastSequence()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void givenAppliedSequence_whenDeleteSegmentsUpTo_thenOnlyFullyAppliedClosedSegmentsAreRemoved() throws IOException {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            for (int i = 0; i < 7; i++) {
+                journal.append(OWNER, transaction("1.00", 1L, "row " + i));
+            }
+
+            journal.deleteSegmentsUpTo(5);
+
+            assertThat(segmentNames()).containsExactly("journal-00000000000000000004.seg", "journal-00000000000000000007.seg");
+            assertThat(replay(journal, 5)).extracting(JournalRecord::sequence).containsExactly(6L, 7L);
+        }
+    }
+
+    @Test
+    public void givenCheckpoint_whenReopened_thenItIsRestoredAndNeverMovesBack() {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            assertThat(journal.appliedSequence()).isZero();
+            journal.checkpoint(5);
+            journal.checkpoint(3);
+        }
+
+        try (TransactionJournal reopened = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            assertThat(reopened.appliedSequence()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    public void givenCorruptedCheckpoint_whenReopened_thenReplayStartsFromTheBeginning() throws IOException {
+        try (TransactionJournal journal = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            journal.checkpoint(5);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("checkpoint").toFile(), "rw")) {
+            file.seek(2);
+            file.write(0x5A);
+        }
+
+        try (TransactionJournal reopened = new TransactionJournal(directory, THREE_RECORDS, false)) {
+            assertThat(reopened.appliedSequence()).isZero();
+        }
+    }
+
+    private static TransactionRequestDto transaction(final String amount, final Long categoryId, final String description) {
+        return TransactionRequestDto.builder()
+                .amount(new BigDecimal(amount))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CASH)
+                .date(LocalDateTime.of(2024, 5, 1, 10, 15))
+                .categoryId(categoryId)
+                .description(description)
+                .build();
+    }
+
+    private static List<JournalRecord> replay(final TransactionJournal journal, final long afterSequence) {
+        final List<JournalRecord> records = new ArrayList<>();
+        journal.replay(afterSequence, records::add);
+        return records;
+    }
+
+    private List<String> segmentNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.endsWith(".seg")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package be.jensberckmoes.personal_finance_tracker.unit.metrics;
+
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryResponseDto;
+import be.jensberckmoes.personal_finance_tracker.exception.DuplicateCategoryNameException;
+import be.jensberckmoes.personal_finance_tracker.metrics.ServiceMetricsAspect;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ServiceMetricsAspectTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CategoryService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final AspectJProxyFactory factory = new AspectJProxyFactory(categoryService);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    public void givenSuccessfulCall_whenCreateCategory_thenSuccessTimerIsRecorded() {
+        when(categoryService.createCategory(any())).thenReturn(CategoryResponseDto.builder().id(1L).build());
+
+        proxy.createCategory(CategoryRequestDto.builder().name("Groceries").build());
+
+        final Timer timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_CALLS_METRIC)
+                .tag("method", "createCategory")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenFailingCall_whenCreateCategory_thenFailureTimerIsTaggedWithExceptionType() {
+        when(categoryService.createCategory(any())).thenThrow(new DuplicateCategoryNameException("duplicate"));
+
+        assertThatThrownBy(() -> proxy.createCategory(CategoryRequestDto.builder().name("Groceries").build()))
+                .isInstanceOf(DuplicateCategoryNameException.class);
+
+        final Timer timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_CALLS_METRIC)
+                .tag("method", "createCategory")
+                .tag("outcome", "failure")
+                .tag("exception", "DuplicateCategoryNameException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package be.jensberckmoes.personal_finance_tracker.unit.metrics;
+
+import be.jensberckmoes.personal_finance_tracker.metrics.SqlLoggingDataSource;
+import be.jensberckmoes.personal_finance_tracker.metrics.SqlStatementLog;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlLoggingDataSourceTest {
+    private final DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:sql-log-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SqlStatementLog.LOGGER);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table item (id bigint primary key, name varchar(50))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    public void givenFastStatementAndNoSampling_whenExecuting_thenNothingIsLogged() throws SQLException {
+        final SqlLoggingDataSource dataSource = new SqlLoggingDataSource(h2, new SqlStatementLog(Duration.ofMinutes(1), 0.0, 2000));
+
+        insert(dataSource, 1L, "apple");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    public void givenSlowStatement_whenExecuting_thenLogsWarningWithParameterTypesAndCaller() throws SQLException {
+        final SqlLoggingDataSource dataSource = new SqlLoggingDataSource(h2, new SqlStatementLog(Duration.ZERO, 0.0, 2000));
+
+        insert(dataSource, 1L, "apple");
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).isEqualTo("insert into item (id, name) values (?, ?)");
+            final Map<String, Object> keyValues = keyValues(event);
+            assertThat(keyValues).containsEntry("kind", "slow")
+                    .containsEntry("params", "[Long, String]")
+                    .containsEntry("caller", "SqlLoggingDataSourceTest.insert");
+            assertThat(event.getFormattedMessage()).doesNotContain("apple");
+        });
+    }
+
+    @Test
+    public void givenFullSampling_whenExecutingBatch_thenLogsSampledLineWithBatchSize() throws SQLException {
+        final SqlLoggingDataSource dataSource = new SqlLoggingDataSource(h2, new SqlStatementLog(Duration.ofMinutes(1), 1.0, 10));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("insert into item (id, name) values (?, ?)")) {
+            for (long id = 1; id <= 3; id++) {
+                statement.setLong(1, id);
+                statement.setNull(2, java.sql.Types.VARCHAR);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getFormattedMessage()).isEqualTo("insert int...");
+            assertThat(keyValues(event)).containsEntry("kind", "sampled").containsEntry("batch", 3).containsEntry("params", "[Long, null]");
+        });
+    }
+
+    @Test
+    public void givenProxiedConnection_whenUnwrapping_thenExposesTheTargetConnection() throws SQLException {
+        final SqlLoggingDataSource dataSource = new SqlLoggingDataSource(h2, new SqlStatementLog(Duration.ofMinutes(1), 0.0, 2000));
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isInstanceOf(ConnectionProxy.class).isEqualTo(connection);
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+        }
+    }
+
+    private static void insert(final SqlLoggingDataSource dataSource, final long id, final String name) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("insert into item (id, name) values (?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, name);
+            statement.executeUpdate();
+        }
+    }
+
+    private static Map<String, Object> keyValues(final ILoggingEvent event) {
+        return event.getKeyValuePairs().stream().collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+}
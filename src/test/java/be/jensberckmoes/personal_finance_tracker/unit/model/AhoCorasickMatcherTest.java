@@ -0,0 +1,47 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service.model;
+
+import be.jensberckmoes.personal_finance_tracker.model.AhoCorasickMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    public void givenOverlappingKeywords_whenForEachMatch_thenEveryOccurrenceIsReported() {
+        final AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("he", "she", "his", "hers"));
+        final List<String> matches = new ArrayList<>();
+
+        matcher.forEachMatch("ushers", (keyword, start, end) -> matches.add(keyword + "@" + start + "-" + end));
+
+        assertThat(matches).containsExactlyInAnyOrder("1@1-4", "0@2-4", "3@2-6");
+    }
+
+    @Test
+    public void givenDuplicateKeyword_whenForEachMatch_thenItIsReportedUnderItsFirstIndex() {
+        final AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("shell", "shell"));
+        final List<Integer> keywords = new ArrayList<>();
+
+        matcher.forEachMatch("shell station", (keyword, start, end) -> keywords.add(keyword));
+
+        assertThat(keywords).containsExactly(0);
+    }
+
+    @Test
+    public void givenNoKeywords_whenForEachMatch_thenNothingIsReported() {
+        final List<Integer> keywords = new ArrayList<>();
+
+        AhoCorasickMatcher.EMPTY.forEachMatch("anything", (keyword, start, end) -> keywords.add(keyword));
+
+        assertThat(keywords).isEmpty();
+    }
+
+    @Test
+    public void givenEmptyKeyword_whenCompile_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> AhoCorasickMatcher.compile(List.of(""))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
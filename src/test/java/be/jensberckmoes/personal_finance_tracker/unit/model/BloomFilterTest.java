@@ -0,0 +1,56 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service.model;
+
+import be.jensberckmoes.personal_finance_tracker.model.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    public void givenInsertedKeys_whenMightContain_thenThereAreNoFalseNegativesAndFewFalsePositives() {
+        final BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        final SplittableRandom random = new SplittableRandom(7);
+        final long[] inserted = random.longs(10_000).toArray();
+        for (final long key : inserted) {
+            filter.put(key);
+        }
+
+        for (final long key : inserted) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+        final long falsePositives = random.longs(100_000).filter(filter::mightContain).count();
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    public void givenFilter_whenWrittenAndReadBack_thenAnswersAreIdentical() throws IOException {
+        final BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (long key = 0; key < 1_000; key++) {
+            filter.put(key * 31);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(new DataOutputStream(bytes));
+
+        final BloomFilter restored = BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.bitSize()).isEqualTo(filter.bitSize());
+        assertThat(restored.hashFunctions()).isEqualTo(filter.hashFunctions());
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(restored.mightContain(key)).isEqualTo(filter.mightContain(key));
+        }
+    }
+
+    @Test
+    public void givenInvalidProbability_whenCreate_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> BloomFilter.create(1_000, 1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
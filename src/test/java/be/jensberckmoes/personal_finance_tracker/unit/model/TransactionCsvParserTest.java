@@ -0,0 +1,86 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service.model;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionCsvParser;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionCsvParserTest {
+
+    private TransactionCsvParser transactionCsvParser;
+
+    @BeforeEach
+    void setUp() {
+        transactionCsvParser = new TransactionCsvParser();
+    }
+
+    @Test
+    @DisplayName("Should parse a complete line into a TransactionRequestDto")
+    void givenCompleteLine_whenParse_thenReturnsCorrectDto() {
+        final TransactionRequestDto dto = transactionCsvParser.parse("2025-04-01T08:40:00,50.00,expense,DIRECT_DEBIT,3,Groceries");
+
+        assertThat(dto.getDate()).isEqualTo(LocalDateTime.of(2025, 4, 1, 8, 40, 0));
+        assertThat(dto.getAmount()).isEqualTo(new BigDecimal("50.00"));
+        assertThat(dto.getType()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(dto.getMethod()).isEqualTo(TransactionMethod.DIRECT_DEBIT);
+        assertThat(dto.getCategoryId()).isEqualTo(3L);
+        assertThat(dto.getDescription()).isEqualTo("Groceries");
+    }
+
+    @Test
+    @DisplayName("Should keep commas and escaped quotes inside quoted fields")
+    void givenQuotedDescription_whenParse_thenDescriptionIsUnquoted() {
+        final TransactionRequestDto dto = transactionCsvParser.parse("2025-04-01,12.50,INCOME,,,\"Refund, \"\"shop\"\"\"");
+
+        assertThat(dto.getDate()).isEqualTo(LocalDateTime.of(2025, 4, 1, 0, 0, 0));
+        assertThat(dto.getMethod()).isNull();
+        assertThat(dto.getCategoryId()).isNull();
+        assertThat(dto.getDescription()).isEqualTo("Refund, \"shop\"");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2025-04-01,50.00,EXPENSE,CASH,1",
+            "not-a-date,50.00,EXPENSE,CASH,1,x",
+            "2025-04-01,abc,EXPENSE,CASH,1,x",
+            "2025-04-01,50.00,GIFT,CASH,1,x",
+            "2025-04-01,50.00,EXPENSE,CASH,one,x",
+            "2025-04-01,50.00,EXPENSE,CASH,1,\"unterminated",
+            " "
+    })
+    @DisplayName("Should throw InvalidInputException for malformed lines")
+    void givenMalformedLine_whenParse_thenThrowsInvalidInputException(final String line) {
+        assertThrows(InvalidInputException.class, () -> transactionCsvParser.parse(line));
+    }
+
+    @Test
+    void givenMalformedLine_whenParse_thenExceptionHasNoStackTrace() {
+        final InvalidInputException exception = assertThrows(InvalidInputException.class,
+                () -> transactionCsvParser.parse("not-a-date,50.00,EXPENSE,CASH,1,x"));
+
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void givenInternalInvalidInput_whenCreated_thenStackTraceIsKept() {
+        assertThat(new InvalidInputException("Invalid Transaction entity received from batch writer.").getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void givenHeaderLine_whenIsHeader_thenReturnsTrue() {
+        assertThat(transactionCsvParser.isHeader("Date,Amount,Type,Method,CategoryId,Description")).isTrue();
+        assertThat(transactionCsvParser.isHeader("2025-04-01,50.00,EXPENSE,CASH,1,x")).isFalse();
+    }
+}
@@ -0,0 +1,38 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service.model;
+
+import be.jensberckmoes.personal_finance_tracker.model.TransactionFingerprint;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionFingerprintTest {
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 4, 1, 8, 40);
+
+    @Test
+    public void givenSameBookingFormattedDifferently_whenFingerprinted_thenFingerprintsAreEqual() {
+        final long original = TransactionFingerprint.of(DATE, new BigDecimal("12.50"), TransactionMethod.CASH, "Bakery Central");
+        final long reformatted = TransactionFingerprint.of(DATE, new BigDecimal("12.5"), TransactionMethod.CASH, "  BAKERY\tcentral ");
+
+        assertThat(reformatted).isEqualTo(original);
+    }
+
+    @Test
+    public void givenDifferentField_whenFingerprinted_thenFingerprintsDiffer() {
+        final long original = TransactionFingerprint.of(DATE, new BigDecimal("12.50"), TransactionMethod.CASH, "Bakery");
+
+        assertThat(TransactionFingerprint.of(DATE.plusMinutes(1), new BigDecimal("12.50"), TransactionMethod.CASH, "Bakery")).isNotEqualTo(original);
+        assertThat(TransactionFingerprint.of(DATE, new BigDecimal("12.51"), TransactionMethod.CASH, "Bakery")).isNotEqualTo(original);
+        assertThat(TransactionFingerprint.of(DATE, new BigDecimal("12.50"), TransactionMethod.CREDIT_CARD, "Bakery")).isNotEqualTo(original);
+        assertThat(TransactionFingerprint.of(DATE, new BigDecimal("12.50"), TransactionMethod.CASH, "Butcher")).isNotEqualTo(original);
+    }
+
+    @Test
+    public void givenKnownInput_whenFingerprinted_thenValueIsStableAcrossRuns() {
+        assertThat(TransactionFingerprint.of(DATE, new BigDecimal("12.50"), TransactionMethod.CASH, "Bakery"))
+                .isEqualTo(-6007476223991772841L);
+    }
+}
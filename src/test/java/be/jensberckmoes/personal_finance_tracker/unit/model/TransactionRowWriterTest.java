@@ -0,0 +1,80 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service.model;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionCsvParser;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionRowWriter;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionRowWriterTest {
+
+    private TransactionRowWriter transactionRowWriter;
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        transactionRowWriter = new TransactionRowWriter();
+        transaction = Transaction.builder()
+                .id(7L)
+                .category(Category.builder().id(3L).build())
+                .amount(new BigDecimal("12.50"))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CREDIT_CARD)
+                .date(LocalDateTime.of(2025, 4, 1, 8, 40, 0))
+                .description("Dinner, \"Chez Nous\"\n")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should write a CSV row that the import parser reads back unchanged")
+    void givenTransaction_whenWriteCsv_thenRowRoundTripsThroughParser() throws IOException {
+        final StringWriter writer = new StringWriter();
+        transaction.setDescription("Dinner, \"Chez Nous\"");
+
+        transactionRowWriter.writeCsv(writer, transaction);
+
+        final String line = writer.toString();
+        assertThat(line).isEqualTo("2025-04-01T08:40,12.50,EXPENSE,CREDIT_CARD,3,\"Dinner, \"\"Chez Nous\"\"\"\n");
+        final TransactionRequestDto parsed = new TransactionCsvParser().parse(line.substring(0, line.length() - 1));
+        assertThat(parsed.getDate()).isEqualTo(transaction.getDate());
+        assertThat(parsed.getAmount()).isEqualTo(transaction.getAmount());
+        assertThat(parsed.getCategoryId()).isEqualTo(3L);
+        assertThat(parsed.getDescription()).isEqualTo(transaction.getDescription());
+    }
+
+    @Test
+    @DisplayName("Should write one escaped JSON object per line")
+    void givenTransaction_whenWriteNdjson_thenWritesEscapedJsonLine() throws IOException {
+        final StringWriter writer = new StringWriter();
+
+        transactionRowWriter.writeNdjson(writer, transaction);
+
+        assertThat(writer.toString()).isEqualTo("{\"id\":7,\"categoryId\":3,\"amount\":12.50,\"type\":\"EXPENSE\",\"method\":\"CREDIT_CARD\","
+                + "\"date\":\"2025-04-01T08:40\",\"description\":\"Dinner, \\\"Chez Nous\\\"\\n\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should write nulls for missing optional fields")
+    void givenTransactionWithoutOptionalFields_whenWriteNdjson_thenWritesNulls() throws IOException {
+        final StringWriter writer = new StringWriter();
+        transaction.setCategory(null);
+        transaction.setMethod(null);
+        transaction.setDescription(null);
+
+        transactionRowWriter.writeNdjson(writer, transaction);
+
+        assertThat(writer.toString()).contains("\"categoryId\":null", "\"method\":null", "\"description\":null");
+    }
+}
@@ -0,0 +1,233 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.event.BudgetChangedEvent;
+import be.jensberckmoes.personal_finance_tracker.event.BudgetThresholdCrossedEvent;
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendCheckpoint;
+import be.jensberckmoes.personal_finance_tracker.model.entity.BudgetSpendKey;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.BudgetRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.BudgetSpendCheckpointRepository;
+import be.jensberckmoes.personal_finance_tracker.repository.MonthlyTransactionRollupRepository;
+import be.jensberckmoes.personal_finance_tracker.service.impl.BudgetTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BudgetTrackerTest {
+    private static final int APRIL = 202504;
+    private static final String OWNER = "default";
+    private static final String OTHER_OWNER = "alice";
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private BudgetSpendCheckpointRepository budgetSpendCheckpointRepository;
+
+    @Mock
+    private MonthlyTransactionRollupRepository monthlyTransactionRollupRepository;
+
+    private final List<BudgetThresholdCrossedEvent> crossings = new CopyOnWriteArrayList<>();
+
+    private BudgetTracker budgetTracker;
+
+    @BeforeEach
+    void setUp() {
+        final ApplicationEventPublisher publisher = event -> crossings.add((BudgetThresholdCrossedEvent) event);
+        budgetTracker = new BudgetTracker(budgetRepository, budgetSpendCheckpointRepository, monthlyTransactionRollupRepository,
+                publisher, Duration.ofMinutes(1));
+        budgetTracker.onBudgetChanged(new BudgetChangedEvent(OWNER, 1L, new BigDecimal("100.00")));
+    }
+
+    @Test
+    public void givenConcurrentExpenses_whenThresholdsAreCrossed_thenEachCrossingIsPublishedExactlyOnce() throws Exception {
+        final List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        budgetTracker.record(OWNER, 1L, APRIL, 2);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(budgetTracker.spentCents(OWNER, 1L, APRIL)).isEqualTo(16_000);
+        assertThat(crossings).extracting(BudgetThresholdCrossedEvent::thresholdPercent).containsExactly(80, 100);
+        assertThat(crossings).allMatch(crossing -> crossing.month().equals(YearMonth.of(2025, 4)));
+    }
+
+    @Test
+    public void givenCommittedTransactions_whenPersistedEventArrives_thenOnlyCategorisedExpensesAreCounted() {
+        final Category category = Category.builder().id(1L).build();
+        budgetTracker.onTransactionsPersisted(new TransactionsPersistedEvent(List.of(
+                transaction(category, TransactionType.EXPENSE, "85.00"),
+                transaction(category, TransactionType.INCOME, "500.00"),
+                transaction(null, TransactionType.EXPENSE, "50.00"))));
+
+        assertThat(budgetTracker.spentCents(OWNER, 1L, APRIL)).isEqualTo(8_500);
+        assertThat(crossings).singleElement().satisfies(crossing -> {
+            assertThat(crossing.thresholdPercent()).isEqualTo(80);
+            assertThat(crossing.spent()).isEqualByComparingTo("85.00");
+        });
+        verifyNoInteractions(budgetRepository, budgetSpendCheckpointRepository);
+    }
+
+    @Test
+    public void givenAnnouncedThresholds_whenCheckpoint_thenOnlyThresholdChangesSinceTheLastCheckpointAreWritten() {
+        budgetTracker.record(OWNER, 1L, APRIL, 9_000);
+        budgetTracker.record(OWNER, 2L, APRIL, 100);
+
+        budgetTracker.checkpoint();
+        budgetTracker.record(OWNER, 2L, APRIL, 100);
+        budgetTracker.checkpoint();
+        budgetTracker.record(OWNER, 1L, APRIL, 1_000);
+        budgetTracker.checkpoint();
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<BudgetSpendCheckpoint>> saved = ArgumentCaptor.forClass(List.class);
+        verify(budgetSpendCheckpointRepository, times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues().get(0)).singleElement().satisfies(checkpoint -> {
+            assertThat(checkpoint.getId().getCategoryId()).isEqualTo(1L);
+            assertThat(checkpoint.getNotifiedThreshold()).isEqualTo(80);
+        });
+        assertThat(saved.getAllValues().get(1)).singleElement().satisfies(checkpoint -> {
+            assertThat(checkpoint.getNotifiedThreshold()).isEqualTo(100);
+            assertThat(checkpoint.getSpentCents()).isEqualTo(10_000L);
+        });
+    }
+
+    @Test
+    public void givenCheckpointWithAnnouncedThreshold_whenLoaded_thenSpendComesFromRollupsAndAlertIsNotRepeated() {
+        when(monthlyTransactionRollupRepository.sumByCategoryAndPeriod("EXPENSE", 0L)).thenReturn(List.of(spend(OWNER, 1L, APRIL, "85.00")));
+        when(budgetSpendCheckpointRepository.findAll()).thenReturn(List.of(BudgetSpendCheckpoint.builder()
+                .id(BudgetSpendKey.builder().ownerId(OWNER).categoryId(1L).period(APRIL).build())
+                .spentCents(7_000L)
+                .notifiedThreshold(80)
+                .build()));
+
+        budgetTracker.load();
+        budgetTracker.record(OWNER, 1L, APRIL, 100);
+
+        assertThat(budgetTracker.spentCents(OWNER, 1L, APRIL)).isEqualTo(8_600);
+        assertThat(crossings).isEmpty();
+    }
+
+    @Test
+    public void givenSpendWithoutCheckpoint_whenLoaded_thenCounterIsSeededFromRollups() {
+        when(monthlyTransactionRollupRepository.sumByCategoryAndPeriod("EXPENSE", 0L)).thenReturn(List.of(spend(OWNER, 2L, APRIL, "42.10")));
+
+        budgetTracker.load();
+        budgetTracker.onBudgetChanged(new BudgetChangedEvent(OWNER, 2L, new BigDecimal("50.00")));
+        budgetTracker.record(OWNER, 2L, APRIL, 500);
+
+        assertThat(budgetTracker.spentCents(OWNER, 2L, APRIL)).isEqualTo(4_710);
+        assertThat(crossings).isEmpty();
+    }
+
+    @Test
+    public void givenTwoOwners_whenSpendIsRecorded_thenNeitherSeesTheOthersLimitOrSpend() {
+        budgetTracker.record(OTHER_OWNER, 1L, APRIL, 9_500);
+
+        assertThat(budgetTracker.spentCents(OWNER, 1L, APRIL)).isZero();
+        assertThat(budgetTracker.spentCents(OTHER_OWNER, 1L, APRIL)).isEqualTo(9_500);
+        assertThat(budgetTracker.limitCents(OTHER_OWNER, 1L)).isNull();
+        assertThat(crossings).isEmpty();
+
+        budgetTracker.onBudgetChanged(new BudgetChangedEvent(OTHER_OWNER, 1L, new BigDecimal("200.00")));
+        budgetTracker.record(OTHER_OWNER, 1L, APRIL, 6_500);
+
+        assertThat(budgetTracker.limitCents(OWNER, 1L)).isEqualTo(10_000L);
+        assertThat(crossings).singleElement().satisfies(crossing -> {
+            assertThat(crossing.ownerId()).isEqualTo(OTHER_OWNER);
+            assertThat(crossing.thresholdPercent()).isEqualTo(80);
+        });
+    }
+
+    @Test
+    public void givenRollupsOfTwoOwners_whenLoaded_thenEachOwnerIsSeededWithItsOwnSpend() {
+        when(monthlyTransactionRollupRepository.sumByCategoryAndPeriod("EXPENSE", 0L))
+                .thenReturn(List.of(spend(OWNER, 1L, APRIL, "10.00"), spend(OTHER_OWNER, 1L, APRIL, "99.00")));
+
+        budgetTracker.load();
+
+        assertThat(budgetTracker.spentCents(OWNER, 1L, APRIL)).isEqualTo(1_000);
+        assertThat(budgetTracker.spentCents(OTHER_OWNER, 1L, APRIL)).isEqualTo(9_900);
+    }
+
+    @Test
+    public void givenLifecycle_whenStarted_thenCountersAreSeededInAPhaseBeforeTheWebServerAndIngestion() {
+        when(monthlyTransactionRollupRepository.sumByCategoryAndPeriod("EXPENSE", 0L)).thenReturn(List.of(spend(OWNER, 1L, APRIL, "30.00")));
+
+        budgetTracker.start();
+        try {
+            assertThat(budgetTracker.spentCents(OWNER, 1L, APRIL)).isEqualTo(3_000);
+            assertThat(budgetTracker.getPhase()).isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024)
+                    .isLessThan(SmartLifecycle.DEFAULT_PHASE);
+        } finally {
+            budgetTracker.stop();
+        }
+    }
+
+    private static MonthlyTransactionRollupRepository.CategorySpendView spend(final String ownerId, final long categoryId,
+                                                                              final int period, final String amount) {
+        return new MonthlyTransactionRollupRepository.CategorySpendView() {
+            @Override
+            public String getOwnerId() {
+                return ownerId;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Integer getPeriod() {
+                return period;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return new BigDecimal(amount);
+            }
+        };
+    }
+
+    private static Transaction transaction(final Category category, final TransactionType type, final String amount) {
+        return Transaction.builder()
+                .ownerId(OWNER)
+                .category(category)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .date(LocalDateTime.of(2025, 4, 3, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryReferenceResolverTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryReferenceResolver categoryReferenceResolver;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        categoryReferenceResolver = new CategoryReferenceResolver(categoryRepository);
+        category = Category.builder().id(1L).name("Groceries").build();
+    }
+
+    @Test
+    public void givenUnknownCategoryId_whenResolvedTwice_thenOnlyTheFirstCallHitsTheDatabase() {
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+
+        assertThat(categoryReferenceResolver.resolve(1L)).contains(category);
+        assertThat(categoryReferenceResolver.resolve(1L)).contains(category);
+
+        verify(categoryRepository, times(1)).findById(1L);
+        verify(categoryRepository, times(1)).getReferenceById(1L);
+    }
+
+    @Test
+    public void givenRegisteredCategoryId_whenResolve_thenReturnsReferenceWithoutLookup() {
+        when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+        categoryReferenceResolver.register(1L);
+
+        assertThat(categoryReferenceResolver.resolve(1L)).contains(category);
+
+        verify(categoryRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void givenEvictedCategoryId_whenResolve_thenLooksItUpAgain() {
+        when(categoryRepository.findById(1L)).thenReturn(Optional.empty());
+        categoryReferenceResolver.register(1L);
+        categoryReferenceResolver.evict(1L);
+
+        assertThat(categoryReferenceResolver.resolve(1L)).isEmpty();
+        assertThat(categoryReferenceResolver.resolve(null)).isEmpty();
+
+        verify(categoryRepository, never()).getReferenceById(anyLong());
+    }
+
+    @Test
+    public void givenMixOfKnownAndUnknownIds_whenResolveAll_thenOnlyUnknownIdsAreQueried() {
+        final Category other = Category.builder().id(2L).name("Rent").build();
+        categoryReferenceResolver.register(1L);
+        when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+        when(categoryRepository.findAllById(Set.of(2L, 3L))).thenReturn(List.of(other));
+
+        final Map<Long, Category> resolved = categoryReferenceResolver.resolveAll(List.of(1L, 2L, 3L, 2L));
+
+        assertThat(resolved).containsOnly(Map.entry(1L, category), Map.entry(2L, other));
+        verify(categoryRepository, times(1)).findAllById(Set.of(2L, 3L));
+    }
+}
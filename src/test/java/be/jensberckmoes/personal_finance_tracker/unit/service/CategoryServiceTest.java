@@ -8,6 +8,7 @@ import be.jensberckmoes.personal_finance_tracker.model.CategoryMapper;
 import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
 import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
 import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
 import be.jensberckmoes.personal_finance_tracker.service.impl.CategoryServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +36,9 @@ public class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private CategoryReferenceResolver categoryReferenceResolver;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -113,6 +119,7 @@ public class CategoryServiceTest {
         verify(categoryRepository, times(1)).findByNameIgnoreCase(uniqueCategoryName);
         verify(categoryRepository, times(1)).save(categoryToSave);
         verify(categoryMapper, times(1)).toResponse(savedCategory);
+        verify(categoryReferenceResolver, times(1)).register(savedCategory.getId());
     }
 
     @Test
@@ -357,4 +364,18 @@ public class CategoryServiceTest {
         verify(categoryMapper, never()).toResponse(any(Category.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should list categories sorted by name, mapped to response DTOs")
+    void givenCategories_whenListCategories_thenReturnsThemSortedByName() {
+        final Category food = Category.builder().id(1L).name("Food").categoryType(CategoryType.EXPENSE).build();
+        final Category salary = Category.builder().id(2L).name("Salary").categoryType(CategoryType.INCOME).build();
+        final CategoryResponseDto foodResponse = CategoryResponseDto.builder().id(1L).name("Food").build();
+        final CategoryResponseDto salaryResponse = CategoryResponseDto.builder().id(2L).name("Salary").build();
+
+        when(categoryRepository.findAll(Sort.by("name"))).thenReturn(List.of(food, salary));
+        when(categoryMapper.toResponse(food)).thenReturn(Optional.of(foodResponse));
+        when(categoryMapper.toResponse(salary)).thenReturn(Optional.of(salaryResponse));
+
+        assertThat(categoryService.listCategories()).containsExactly(foodResponse, salaryResponse);
+    }
+}
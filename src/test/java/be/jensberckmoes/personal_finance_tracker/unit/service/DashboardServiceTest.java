@@ -0,0 +1,123 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.BudgetStatusDto;
+import be.jensberckmoes.personal_finance_tracker.dto.CategoryResponseDto;
+import be.jensberckmoes.personal_finance_tracker.dto.DashboardDto;
+import be.jensberckmoes.personal_finance_tracker.dto.MonthlyTotalDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.exception.DeadlineExceededException;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
+import be.jensberckmoes.personal_finance_tracker.model.enums.CategoryType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.service.BudgetService;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionService;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionSummaryService;
+import be.jensberckmoes.personal_finance_tracker.service.impl.DashboardServiceImpl;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+    private static final YearMonth MONTH = YearMonth.of(2025, 4);
+
+    @Mock
+    private TransactionSummaryService transactionSummaryService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private BudgetService budgetService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    private final Set<String> owners = ConcurrentHashMap.newKeySet();
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardServiceImpl(transactionSummaryService, transactionService, budgetService,
+                categoryService, Duration.ofSeconds(5));
+        lenient().when(transactionSummaryService.getMonthlyTotals(eq(MONTH), eq(MONTH), isNull(), eq(TransactionType.EXPENSE), isNull()))
+                .thenAnswer(invocation -> {
+                    owners.add(OwnerContext.current());
+                    return List.of(MonthlyTotalDto.builder().month(MONTH).totalAmount(new BigDecimal("42.00")).transactionCount(3).build());
+                });
+        lenient().when(transactionSummaryService.getMonthlyTotals(eq(MONTH), eq(MONTH), isNull(), eq(TransactionType.INCOME), isNull()))
+                .thenReturn(List.of());
+        lenient().when(transactionService.listTransactions(any(TransactionPageRequestDto.class)))
+                .thenAnswer(invocation -> {
+                    owners.add(OwnerContext.current());
+                    return TransactionPageDto.builder().items(List.of(TransactionResponseDto.builder().id(7L).build())).build();
+                });
+        lenient().when(budgetService.getStatuses(MONTH))
+                .thenReturn(List.of(BudgetStatusDto.builder().categoryId(1L).month(MONTH).spent(BigDecimal.TEN).build()));
+        lenient().when(categoryService.listCategories())
+                .thenAnswer(invocation -> {
+                    owners.add(OwnerContext.current());
+                    return List.of(CategoryResponseDto.builder().id(1L).name("FOOD").categoryType(CategoryType.EXPENSE).build());
+                });
+    }
+
+    @Test
+    public void givenAllSectionsSucceed_whenGetDashboard_thenComposesThemForTheCallersOwner() {
+        final DashboardDto dashboard = OwnerContext.callAs("alice", () -> dashboardService.getDashboard(MONTH));
+
+        assertThat(dashboard.getMonth()).isEqualTo(MONTH);
+        assertThat(dashboard.getExpenses().getTotalAmount()).isEqualByComparingTo("42.00");
+        assertThat(dashboard.getIncome().getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(dashboard.getRecentTransactions()).extracting(TransactionResponseDto::getId).containsExactly(7L);
+        assertThat(dashboard.getBudgets()).extracting(BudgetStatusDto::getCategoryId).containsExactly(1L);
+        assertThat(dashboard.getCategories()).singleElement().satisfies(category -> assertThat(category.getName()).isEqualTo("FOOD"));
+        assertThat(owners).containsExactly("alice");
+    }
+
+    @Test
+    public void givenFailingSection_whenGetDashboard_thenRethrowsItsException() {
+        when(budgetService.getStatuses(MONTH)).thenThrow(new EntityNotFoundException("Category not found with id: 1"));
+
+        assertThatThrownBy(() -> dashboardService.getDashboard(MONTH)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void givenSlowSection_whenGetDashboard_thenThrowsDeadlineExceededException() {
+        dashboardService = new DashboardServiceImpl(transactionSummaryService, transactionService, budgetService,
+                categoryService, Duration.ofMillis(50));
+        when(categoryService.listCategories()).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofMinutes(1));
+            return List.of();
+        });
+
+        assertThatThrownBy(() -> dashboardService.getDashboard(MONTH)).isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    public void givenNullMonth_whenGetDashboard_thenThrowsInvalidInputException() {
+        assertThatThrownBy(() -> dashboardService.getDashboard(null)).isInstanceOf(InvalidInputException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.repository.CategorizationRuleRepository;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionCategorizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionCategorizerTest {
+    private static final String OWNER = "default";
+
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+
+    private TransactionCategorizer transactionCategorizer;
+
+    @BeforeEach
+    void setUp() {
+        transactionCategorizer = new TransactionCategorizer(categorizationRuleRepository);
+    }
+
+    @Test
+    public void givenRules_whenCategorize_thenWholeWordKeywordsMatchCaseInsensitively() {
+        when(categorizationRuleRepository.findRulesOfAllOwners()).thenReturn(List.of(rule(OWNER, "Delhaize", 1L, 0), rule(OWNER, "shell", 2L, 0)));
+        transactionCategorizer.reload();
+
+        assertThat(transactionCategorizer.categorize(OWNER, "BANCONTACT  DELHAIZE brussel")).contains(1L);
+        assertThat(transactionCategorizer.categorize(OWNER, "Shell Station E40")).contains(2L);
+        assertThat(transactionCategorizer.categorize(OWNER, "Shellfish restaurant")).isEmpty();
+        assertThat(transactionCategorizer.categorize(OWNER, null)).isEmpty();
+    }
+
+    @Test
+    public void givenSeveralMatchingRules_whenCategorize_thenHighestPriorityThenLongestKeywordWins() {
+        when(categorizationRuleRepository.findRulesOfAllOwners()).thenReturn(List.of(
+                rule(OWNER, "amazon", 1L, 0), rule(OWNER, "amazon prime", 2L, 0), rule(OWNER, "prime", 3L, 5)));
+        transactionCategorizer.reload();
+
+        assertThat(transactionCategorizer.categorize(OWNER, "Amazon Prime Video")).contains(3L);
+        assertThat(transactionCategorizer.categorize(OWNER, "amazon prime")).contains(3L);
+        assertThat(transactionCategorizer.categorize(OWNER, "Amazon Marketplace")).contains(1L);
+    }
+
+    @Test
+    public void givenChangedRules_whenReloaded_thenNewSnapshotIsUsed() {
+        when(categorizationRuleRepository.findRulesOfAllOwners())
+                .thenReturn(List.of(rule(OWNER, "colruyt", 1L, 0)))
+                .thenReturn(List.of(rule(OWNER, "colruyt", 4L, 0)));
+        transactionCategorizer.reload();
+        assertThat(transactionCategorizer.categorize(OWNER, "Colruyt Gent")).contains(1L);
+
+        transactionCategorizer.reload();
+
+        assertThat(transactionCategorizer.categorize(OWNER, "Colruyt Gent")).contains(4L);
+    }
+
+    @Test
+    public void givenRulesOfTwoOwners_whenCategorize_thenOnlyTheOwnersOwnRulesApply() {
+        when(categorizationRuleRepository.findRulesOfAllOwners())
+                .thenReturn(List.of(rule(OWNER, "delhaize", 1L, 0), rule("alice", "delhaize", 7L, 0), rule("alice", "aldi", 8L, 0)));
+        transactionCategorizer.reload();
+
+        assertThat(transactionCategorizer.categorize(OWNER, "Delhaize Brussel")).contains(1L);
+        assertThat(transactionCategorizer.categorize("alice", "Delhaize Brussel")).contains(7L);
+        assertThat(transactionCategorizer.categorize(OWNER, "Aldi Gent")).isEmpty();
+        assertThat(transactionCategorizer.categorize("bob", "Delhaize Brussel")).isEmpty();
+    }
+
+    private static CategorizationRuleRepository.RuleView rule(final String ownerId, final String keyword, final Long categoryId,
+                                                              final int priority) {
+        return new CategorizationRuleRepository.RuleView() {
+            @Override
+            public String getOwnerId() {
+                return ownerId;
+            }
+
+            @Override
+            public String getKeyword() {
+                return keyword;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+}
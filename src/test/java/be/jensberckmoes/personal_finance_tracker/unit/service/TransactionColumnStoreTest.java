@@ -0,0 +1,143 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionColumnStore;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionColumnStoreTest {
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionColumnStore transactionColumnStore;
+
+    @BeforeEach
+    void setUp() {
+        transactionColumnStore = new TransactionColumnStore(transactionRepository);
+        when(transactionRepository.streamColumnRows()).thenReturn(Stream.of(
+                new Row(1L, "10.00", MARCH.atTime(9, 0), TransactionType.EXPENSE, TransactionMethod.CASH, 7L),
+                new Row(2L, "2.50", MARCH.plusDays(10).atTime(9, 0), TransactionType.EXPENSE, TransactionMethod.CREDIT_CARD, 8L),
+                new Row(3L, "1000.00", MARCH.plusMonths(1).atTime(9, 0), TransactionType.INCOME, null, null),
+                new Row(4L, null, MARCH.atTime(9, 0), TransactionType.EXPENSE, TransactionMethod.CASH, 7L)));
+        transactionColumnStore.load();
+    }
+
+    @Test
+    public void givenLoadedRows_whenSumWithoutFilters_thenRowsWithoutAmountAreSkipped() {
+        final long[] totals = new long[2];
+
+        transactionColumnStore.sum(epochDay(MARCH), epochDay(MARCH.plusYears(1)), TransactionColumnStore.NONE,
+                TransactionColumnStore.NONE, TransactionColumnStore.NONE, totals);
+
+        assertThat(transactionColumnStore.size()).isEqualTo(3);
+        assertThat(totals).containsExactly(101_250L, 3L);
+    }
+
+    @Test
+    public void givenFilters_whenSum_thenOnlyMatchingRowsAreCounted() {
+        final long[] totals = new long[2];
+
+        transactionColumnStore.sum(epochDay(MARCH), epochDay(MARCH.plusDays(30)), TransactionType.EXPENSE.ordinal(),
+                TransactionMethod.CASH.ordinal(), 7L, totals);
+
+        assertThat(totals).containsExactly(1_000L, 1L);
+    }
+
+    @Test
+    public void givenUnknownCategory_whenSum_thenTotalsAreZero() {
+        final long[] totals = {5L, 5L};
+
+        transactionColumnStore.sum(epochDay(MARCH), epochDay(MARCH.plusYears(1)), TransactionColumnStore.NONE,
+                TransactionColumnStore.NONE, 99L, totals);
+
+        assertThat(totals).containsExactly(0L, 0L);
+    }
+
+    @Test
+    public void givenCommittedTransactions_whenPersistedEventArrives_thenTheDefaultOwnersAreAppendedAndGroupedByCategory() {
+        final Transaction transaction = Transaction.builder()
+                .id(5L)
+                .ownerId(OwnerContext.DEFAULT_OWNER)
+                .amount(new BigDecimal("4.00"))
+                .date(MARCH.plusDays(2).atStartOfDay())
+                .type(TransactionType.EXPENSE)
+                .category(Category.builder().id(8L).build())
+                .build();
+        final Transaction otherOwners = Transaction.builder()
+                .id(6L)
+                .ownerId("alice")
+                .amount(new BigDecimal("100.00"))
+                .date(MARCH.plusDays(2).atStartOfDay())
+                .type(TransactionType.EXPENSE)
+                .category(Category.builder().id(8L).build())
+                .build();
+
+        transactionColumnStore.onTransactionsPersisted(new TransactionsPersistedEvent(List.of(transaction, otherOwners)));
+
+        final long[] cents = new long[transactionColumnStore.categoryCount()];
+        final long[] counts = new long[transactionColumnStore.categoryCount()];
+        transactionColumnStore.sumByCategory(epochDay(MARCH), epochDay(MARCH.plusDays(30)), TransactionType.EXPENSE.ordinal(),
+                TransactionColumnStore.NONE, cents, counts);
+        assertThat(transactionColumnStore.categoryIdAt(1)).isEqualTo(8L);
+        assertThat(cents).containsExactly(1_000L, 650L);
+        assertThat(counts).containsExactly(1L, 2L);
+    }
+
+    private static int epochDay(final LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    private record Row(Long id, String amountValue, LocalDateTime date, TransactionType type, TransactionMethod method,
+                       Long categoryId) implements TransactionRepository.ColumnRowView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public BigDecimal getAmount() {
+            return amountValue == null ? null : new BigDecimal(amountValue);
+        }
+
+        @Override
+        public LocalDateTime getDate() {
+            return date;
+        }
+
+        @Override
+        public TransactionType getType() {
+            return type;
+        }
+
+        @Override
+        public TransactionMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public Long getCategoryId() {
+            return categoryId;
+        }
+    }
+}
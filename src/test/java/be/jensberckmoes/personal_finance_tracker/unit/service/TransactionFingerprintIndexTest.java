@@ -0,0 +1,69 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.id.SnowflakeIdAllocator;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionFingerprintIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionFingerprintIndexTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @TempDir
+    private Path directory;
+
+    private final SnowflakeIdAllocator ids = SnowflakeIdAllocator.forNode(1);
+
+    @Test
+    public void givenSnowflakeIds_whenLoaded_thenFilterIsSizedFromTheRowCount() {
+        when(transactionRepository.findMaxIdOfAllOwners()).thenReturn(ids.nextId());
+        when(transactionRepository.countAllOwners()).thenReturn(3L);
+        when(transactionRepository.streamFingerprintsOfAllOwnersAfter(0L)).thenReturn(Stream.of(11L, 22L, 33L));
+        final TransactionFingerprintIndex index = index();
+
+        index.load();
+
+        assertThat(index.findExisting(List.of(44L))).isEmpty();
+        verify(transactionRepository, never()).findExistingFingerprints(anyCollection());
+    }
+
+    @Test
+    public void givenSavedFilter_whenLoadedWithSnowflakeIds_thenItIsRestoredAndToppedUpFromTheWatermark() {
+        final long firstMaxId = ids.nextId();
+        when(transactionRepository.findMaxIdOfAllOwners()).thenReturn(firstMaxId);
+        when(transactionRepository.countAllOwners()).thenReturn(3L);
+        when(transactionRepository.streamFingerprintsOfAllOwnersAfter(0L)).thenReturn(Stream.of(11L, 22L, 33L));
+        final TransactionFingerprintIndex first = index();
+        first.load();
+        first.save();
+
+        when(transactionRepository.findMaxIdOfAllOwners()).thenReturn(ids.nextId());
+        when(transactionRepository.countAllOwners()).thenReturn(4L);
+        when(transactionRepository.streamFingerprintsOfAllOwnersAfter(firstMaxId)).thenReturn(Stream.of(44L));
+        final TransactionFingerprintIndex second = index();
+        second.load();
+
+        verify(transactionRepository).streamFingerprintsOfAllOwnersAfter(firstMaxId);
+        verify(transactionRepository, times(1)).streamFingerprintsOfAllOwnersAfter(0L);
+        when(transactionRepository.findExistingFingerprints(anyCollection())).thenReturn(List.of(11L, 44L));
+        assertThat(second.findExisting(List.of(11L, 44L, 55L))).containsExactlyInAnyOrder(11L, 44L);
+    }
+
+    private TransactionFingerprintIndex index() {
+        return new TransactionFingerprintIndex(transactionRepository, directory.resolve("transactions.bloom"), 1_000, 0.01);
+    }
+}
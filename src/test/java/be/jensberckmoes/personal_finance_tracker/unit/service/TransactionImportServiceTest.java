@@ -0,0 +1,169 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionImportReportDto;
+import be.jensberckmoes.personal_finance_tracker.exception.TransactionImportException;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionCsvParser;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionMapper;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionCategorizer;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionFingerprint;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionBatchWriter;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionFingerprintIndex;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionImportChunkWriter;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionImportServiceTest {
+
+    @Mock
+    private CategoryReferenceResolver categoryReferenceResolver;
+
+    @Mock
+    private TransactionBatchWriter transactionBatchWriter;
+
+    @Mock
+    private TransactionFingerprintIndex transactionFingerprintIndex;
+
+    @Mock
+    private TransactionCategorizer transactionCategorizer;
+
+    @TempDir
+    private Path tempDir;
+
+    private TransactionImportServiceImpl transactionImportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionImportService = new TransactionImportServiceImpl(new TransactionCsvParser(), new TransactionValidationService(),
+                new TransactionMapper(), chunkWriter(), transactionCategorizer);
+    }
+
+    private TransactionImportChunkWriter chunkWriter() {
+        return new TransactionImportChunkWriter(categoryReferenceResolver, transactionFingerprintIndex, transactionBatchWriter);
+    }
+
+    @Test
+    public void givenFileWithValidAndInvalidLines_whenImportCsv_thenValidLinesArePersistedInOrderAndErrorsAreReportedPerLine() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        lines.add("date,amount,type,method,categoryId,description");
+        for (int i = 0; i < 2000; i++) {
+            lines.add("2025-04-01T08:40:00,10.00,EXPENSE,CASH,1,row " + i);
+        }
+        lines.add("2025-04-01T08:40:00,10.0,EXPENSE,CASH,1,bad scale");
+        lines.add("2025-04-01T08:40:00,10.00,EXPENSE,CASH,2,unknown category");
+        final Path csvFile = Files.write(tempDir.resolve("statement.csv"), lines);
+        when(categoryReferenceResolver.resolveAll(anyList())).thenReturn(Map.of(1L, Category.builder().id(1L).build()));
+        final List<String> persistedDescriptions = new ArrayList<>();
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            final List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> persistedDescriptions.add(transaction.getDescription()));
+            return transactions;
+        });
+
+        final TransactionImportReportDto report = transactionImportService.importCsv(csvFile);
+
+        assertThat(report.getLinesRead()).isEqualTo(2002);
+        assertThat(report.getImported()).isEqualTo(2000);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting("lineNumber").containsExactly(2002L, 2003L);
+        assertThat(report.getErrors().get(0).getError()).isEqualTo("AMOUNT_SCALE_INVALID: Amount scale must be 2.");
+        assertThat(report.getErrors().get(1).getError()).isEqualTo("Category not found with id: 2");
+        assertThat(persistedDescriptions).hasSize(2000);
+        for (int i = 0; i < 2000; i++) {
+            assertThat(persistedDescriptions.get(i)).isEqualTo("row " + i);
+        }
+        verify(transactionBatchWriter, times(3)).persistInBatches(anyList());
+    }
+
+    @Test
+    public void givenRowsAlreadyImported_whenImportCsv_thenTheyAreSkippedAsDuplicates() throws IOException {
+        final Path csvFile = Files.write(tempDir.resolve("overlap.csv"), List.of(
+                "2025-04-01T08:40:00,10.00,EXPENSE,CASH,1,Bakery  Central",
+                "2025-04-02T08:40:00,10.00,EXPENSE,CASH,1,new row"));
+        final long existing = TransactionFingerprint.of(LocalDateTime.parse("2025-04-01T08:40:00"), new BigDecimal("10.0"),
+                TransactionMethod.CASH, "bakery central");
+        when(categoryReferenceResolver.resolveAll(anyList())).thenReturn(Map.of(1L, Category.builder().id(1L).build()));
+        when(transactionFingerprintIndex.findExisting(anyCollection())).thenReturn(Set.of(existing));
+        final List<String> persistedDescriptions = new ArrayList<>();
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            final List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> persistedDescriptions.add(transaction.getDescription()));
+            return transactions;
+        });
+
+        final TransactionImportReportDto report = transactionImportService.importCsv(csvFile);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        assertThat(report.getFailed()).isZero();
+        assertThat(persistedDescriptions).containsExactly("new row");
+    }
+
+    @Test
+    public void givenRowRepeatedWithinTheFile_whenImportCsv_thenItIsPersistedOnce() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        lines.add("2025-04-01T08:40:00,10.00,EXPENSE,CASH,1,Bakery  Central");
+        lines.add("2025-04-01T08:40:00,10.00,EXPENSE,CASH,1,bakery central");
+        for (int i = 0; i < 1000; i++) {
+            lines.add("2025-04-02T08:40:00,10.00,EXPENSE,CASH,1,row " + i);
+        }
+        lines.add("2025-04-01T08:40:00,10.00,EXPENSE,CASH,1,Bakery Central");
+        final Path csvFile = Files.write(tempDir.resolve("repeated.csv"), lines);
+        when(categoryReferenceResolver.resolveAll(anyList())).thenReturn(Map.of(1L, Category.builder().id(1L).build()));
+        final List<String> persistedDescriptions = new ArrayList<>();
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            final List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> persistedDescriptions.add(transaction.getDescription()));
+            return transactions;
+        });
+
+        final TransactionImportReportDto report = transactionImportService.importCsv(csvFile);
+
+        assertThat(report.getImported()).isEqualTo(1001);
+        assertThat(report.getDuplicates()).isEqualTo(2);
+        assertThat(persistedDescriptions).hasSize(1001).startsWith("Bakery  Central");
+    }
+
+    @Test
+    @Timeout(10)
+    public void givenReaderFailsWithRuntimeException_whenImportCsv_thenImportFailsInsteadOfHanging() throws IOException {
+        final TransactionCsvParser failingParser = spy(new TransactionCsvParser());
+        doThrow(new IllegalStateException("reader broke")).when(failingParser).isHeader(anyString());
+        final TransactionImportServiceImpl importService = new TransactionImportServiceImpl(failingParser,
+                new TransactionValidationService(), new TransactionMapper(), chunkWriter(), transactionCategorizer);
+        final Path csvFile = Files.write(tempDir.resolve("broken.csv"), List.of("2025-04-01T08:40:00,10.00,EXPENSE,CASH,1,row"));
+
+        assertThatThrownBy(() -> importService.importCsv(csvFile))
+                .isInstanceOf(TransactionImportException.class)
+                .hasRootCauseMessage("reader broke");
+        verifyNoInteractions(transactionBatchWriter);
+    }
+}
@@ -0,0 +1,317 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.exception.IngestionRejectedException;
+import be.jensberckmoes.personal_finance_tracker.exception.NullTransactionAmountException;
+import be.jensberckmoes.personal_finance_tracker.journal.TransactionJournal;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionMapper;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionBatchWriter;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionIngestionServiceImpl;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionIngestionServiceTest {
+
+    @Mock
+    private CategoryReferenceResolver categoryReferenceResolver;
+
+    @Mock
+    private TransactionBatchWriter transactionBatchWriter;
+
+    private TransactionIngestionServiceImpl transactionIngestionService;
+
+    private final Category category = Category.builder().id(1L).name("Groceries").build();
+
+    @BeforeEach
+    void setUp() {
+        transactionIngestionService = new TransactionIngestionServiceImpl(new TransactionValidationService(), new TransactionMapper(),
+                categoryReferenceResolver, transactionBatchWriter, Optional.empty(), 1024, 100, Duration.ofMillis(20));
+        transactionIngestionService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionIngestionService.stop();
+    }
+
+    @Test
+    public void givenBurstOfTransactions_whenSubmitted_thenTheyAreCommittedInGroupsAndEveryFutureCompletes() throws Exception {
+        final AtomicLong ids = new AtomicLong();
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            final List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> transaction.setId(ids.incrementAndGet()));
+            return transactions;
+        });
+
+        final List<CompletableFuture<TransactionResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            futures.add(transactionIngestionService.submit(request(1L).build()));
+        }
+
+        for (final CompletableFuture<TransactionResponseDto> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getCategoryId()).isEqualTo(1L);
+        }
+        assertThat(futures.stream().map(CompletableFuture::join).map(TransactionResponseDto::getId).distinct()).hasSize(250);
+        verify(transactionBatchWriter, atMost(10)).persistInBatches(anyList());
+    }
+
+    @Test
+    public void givenInvalidTransaction_whenSubmitted_thenFutureFailsWithoutBeingQueued() {
+        final CompletableFuture<TransactionResponseDto> future = transactionIngestionService.submit(request(1L).amount(null).build());
+
+        assertThatThrownBy(future::get).hasCauseInstanceOf(NullTransactionAmountException.class);
+        verifyNoInteractions(transactionBatchWriter);
+    }
+
+    @Test
+    public void givenFailingGroup_whenCommitted_thenRowsAreRetriedIndividuallyAndOnlyTheBadOneFails() throws Exception {
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            final List<Transaction> transactions = invocation.getArgument(0);
+            if (transactions.stream().anyMatch(transaction -> "bad".equals(transaction.getDescription()))) {
+                throw new IllegalStateException("constraint violated");
+            }
+            return transactions;
+        });
+
+        final CompletableFuture<TransactionResponseDto> good = transactionIngestionService.submit(request(1L).build());
+        final CompletableFuture<TransactionResponseDto> bad = transactionIngestionService.submit(request(1L).description("bad").build());
+
+        assertThat(good.get(5, TimeUnit.SECONDS).getDescription()).isEqualTo("Lunch");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void givenUnknownCategory_whenSubmitted_thenFutureFailsWithEntityNotFound() {
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of());
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final CompletableFuture<TransactionResponseDto> future = transactionIngestionService.submit(request(9L).build());
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void givenSubmitsRacingStop_whenStopped_thenEveryFutureCompletes() throws Exception {
+        lenient().when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        lenient().when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        final List<CompletableFuture<TransactionResponseDto>> futures = new CopyOnWriteArrayList<>();
+        final CountDownLatch submitting = new CountDownLatch(4);
+
+        try (ExecutorService clients = Executors.newFixedThreadPool(4)) {
+            for (int client = 0; client < 4; client++) {
+                clients.execute(() -> {
+                    submitting.countDown();
+                    for (int i = 0; i < 500; i++) {
+                        futures.add(transactionIngestionService.submit(request(1L).build()));
+                    }
+                });
+            }
+            submitting.await();
+            transactionIngestionService.stop();
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, failure) -> null)
+                .get(5, TimeUnit.SECONDS);
+        assertThat(futures).hasSize(2000).allMatch(CompletableFuture::isDone);
+    }
+
+    @Test
+    public void givenJournalDisabled_whenAcknowledge_thenThrowsIngestionRejectedException() {
+        assertThatThrownBy(() -> transactionIngestionService.acknowledge(request(1L).build()))
+                .isInstanceOf(IngestionRejectedException.class);
+    }
+
+    @Test
+    public void givenJournaledTransactionsBeyondCheckpoint_whenStarted_thenOnlyUnappliedOnesAreReplayed(@TempDir final Path directory) {
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("applied").build());
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("pending one").build());
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("pending two").build());
+            journal.checkpoint(1);
+        }
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            final TransactionIngestionServiceImpl journaled = new TransactionIngestionServiceImpl(new TransactionValidationService(), new TransactionMapper(),
+                    categoryReferenceResolver, transactionBatchWriter, Optional.of(journal), 1024, 100, Duration.ofMillis(20));
+            journaled.start();
+            journaled.stop();
+            assertThat(journal.appliedSequence()).isEqualTo(3);
+        }
+
+        verify(transactionBatchWriter).persistInBatches(argThat(transactions -> transactions.size() == 2
+                && "pending one".equals(transactions.get(0).getDescription())));
+    }
+
+    @Test
+    public void givenRowCommittedBeyondTheCheckpoint_whenReplayed_thenItIsNotInsertedAgain(@TempDir final Path directory) {
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("committed, checkpointed").build());
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("committed, not checkpointed").build());
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("not committed").build());
+            journal.checkpoint(1);
+        }
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        when(transactionBatchWriter.appliedJournalSequences(List.of(2L, 3L))).thenReturn(Set.of(2L));
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            final TransactionIngestionServiceImpl journaled = new TransactionIngestionServiceImpl(new TransactionValidationService(), new TransactionMapper(),
+                    categoryReferenceResolver, transactionBatchWriter, Optional.of(journal), 1024, 100, Duration.ofMillis(20));
+            journaled.start();
+            journaled.stop();
+            assertThat(journal.appliedSequence()).isEqualTo(3);
+        }
+
+        verify(transactionBatchWriter).persistInBatches(argThat(transactions -> transactions.size() == 1
+                && "not committed".equals(transactions.get(0).getDescription())
+                && transactions.get(0).getJournalSequence() == 3L));
+    }
+
+    @Test
+    public void givenUnknownCategory_whenAcknowledge_thenThrowsBeforeJournaling(@TempDir final Path directory) {
+        when(categoryReferenceResolver.resolve(9L)).thenReturn(Optional.empty());
+
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            final TransactionIngestionServiceImpl journaled = new TransactionIngestionServiceImpl(new TransactionValidationService(), new TransactionMapper(),
+                    categoryReferenceResolver, transactionBatchWriter, Optional.of(journal), 1024, 100, Duration.ofMillis(20));
+            journaled.start();
+            try {
+                assertThatThrownBy(() -> journaled.acknowledge(request(9L).build())).isInstanceOf(EntityNotFoundException.class);
+                assertThat(journal.lastSequence()).isZero();
+            } finally {
+                journaled.stop();
+            }
+        }
+    }
+
+    @Test
+    public void givenJournaledRowThatCannotBeApplied_whenReplayed_thenItIsDeadLetteredBeforeTheCheckpointPassesIt(@TempDir final Path directory) {
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("one").build());
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("bad").build());
+            journal.append(OwnerContext.DEFAULT_OWNER, request(1L).description("three").build());
+        }
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        final List<String> commits = new ArrayList<>();
+        final List<Long> deadLetters = new ArrayList<>();
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+                final List<Transaction> transactions = invocation.getArgument(0);
+                if (transactions.stream().anyMatch(transaction -> "bad".equals(transaction.getDescription()))) {
+                    throw new IllegalStateException("constraint violated");
+                }
+                commits.add(transactions.get(0).getDescription() + " after checkpoint " + journal.appliedSequence());
+                return transactions;
+            });
+            final TransactionIngestionServiceImpl journaled = new TransactionIngestionServiceImpl(new TransactionValidationService(), new TransactionMapper(),
+                    categoryReferenceResolver, transactionBatchWriter, Optional.of(journal), 1024, 100, Duration.ofMillis(20));
+            journaled.start();
+            journaled.stop();
+            journal.deadLetters(record -> deadLetters.add(record.sequence()));
+            assertThat(journal.appliedSequence()).isEqualTo(3);
+        }
+
+        assertThat(deadLetters).containsExactly(2L);
+        assertThat(commits).containsExactly("one after checkpoint 0", "three after checkpoint 1");
+    }
+
+    @Test
+    public void givenOwnerBoundAtSubmit_whenCommitted_thenTheWriterPersistsUnderThatOwner() throws Exception {
+        final List<String> committedAs = new CopyOnWriteArrayList<>();
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenAnswer(invocation -> {
+            committedAs.add(OwnerContext.current());
+            return Map.of(1L, category);
+        });
+        when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+            committedAs.add(OwnerContext.current());
+            return invocation.getArgument(0);
+        });
+
+        final CompletableFuture<TransactionResponseDto> future = OwnerContext.callAs("alice",
+                () -> transactionIngestionService.submit(request(1L).build()));
+
+        future.get(5, TimeUnit.SECONDS);
+        assertThat(committedAs).containsExactly("alice", "alice");
+    }
+
+    @Test
+    public void givenJournaledRowsOfTwoOwners_whenReplayed_thenEachOwnerIsCommittedUnderItsOwnBinding(@TempDir final Path directory) {
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            journal.append("alice", request(1L).description("alice one").build());
+            journal.append("bob", request(1L).description("bob two").build());
+            journal.append("alice", request(1L).description("alice three").build());
+        }
+        when(categoryReferenceResolver.resolveAll(anyCollection())).thenReturn(Map.of(1L, category));
+        final List<String> commits = new ArrayList<>();
+        try (TransactionJournal journal = new TransactionJournal(directory, 1024L * TransactionJournal.RECORD_SIZE, false)) {
+            when(transactionBatchWriter.persistInBatches(anyList())).thenAnswer(invocation -> {
+                final List<Transaction> transactions = invocation.getArgument(0);
+                commits.add(OwnerContext.current() + ":" + transactions.size() + " after checkpoint " + journal.appliedSequence());
+                return transactions;
+            });
+            final TransactionIngestionServiceImpl journaled = new TransactionIngestionServiceImpl(new TransactionValidationService(), new TransactionMapper(),
+                    categoryReferenceResolver, transactionBatchWriter, Optional.of(journal), 1024, 100, Duration.ofMillis(20));
+            journaled.start();
+            journaled.stop();
+            assertThat(journal.appliedSequence()).isEqualTo(3);
+        }
+
+        assertThat(commits).containsExactly("alice:2 after checkpoint 0", "bob:1 after checkpoint 1");
+    }
+
+    private static TransactionRequestDto.TransactionRequestDtoBuilder request(final Long categoryId) {
+        return TransactionRequestDto.builder()
+                .categoryId(categoryId)
+                .amount(new BigDecimal("12.50"))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CASH)
+                .date(LocalDateTime.now().minusDays(1))
+                .description("Lunch");
+    }
+}
@@ -0,0 +1,137 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.event.TransactionsPersistedEvent;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
+import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
+import be.jensberckmoes.personal_finance_tracker.model.enums.SearchMode;
+import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionSearchIndex;
+import be.jensberckmoes.personal_finance_tracker.sharding.OwnerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionSearchIndexTest {
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+    private static final int ANY_DAY_FROM = Integer.MIN_VALUE;
+    private static final int ANY_DAY_TO = Integer.MAX_VALUE;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionSearchIndex transactionSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        transactionSearchIndex = new TransactionSearchIndex(transactionRepository);
+        when(transactionRepository.streamSearchRows()).thenReturn(Stream.of(
+                new Row(1L, "Delhaize Brussel", MARCH.atTime(9, 0), 7L),
+                new Row(2L, "Ad Delhaize Gent", MARCH.plusDays(10).atTime(9, 0), 7L),
+                new Row(3L, "Spotify premium", MARCH.plusMonths(1).atTime(9, 0), 8L),
+                new Row(4L, "Refund nondelhaizeish", MARCH.atTime(9, 0), null),
+                new Row(5L, null, MARCH.atTime(9, 0), 7L)));
+        transactionSearchIndex.load();
+    }
+
+    @Test
+    public void givenSubstringQuery_whenSearch_thenWholeWordMatchesRankAboveInnerMatchesAndNewerFirst() {
+        final List<Long> ids = transactionSearchIndex.search("DELHAIZE", SearchMode.SUBSTRING, ANY_DAY_FROM, ANY_DAY_TO,
+                TransactionSearchIndex.ANY_CATEGORY, 10);
+
+        assertThat(ids).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    public void givenPrefixQuery_whenSearch_thenOnlyWordStartsMatch() {
+        assertThat(transactionSearchIndex.search("delh", SearchMode.PREFIX, ANY_DAY_FROM, ANY_DAY_TO, TransactionSearchIndex.ANY_CATEGORY, 10))
+                .containsExactly(1L, 2L);
+        assertThat(transactionSearchIndex.search("sp", SearchMode.PREFIX, ANY_DAY_FROM, ANY_DAY_TO, TransactionSearchIndex.ANY_CATEGORY, 10))
+                .containsExactly(3L);
+        assertThat(transactionSearchIndex.search("remium", SearchMode.PREFIX, ANY_DAY_FROM, ANY_DAY_TO, TransactionSearchIndex.ANY_CATEGORY, 10))
+                .isEmpty();
+    }
+
+    @Test
+    public void givenCategoryAndPeriodFilters_whenSearch_thenOnlyMatchingRowsAreReturned() {
+        final int from = Math.toIntExact(MARCH.plusDays(1).toEpochDay());
+        final int to = Math.toIntExact(MARCH.plusDays(20).toEpochDay());
+
+        assertThat(transactionSearchIndex.search("delhaize", SearchMode.SUBSTRING, from, to, 7L, 10)).containsExactly(2L);
+        assertThat(transactionSearchIndex.search("delhaize", SearchMode.SUBSTRING, ANY_DAY_FROM, ANY_DAY_TO, 8L, 10)).isEmpty();
+    }
+
+    @Test
+    public void givenLimit_whenSearch_thenOnlyTheBestResultsAreReturned() {
+        assertThat(transactionSearchIndex.search("e", SearchMode.SUBSTRING, ANY_DAY_FROM, ANY_DAY_TO, TransactionSearchIndex.ANY_CATEGORY, 2))
+                .hasSize(2);
+    }
+
+    @Test
+    public void givenCommittedTransactions_whenPersistedEventArrives_thenTheDefaultOwnersAreSearchable() {
+        final Transaction transaction = Transaction.builder()
+                .id(10L)
+                .ownerId(OwnerContext.DEFAULT_OWNER)
+                .description("Colruyt Leuven")
+                .date(MARCH.atTime(12, 0))
+                .category(Category.builder().id(7L).build())
+                .build();
+        final Transaction otherOwners = Transaction.builder()
+                .id(11L)
+                .ownerId("alice")
+                .description("Colruyt Brussel")
+                .date(MARCH.atTime(12, 0))
+                .category(Category.builder().id(7L).build())
+                .build();
+
+        transactionSearchIndex.onTransactionsPersisted(new TransactionsPersistedEvent(List.of(transaction, otherOwners)));
+
+        assertThat(transactionSearchIndex.search("colr", SearchMode.PREFIX, ANY_DAY_FROM, ANY_DAY_TO, 7L, 10)).containsExactly(10L);
+        assertThat(transactionSearchIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    public void givenOwnerOutsideTheIndex_whenScan_thenItsRowsAreMatchedAndRankedLikeTheIndex() {
+        when(transactionRepository.streamSearchRows()).thenReturn(Stream.of(
+                new Row(1L, "Delhaize Brussel", MARCH.atTime(9, 0), 7L),
+                new Row(2L, "Ad Delhaize Gent", MARCH.plusDays(10).atTime(9, 0), 7L),
+                new Row(4L, "Refund nondelhaizeish", MARCH.atTime(9, 0), null)));
+
+        final List<Long> ids = OwnerContext.callAs("alice", () -> transactionSearchIndex.scan("DELHAIZE", SearchMode.SUBSTRING,
+                ANY_DAY_FROM, ANY_DAY_TO, TransactionSearchIndex.ANY_CATEGORY, 10));
+
+        assertThat(ids).containsExactly(1L, 2L, 4L);
+    }
+
+    private record Row(Long id, String description, LocalDateTime date, Long categoryId) implements TransactionRepository.SearchRowView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public LocalDateTime getDate() {
+            return date;
+        }
+
+        @Override
+        public Long getCategoryId() {
+            return categoryId;
+        }
+    }
+}
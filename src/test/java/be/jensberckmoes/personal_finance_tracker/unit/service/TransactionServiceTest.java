@@ -1,29 +1,44 @@
 package be.jensberckmoes.personal_finance_tracker.unit.service;
 
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionBatchResultDto;
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
 import be.jensberckmoes.personal_finance_tracker.dto.TransactionResponseDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageDto;
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionPageRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidInputException;
 import be.jensberckmoes.personal_finance_tracker.model.*;
 import be.jensberckmoes.personal_finance_tracker.model.entity.Category;
 import be.jensberckmoes.personal_finance_tracker.model.entity.Transaction;
 import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
 import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
-import be.jensberckmoes.personal_finance_tracker.repository.CategoryRepository;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionValidationError;
 import be.jensberckmoes.personal_finance_tracker.repository.TransactionRepository;
+import be.jensberckmoes.personal_finance_tracker.service.CategoryReferenceResolver;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionCategorizer;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import be.jensberckmoes.personal_finance_tracker.service.impl.MonthlyRollupWriter;
+import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionBatchWriter;
 import be.jensberckmoes.personal_finance_tracker.service.impl.TransactionServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,11 +48,29 @@ public class TransactionServiceTest {
     private TransactionRepository transactionRepository;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryReferenceResolver categoryReferenceResolver;
 
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private TransactionValidationService transactionValidationService;
+
+    @Mock
+    private TransactionBatchWriter transactionBatchWriter;
+
+    @Mock
+    private MonthlyRollupWriter monthlyRollupWriter;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private TransactionCategorizer transactionCategorizer;
+
+    @Spy
+    private TransactionCursorCodec transactionCursorCodec;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -53,7 +86,7 @@ public class TransactionServiceTest {
                 .build();
         transactionRequestDto = createTransactionCreateDto().build();
         transaction = createTransaction().build();
-        when(categoryRepository.findById(transactionRequestDto.getCategoryId())).thenReturn(Optional.of(category));
+        lenient().when(categoryReferenceResolver.resolve(transactionRequestDto.getCategoryId())).thenReturn(Optional.of(category));
     }
 
     @Test
@@ -72,6 +105,7 @@ public class TransactionServiceTest {
 
         assertThat(result).usingRecursiveAssertion().isEqualTo(expectedDto);
         verify(transactionRepository, times(1)).save(transaction);
+        verify(monthlyRollupWriter, times(1)).apply(List.of(savedTransaction));
     }
 
     @Test
@@ -87,6 +121,85 @@ public class TransactionServiceTest {
         verify(transactionRepository, times(1)).save(transaction);
     }
 
+    @Test
+    public void givenTransactionWithoutCategory_whenAddTransaction_thenCategoryIsTakenFromCategorizer() {
+        transactionRequestDto = createTransactionCreateDto().categoryId(null).description("Delhaize Brussel").build();
+        final Transaction savedTransaction = createTransaction().id(1L).build();
+        when(transactionCategorizer.categorize("default", "Delhaize Brussel")).thenReturn(Optional.of(category.getId()));
+        when(transactionMapper.toEntity(any(TransactionRequestDto.class))).thenReturn(Optional.of(transaction));
+        when(transactionRepository.save(transaction)).thenReturn(savedTransaction);
+        when(transactionMapper.toResponse(any(Transaction.class))).thenReturn(Optional.of(convertTransactionToDto(savedTransaction)));
+
+        transactionService.addTransaction(transactionRequestDto);
+
+        assertThat(transaction.getCategory()).isEqualTo(category);
+    }
+
+    @Test
+    public void givenValidAndInvalidTransactions_whenAddTransactions_thenOnlyValidOnesArePersistedAndEachRowIsReported() {
+        final TransactionRequestDto invalidDto = createTransactionCreateDto().amount(null).build();
+        final Transaction savedTransaction = createTransaction().id(1L).build();
+        final TransactionResponseDto expectedDto = convertTransactionToDto(savedTransaction);
+        when(categoryReferenceResolver.resolveAll(List.of(category.getId(), category.getId()))).thenReturn(Map.of(category.getId(), category));
+        doAnswer(invocation -> invocation.getArgument(1)).when(transactionValidationService).validate(eq(transactionRequestDto), any(TransactionValidationResult.class));
+        doAnswer(invocation -> {
+            final TransactionValidationResult result = invocation.getArgument(1);
+            result.reset();
+            result.add(TransactionValidationError.AMOUNT_NULL);
+            return result;
+        }).when(transactionValidationService).validate(eq(invalidDto), any(TransactionValidationResult.class));
+        when(transactionMapper.toEntity(transactionRequestDto)).thenReturn(Optional.of(transaction));
+        when(transactionBatchWriter.persistInBatches(List.of(transaction))).thenReturn(List.of(savedTransaction));
+        when(transactionMapper.toResponse(savedTransaction)).thenReturn(Optional.of(expectedDto));
+
+        final List<TransactionBatchResultDto> results = transactionService.addTransactions(List.of(transactionRequestDto, invalidDto));
+
+        assertThat(results.size()).isEqualTo(2);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).getTransaction()).isEqualTo(expectedDto);
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getIndex()).isEqualTo(1);
+        assertThat(results.get(1).getError()).isEqualTo("AMOUNT_NULL: Amount cannot be null.");
+        verify(transactionBatchWriter, times(1)).persistInBatches(List.of(transaction));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    public void givenUnknownCategory_whenAddTransactions_thenRowIsReportedAsFailed() {
+        when(categoryReferenceResolver.resolveAll(List.of(category.getId()))).thenReturn(Map.of());
+        when(transactionBatchWriter.persistInBatches(List.of())).thenReturn(List.of());
+
+        final List<TransactionBatchResultDto> results = transactionService.addTransactions(List.of(transactionRequestDto));
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getError()).isEqualTo("Category not found with id: 1");
+        verify(transactionMapper, never()).toEntity(any(TransactionRequestDto.class));
+    }
+
+    @Test
+    public void givenMoreRowsThanPageSize_whenListTransactions_thenNextCursorPointsAfterLastItem() {
+        final TransactionResponseDto newest = convertTransactionToDto(createTransaction().id(2L).build());
+        final TransactionResponseDto older = convertTransactionToDto(createTransaction().id(1L).build());
+        final TransactionResponseDto oldest = convertTransactionToDto(createTransaction().id(0L).build());
+        when(transactionRepository.findLatestResponses(null, null, null, Limit.of(3))).thenReturn(List.of(newest, older, oldest));
+
+        final TransactionPageDto page = transactionService.listTransactions(TransactionPageRequestDto.builder().size(2).build());
+
+        assertThat(page.getItems().size()).isEqualTo(2);
+        verifyNoInteractions(transactionMapper);
+        final TransactionCursorCodec.Position position = transactionCursorCodec.decode(page.getNextCursor());
+        assertThat(position.id()).isEqualTo(1L);
+        assertThat(position.date()).isEqualTo(older.getDate());
+    }
+
+    @Test
+    public void givenGarbageCursor_whenListTransactions_thenThrowsInvalidInputException() {
+        final TransactionPageRequestDto request = TransactionPageRequestDto.builder().size(10).cursor("not a cursor").build();
+
+        assertThrows(InvalidInputException.class, () -> transactionService.listTransactions(request));
+        verifyNoInteractions(transactionRepository);
+    }
+
     private Transaction.TransactionBuilder createTransaction() {
         return Transaction.builder()
                 .category(category)
@@ -0,0 +1,92 @@
+package be.jensberckmoes.personal_finance_tracker.unit.service;
+
+import be.jensberckmoes.personal_finance_tracker.dto.TransactionRequestDto;
+import be.jensberckmoes.personal_finance_tracker.exception.InvalidTransactionAmountException;
+import be.jensberckmoes.personal_finance_tracker.exception.NullTransactionAmountException;
+import be.jensberckmoes.personal_finance_tracker.model.TransactionValidationResult;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionMethod;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionType;
+import be.jensberckmoes.personal_finance_tracker.model.enums.TransactionValidationError;
+import be.jensberckmoes.personal_finance_tracker.service.TransactionValidationService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TransactionValidationServiceTest {
+
+    private final TransactionValidationService transactionValidationService = new TransactionValidationService();
+
+    @Test
+    public void givenValidDto_whenValidate_thenResultHasNoErrors() {
+        final TransactionValidationResult result = transactionValidationService.validate(validDto().build(), new TransactionValidationResult());
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.describe()).isEmpty();
+    }
+
+    @Test
+    public void givenDtoWithSeveralProblems_whenValidate_thenAllViolationsAreCollectedInCheckOrder() {
+        final TransactionRequestDto dto = validDto()
+                .amount(new BigDecimal("-1.5"))
+                .type(null)
+                .date(LocalDateTime.now().plusDays(1))
+                .build();
+
+        final TransactionValidationResult result = transactionValidationService.validate(dto, new TransactionValidationResult());
+
+        assertThat(result.getErrors()).containsExactly(
+                TransactionValidationError.AMOUNT_SCALE_INVALID,
+                TransactionValidationError.AMOUNT_NEGATIVE,
+                TransactionValidationError.TYPE_NULL,
+                TransactionValidationError.DATE_IN_FUTURE);
+    }
+
+    @Test
+    public void givenReusedResult_whenValidatingValidDtoAfterInvalidOne_thenPreviousErrorsAreCleared() {
+        final TransactionValidationResult result = new TransactionValidationResult();
+        transactionValidationService.validate(validDto().amount(null).build(), result);
+
+        transactionValidationService.validate(validDto().build(), result);
+
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    public void givenNullDto_whenValidate_thenOnlyRequestNullIsReported() {
+        final TransactionValidationResult result = transactionValidationService.validate(null, new TransactionValidationResult());
+
+        assertThat(result.getErrors()).containsExactly(TransactionValidationError.REQUEST_NULL);
+    }
+
+    @Test
+    public void givenMissingAmount_whenValidateTransactionCreateDto_thenThrowsNullTransactionAmountException() {
+        final TransactionRequestDto dto = validDto().amount(null).type(null).build();
+
+        assertThrows(NullTransactionAmountException.class, () -> transactionValidationService.validateTransactionCreateDto(dto));
+    }
+
+    @Test
+    public void givenWrongScale_whenValidateTransactionCreateDto_thenThrowsWithoutStackTrace() {
+        final TransactionRequestDto dto = validDto().amount(new BigDecimal("1.5")).build();
+
+        final InvalidTransactionAmountException exception = assertThrows(InvalidTransactionAmountException.class,
+                () -> transactionValidationService.validateTransactionCreateDto(dto));
+
+        assertThat(exception.getMessage()).isEqualTo("Amount scale must be 2.");
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    private static TransactionRequestDto.TransactionRequestDtoBuilder validDto() {
+        return TransactionRequestDto.builder()
+                .categoryId(1L)
+                .amount(new BigDecimal("12.50"))
+                .type(TransactionType.EXPENSE)
+                .method(TransactionMethod.CASH)
+                .date(LocalDateTime.now().minusDays(1))
+                .description("Lunch");
+    }
+}
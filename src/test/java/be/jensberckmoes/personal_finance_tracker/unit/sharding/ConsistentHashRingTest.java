@@ -0,0 +1,56 @@
+package be.jensberckmoes.personal_finance_tracker.unit.sharding;
+
+import be.jensberckmoes.personal_finance_tracker.sharding.ConsistentHashRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConsistentHashRingTest {
+    private static final int OWNERS = 20_000;
+
+    @Test
+    public void givenSameNodes_whenLocatingTwice_thenOwnersLandOnTheSameNode() {
+        final ConsistentHashRing first = new ConsistentHashRing(List.of("a", "b", "c"), 160);
+        final ConsistentHashRing second = new ConsistentHashRing(List.of("c", "a", "b"), 160);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(second.locate("owner-" + i)).isEqualTo(first.locate("owner-" + i));
+        }
+    }
+
+    @Test
+    public void givenVirtualNodes_whenLocatingManyOwners_thenLoadIsSpreadEvenly() {
+        final ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c", "d"), 160);
+        final Map<String, Integer> load = new HashMap<>();
+        for (int i = 0; i < OWNERS; i++) {
+            load.merge(ring.locate("owner-" + i), 1, Integer::sum);
+        }
+        assertThat(load).hasSize(4);
+        assertThat(load.values()).allSatisfy(count -> assertThat(count).isBetween(OWNERS / 4 * 8 / 10, OWNERS / 4 * 12 / 10));
+    }
+
+    @Test
+    public void givenAddedNode_whenLocating_thenOnlyOwnersMovingToTheNewNodeChange() {
+        final ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 160);
+        final ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 160);
+        int moved = 0;
+        for (int i = 0; i < OWNERS; i++) {
+            final String previous = before.locate("owner-" + i);
+            final String current = after.locate("owner-" + i);
+            if (!previous.equals(current)) {
+                assertThat(current).isEqualTo("d");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(OWNERS / 4 * 7 / 10, OWNERS / 4 * 13 / 10);
+    }
+
+    @Test
+    public void givenNoNodes_whenCreatingRing_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 160)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package be.jensberckmoes.personal_finance_tracker.unit.sharding;
+
+import be.jensberckmoes.personal_finance_tracker.exception.ShardUnavailableException;
+import be.jensberckmoes.personal_finance_tracker.sharding.ConsistentHashRing;
+import be.jensberckmoes.personal_finance_tracker.sharding.ShardDirectory;
+import be.jensberckmoes.personal_finance_tracker.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardRouterTest {
+    @Mock
+    private ShardDirectory shardDirectory;
+
+    private ConsistentHashRing ring;
+
+    @BeforeEach
+    void setUp() {
+        ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 160);
+    }
+
+    @Test
+    public void givenNoPlacement_whenRouting_thenRingDecides() {
+        when(shardDirectory.loadPlacements()).thenReturn(Map.of());
+        final ShardRouter router = new ShardRouter(ring, shardDirectory);
+
+        assertThat(router.shardFor("alice")).isEqualTo(ring.locate("alice"));
+    }
+
+    @Test
+    public void givenStoredPlacement_whenRouting_thenPlacementWins() {
+        final String other = otherShardThan(ring.locate("alice"));
+        when(shardDirectory.loadPlacements()).thenReturn(Map.of("alice", other));
+        final ShardRouter router = new ShardRouter(ring, shardDirectory);
+
+        assertThat(router.shardFor("alice")).isEqualTo(other);
+    }
+
+    @Test
+    public void givenPlacementOnUnknownShard_whenRouting_thenPlacementIsIgnored() {
+        when(shardDirectory.loadPlacements()).thenReturn(Map.of("alice", "retired-shard"));
+        final ShardRouter router = new ShardRouter(ring, shardDirectory);
+
+        assertThat(router.shardFor("alice")).isEqualTo(ring.locate("alice"));
+    }
+
+    @Test
+    public void givenOwnerBeingRelocated_whenRouting_thenThrowsShardUnavailableException() {
+        when(shardDirectory.loadPlacements()).thenReturn(Map.of());
+        final ShardRouter router = new ShardRouter(ring, shardDirectory);
+        router.beginRelocation("alice");
+
+        assertThatThrownBy(() -> router.shardFor("alice")).isInstanceOf(ShardUnavailableException.class);
+        assertThat(router.homeShardOf("alice")).isEqualTo(ring.locate("alice"));
+
+        router.endRelocation("alice");
+        assertThat(router.shardFor("alice")).isEqualTo(ring.locate("alice"));
+    }
+
+    @Test
+    public void givenAssignmentBackToRingShard_whenAssigning_thenPlacementIsRemoved() {
+        when(shardDirectory.loadPlacements()).thenReturn(Map.of());
+        final ShardRouter router = new ShardRouter(ring, shardDirectory);
+        final String home = ring.locate("alice");
+        final String other = otherShardThan(home);
+
+        router.assign("alice", other);
+        verify(shardDirectory).save("alice", other);
+        assertThat(router.shardFor("alice")).isEqualTo(other);
+
+        router.assign("alice", home);
+        verify(shardDirectory).remove("alice");
+        assertThat(router.shardFor("alice")).isEqualTo(home);
+    }
+
+    private String otherShardThan(final String shard) {
+        return ring.nodes().stream().filter(name -> !name.equals(shard)).findFirst().orElseThrow();
+    }
+}